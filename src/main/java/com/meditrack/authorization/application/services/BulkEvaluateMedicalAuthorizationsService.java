@@ -0,0 +1,281 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.exceptions.BusinessRuleException;
+import com.meditrack.authorization.domain.exceptions.ResourceNotFoundException;
+import com.meditrack.authorization.domain.models.CoverageEvaluation;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.ports.in.command.BulkEvaluateMedicalAuthorizationsCommand;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+import com.meditrack.authorization.domain.ports.in.useCase.BulkEvaluateMedicalAuthorizationsUseCase;
+import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio: Evaluar Autorizaciones en Lote
+ *
+ * 1. Lectura en bloque: autorizaciones, pacientes y evaluaciones previas con consultas IN
+ * 2. Llamadas al seguro en paralelo, acotadas por un semáforo
+ * 3. Escritura por bloques: INSERT y UPDATE agrupados en lotes JDBC (hibernate.jdbc.batch_size)
+ *
+ * Cada elemento tiene su propio resultado: un fallo no aborta el resto del lote.
+ */
+@Service
+public class BulkEvaluateMedicalAuthorizationsService implements BulkEvaluateMedicalAuthorizationsUseCase {
+
+    private static final String CONCURRENT_CHANGE_MESSAGE =
+            "La autorización fue evaluada o modificada por otra operación";
+
+    private final MedicalAuthorizationRepositoryPort authorizationRepository;
+    private final CoverageEvaluationRepositoryPort evaluationRepository;
+    private final PatientRepositoryPort patientRepository;
+    private final InsuranceValidationServicePort insuranceService;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int maxItems;
+    private final int maxConcurrency;
+    private final int writeChunkSize;
+
+    public BulkEvaluateMedicalAuthorizationsService(
+            MedicalAuthorizationRepositoryPort authorizationRepository,
+            CoverageEvaluationRepositoryPort evaluationRepository,
+            PatientRepositoryPort patientRepository,
+            InsuranceValidationServicePort insuranceService,
+            PlatformTransactionManager transactionManager,
+            @Value("${evaluation.bulk.max-items:1000}") int maxItems,
+            @Value("${evaluation.bulk.max-concurrency:8}") int maxConcurrency,
+            @Value("${evaluation.bulk.write-chunk-size:100}") int writeChunkSize) {
+        this.authorizationRepository = authorizationRepository;
+        this.evaluationRepository = evaluationRepository;
+        this.patientRepository = patientRepository;
+        this.insuranceService = insuranceService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.maxItems = maxItems;
+        this.maxConcurrency = maxConcurrency;
+        this.writeChunkSize = writeChunkSize;
+    }
+
+    @Override
+    public List<ItemResult> execute(BulkEvaluateMedicalAuthorizationsCommand command) {
+
+        List<EvaluateMedicalAuthorizationCommand> items = command.getItems();
+        if (items.size() > maxItems) {
+            throw new BusinessRuleException(
+                    "El lote supera el máximo de " + maxItems + " autorizaciones"
+            );
+        }
+
+        Map<UUID, ItemResult> results = new ConcurrentHashMap<>();
+
+        // 1. Lectura en bloque (transacción de solo lectura)
+        List<Candidate> candidates = readTransaction.execute(status -> loadCandidates(items, results));
+
+        // 2. Llamadas al seguro (sin transacción abierta)
+        System.out.println("Evaluación en lote: " + candidates.size() + " de " + items.size() +
+                " autorizaciones enviadas al servicio de seguros");
+        List<Candidate> validated = validateAll(candidates, results);
+
+        // 3. Escritura por bloques (una transacción corta por bloque)
+        for (int from = 0; from < validated.size(); from += writeChunkSize) {
+            List<Candidate> chunk = validated.subList(from, Math.min(from + writeChunkSize, validated.size()));
+            try {
+                // Los resultados del bloque solo se publican si la transacción confirma
+                results.putAll(writeTransaction.execute(status -> saveChunk(chunk)));
+            } catch (RuntimeException e) {
+                System.err.println("Error al guardar un bloque de evaluaciones: " + e.getMessage());
+                chunk.forEach(candidate -> results.put(candidate.authorization.getId(), ItemResult.failure(
+                        candidate.authorization.getId(), "Error al guardar la evaluación: " + e.getMessage()
+                )));
+            }
+        }
+
+        // 4. Resultados en el mismo orden del lote
+        return items.stream()
+                .map(item -> results.get(item.getAuthorizationId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Carga en bloque lo necesario y descarta los elementos que no se pueden evaluar
+     */
+    private List<Candidate> loadCandidates(List<EvaluateMedicalAuthorizationCommand> items,
+                                           Map<UUID, ItemResult> results) {
+
+        List<UUID> authorizationIds = items.stream()
+                .map(EvaluateMedicalAuthorizationCommand::getAuthorizationId)
+                .collect(Collectors.toList());
+
+        Map<UUID, MedicalAuthorization> authorizations = authorizationRepository
+                .findAllByIdsAndNotDeleted(authorizationIds).stream()
+                .collect(Collectors.toMap(MedicalAuthorization::getId, Function.identity()));
+
+        Set<UUID> evaluated = evaluationRepository.findEvaluatedAuthorizationIds(authorizationIds);
+
+        Map<UUID, Patient> patients = patientRepository
+                .findAllByIdsAndNotDeleted(authorizations.values().stream()
+                        .map(MedicalAuthorization::getPatientId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Patient::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Candidate> candidates = new ArrayList<>();
+        for (EvaluateMedicalAuthorizationCommand item : items) {
+            UUID authorizationId = item.getAuthorizationId();
+            MedicalAuthorization authorization = authorizations.get(authorizationId);
+
+            if (authorization == null) {
+                results.put(authorizationId, ItemResult.failure(authorizationId,
+                        new ResourceNotFoundException("Autorización", authorizationId).getMessage()));
+            } else if (evaluated.contains(authorizationId) || authorization.isFinalState()) {
+                results.put(authorizationId, ItemResult.failure(authorizationId,
+                        "Esta autorización ya ha sido evaluada"));
+            } else if (authorization.isLeasedToOther(item.getReviewerId(), now)) {
+                results.put(authorizationId, ItemResult.failure(authorizationId,
+                        "La autorización está reservada para revisión por otro usuario"));
+            } else if (!patients.containsKey(authorization.getPatientId())) {
+                results.put(authorizationId, ItemResult.failure(authorizationId,
+                        new ResourceNotFoundException("Paciente", authorization.getPatientId()).getMessage()));
+            } else {
+                candidates.add(new Candidate(authorization, patients.get(authorization.getPatientId()), item));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Lanza las llamadas al seguro con como mucho {@code maxConcurrency} en vuelo
+     *
+     * @return Candidatos con respuesta del seguro; los fallidos quedan registrados en results
+     */
+    private List<Candidate> validateAll(List<Candidate> candidates, Map<UUID, ItemResult> results) {
+
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        List<CompletableFuture<Void>> calls = new ArrayList<>(candidates.size());
+
+        for (Candidate candidate : candidates) {
+            inFlight.acquireUninterruptibly();
+
+            CompletableFuture<InsuranceValidationServicePort.InsuranceValidationResult> call;
+            try {
+                call = insuranceService.validateCoverageAsync(
+                        candidate.patient.getDocumentNumber(),
+                        candidate.patient.getAffiliationType(),
+                        candidate.authorization.getServiceType(),
+                        candidate.item.getEstimatedCost()
+                );
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+
+            calls.add(call.handle((validationResult, ex) -> {
+                inFlight.release();
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    results.put(candidate.authorization.getId(),
+                            ItemResult.failure(candidate.authorization.getId(), cause.getMessage()));
+                } else {
+                    candidate.validationResult = validationResult;
+                }
+                return null;
+            }));
+        }
+
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+
+        return candidates.stream()
+                .filter(candidate -> candidate.validationResult != null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Guarda un bloque: bloquea las autorizaciones aún evaluables, cambia su estado
+     * e inserta las evaluaciones; Hibernate agrupa las sentencias en lotes al hacer flush
+     */
+    private Map<UUID, ItemResult> saveChunk(List<Candidate> chunk) {
+
+        List<UUID> ids = chunk.stream()
+                .map(candidate -> candidate.authorization.getId())
+                .collect(Collectors.toList());
+
+        // Bloqueo de filas: una evaluación individual concurrente espera o detecta el cambio
+        Map<UUID, MedicalAuthorization> evaluable = authorizationRepository.findEvaluableByIdsForUpdate(ids).stream()
+                .collect(Collectors.toMap(MedicalAuthorization::getId, Function.identity()));
+        Set<UUID> evaluated = evaluationRepository.findEvaluatedAuthorizationIds(ids);
+
+        List<MedicalAuthorization> toUpdate = new ArrayList<>();
+        List<CoverageEvaluation> toInsert = new ArrayList<>();
+        Map<UUID, ItemResult> chunkResults = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Candidate candidate : chunk) {
+            UUID authorizationId = candidate.authorization.getId();
+            MedicalAuthorization authorization = evaluable.get(authorizationId);
+
+            // Bajo el bloqueo se repite la comprobación de la lectura: durante las llamadas al
+            // seguro otro revisor pudo tomarla para revisión (o cambiar su estado)
+            if (authorization == null || evaluated.contains(authorizationId)
+                    || authorization.getStatus() != candidate.authorization.getStatus()
+                    || authorization.isLeasedToOther(candidate.item.getReviewerId(), now)) {
+                chunkResults.put(authorizationId, ItemResult.failure(authorizationId, CONCURRENT_CHANGE_MESSAGE));
+                continue;
+            }
+
+            if (candidate.validationResult.isApproved()) {
+                authorization.approve();
+            } else {
+                authorization.reject();
+            }
+
+            CoverageEvaluation evaluation = EvaluateMedicalAuthorizationService.toCoverageEvaluation(
+                    authorizationId, candidate.validationResult
+            );
+            toUpdate.add(authorization);
+            toInsert.add(evaluation);
+            chunkResults.put(authorizationId, ItemResult.success(evaluation));
+        }
+
+        evaluationRepository.insertAll(toInsert);
+        authorizationRepository.updateStatuses(toUpdate);
+
+        return chunkResults;
+    }
+
+    /**
+     * Elemento del lote que pasó la validación previa
+     */
+    private static final class Candidate {
+        private final MedicalAuthorization authorization;
+        private final Patient patient;
+        private final EvaluateMedicalAuthorizationCommand item;
+        private volatile InsuranceValidationServicePort.InsuranceValidationResult validationResult;
+
+        private Candidate(MedicalAuthorization authorization, Patient patient,
+                          EvaluateMedicalAuthorizationCommand item) {
+            this.authorization = authorization;
+            this.patient = patient;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.exceptions.UnauthorizedAccessException;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.command.ClaimPendingAuthorizationsCommand;
+import com.meditrack.authorization.domain.ports.in.useCase.ClaimPendingAuthorizationsUseCase;
+import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio: Tomar Autorizaciones Pendientes para Revisión
+ *
+ * Cada toma es una transacción corta: SELECT ... FOR UPDATE SKIP LOCKED de las pendientes
+ * más antiguas y UPDATE a EN_REVISION con reserva. Revisores y nodos concurrentes se saltan
+ * las filas que otro está tomando en vez de esperarlas, así no hay colas de bloqueos ni
+ * trabajo duplicado. Si el revisor no resuelve a tiempo, el barrido devuelve la autorización
+ * a PENDIENTE.
+ */
+@Service
+public class ClaimPendingAuthorizationsService implements ClaimPendingAuthorizationsUseCase {
+
+    private final MedicalAuthorizationRepositoryPort authorizationRepository;
+    private final CurrentUserPort currentUserPort;
+    private final Duration leaseDuration;
+    private final int defaultClaimSize;
+    private final int maxClaimSize;
+
+    public ClaimPendingAuthorizationsService(
+            MedicalAuthorizationRepositoryPort authorizationRepository,
+            CurrentUserPort currentUserPort,
+            @Value("${authorizations.review.lease-duration:900000}") long leaseDurationMillis,
+            @Value("${authorizations.review.claim-size.default:5}") int defaultClaimSize,
+            @Value("${authorizations.review.claim-size.max:20}") int maxClaimSize) {
+        this.authorizationRepository = authorizationRepository;
+        this.currentUserPort = currentUserPort;
+        this.leaseDuration = Duration.ofMillis(leaseDurationMillis);
+        this.defaultClaimSize = defaultClaimSize;
+        this.maxClaimSize = maxClaimSize;
+    }
+
+    @Override
+    @Transactional
+    public List<MedicalAuthorization> execute(ClaimPendingAuthorizationsCommand command) {
+
+        // 1. Verificar permisos (solo admin y médico revisan autorizaciones)
+        AuthenticatedUser user = currentUserPort.getCurrentUser();
+        if (!user.isAdmin() && !user.isDoctor()) {
+            throw new UnauthorizedAccessException(
+                    "Solo médicos y administradores pueden tomar autorizaciones para revisión"
+            );
+        }
+
+        // 2. Acotar la cantidad en el servidor
+        int limit = Math.min(command.getLimit() != null ? command.getLimit() : defaultClaimSize, maxClaimSize);
+
+        // 3. Tomar y reservar a nombre del usuario actual
+        List<MedicalAuthorization> claimed = authorizationRepository.claimPendingForReview(
+                user.getUserId().toString(),
+                LocalDateTime.now().plus(leaseDuration),
+                limit
+        );
+
+        // 4. Log
+        if (!claimed.isEmpty()) {
+            System.out.println("Autorizaciones tomadas para revisión por " + user.getUserId() + ": " + claimed.size());
+        }
+
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredLeases() {
+        return authorizationRepository.releaseExpiredLeases(LocalDateTime.now());
+    }
+}
@@ -5,6 +5,7 @@ import com.meditrack.authorization.domain.ports.in.useCase.DeactivatePatientUseC
 import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
 import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
 import com.meditrack.authorization.domain.ports.out.UserRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.UserSessionRevocationPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,31 +21,29 @@ public class DeactivatePatientService implements DeactivatePatientUseCase {
     private final PatientRepositoryPort patientRepository;
     private final UserRepositoryPort userRepository;
     private final CurrentUserPort currentUserPort;
+    private final UserSessionRevocationPort sessionRevocation;
 
     public DeactivatePatientService(
             PatientRepositoryPort patientRepository,
             UserRepositoryPort userRepository,
-            CurrentUserPort currentUserPort) {
+            CurrentUserPort currentUserPort,
+            UserSessionRevocationPort sessionRevocation) {
         this.patientRepository = patientRepository;
         this.userRepository = userRepository;
         this.currentUserPort = currentUserPort;
+        this.sessionRevocation = sessionRevocation;
     }
 
     @Override
     @Transactional
     public void execute(UUID patientId) {
 
-        // 1. Obtener el usuario actual
-        UUID currentUserId = currentUserPort.getCurrentUserId();
-
-        // 2. Verificar que el usuario sea admin (solo admins pueden desactivar)
-        userRepository.findById(currentUserId).ifPresent(user -> {
-            if (!user.isAdmin()) {
-                throw new IllegalStateException(
-                        "Solo los administradores pueden desactivar pacientes"
-                );
-            }
-        });
+        // 1-2. Verificar que el usuario actual sea admin (solo admins pueden desactivar)
+        if (!currentUserPort.getCurrentUser().isAdmin()) {
+            throw new IllegalStateException(
+                    "Solo los administradores pueden desactivar pacientes"
+            );
+        }
 
         // 3. Buscar el paciente
         Patient patient = patientRepository.findByIdAndNotDeleted(patientId)
@@ -58,10 +57,11 @@ public class DeactivatePatientService implements DeactivatePatientUseCase {
         // 5. Guardar cambios
         patientRepository.save(patient);
 
-        // 6. Desactivar el usuario asociado
+        // 6. Desactivar el usuario asociado e invalidar sus tokens ya emitidos
         userRepository.findByPatientId(patientId).ifPresent(user -> {
             user.deactivate();
             userRepository.save(user);
+            sessionRevocation.revokeSessions(user.getId());
         });
 
         // 7. Log de la desactivación
@@ -1,6 +1,9 @@
 package com.meditrack.authorization.application.services;
 
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
 import com.meditrack.authorization.domain.exceptions.BusinessRuleException;
+import com.meditrack.authorization.domain.exceptions.ConcurrentUpdateException;
+import com.meditrack.authorization.domain.exceptions.DuplicateResourceException;
 import com.meditrack.authorization.domain.exceptions.ResourceNotFoundException;
 import com.meditrack.authorization.domain.models.CoverageEvaluation;
 import com.meditrack.authorization.domain.models.MedicalAuthorization;
@@ -11,12 +14,23 @@ import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepository
 import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
 import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
 import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Servicio: Evaluar Autorización Médica
  * Este servicio integra con el servicio externo de seguros
+ *
+ * La evaluación se divide en tres fases para no retener una conexión JDBC
+ * mientras responde el seguro: lectura corta, llamada remota sin transacción
+ * y escritura corta con control optimista del estado.
  */
 @Service
 public class EvaluateMedicalAuthorizationService implements EvaluateMedicalAuthorizationUseCase {
@@ -25,22 +39,79 @@ public class EvaluateMedicalAuthorizationService implements EvaluateMedicalAutho
     private final CoverageEvaluationRepositoryPort evaluationRepository;
     private final PatientRepositoryPort patientRepository;
     private final InsuranceValidationServicePort insuranceService;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Executor writeExecutor;
 
     public EvaluateMedicalAuthorizationService(
             MedicalAuthorizationRepositoryPort authorizationRepository,
             CoverageEvaluationRepositoryPort evaluationRepository,
             PatientRepositoryPort patientRepository,
-            InsuranceValidationServicePort insuranceService) {
+            InsuranceValidationServicePort insuranceService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("applicationTaskExecutor") Executor writeExecutor) {
         this.authorizationRepository = authorizationRepository;
         this.evaluationRepository = evaluationRepository;
         this.patientRepository = patientRepository;
         this.insuranceService = insuranceService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeExecutor = writeExecutor;
     }
 
     @Override
-    @Transactional
     public CoverageEvaluation execute(EvaluateMedicalAuthorizationCommand command) {
 
+        // 1-3. Buscar la autorización y el paciente (transacción de solo lectura)
+        EvaluationContext context = readTransaction.execute(status -> loadForEvaluation(command));
+
+        // 4. Llamar al servicio externo de seguros (sin transacción abierta)
+        System.out.println("Evaluando cobertura con servicio externo...");
+        InsuranceValidationServicePort.InsuranceValidationResult validationResult =
+                insuranceService.validateCoverage(
+                        context.patient.getDocumentNumber(),
+                        context.patient.getAffiliationType(),
+                        context.authorization.getServiceType(),
+                        command.getEstimatedCost()
+                );
+
+        // 5-8. Guardar la evaluación y actualizar el estado (transacción de escritura)
+        return writeTransaction.execute(
+                status -> saveEvaluation(context.authorization, validationResult)
+        );
+    }
+
+    @Override
+    public CompletableFuture<CoverageEvaluation> executeAsync(EvaluateMedicalAuthorizationCommand command) {
+
+        // 1. Lectura corta (transacción de solo lectura, se libera antes de llamar al seguro)
+        EvaluationContext context;
+        try {
+            context = readTransaction.execute(status -> loadForEvaluation(command));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // 2. Llamada asíncrona al servicio de seguros (ningún hilo queda bloqueado esperando)
+        System.out.println("Evaluando cobertura con servicio externo (asíncrono)...");
+        return insuranceService.validateCoverageAsync(
+                        context.patient.getDocumentNumber(),
+                        context.patient.getAffiliationType(),
+                        context.authorization.getServiceType(),
+                        command.getEstimatedCost()
+                )
+                // 3. Escritura corta en un hilo de la aplicación, no en el del cliente HTTP
+                .thenApplyAsync(validationResult -> writeTransaction.execute(
+                        status -> saveEvaluation(context.authorization, validationResult)
+                ), writeExecutor);
+    }
+
+    /**
+     * Carga la autorización y el paciente, validando que se pueda evaluar
+     */
+    private EvaluationContext loadForEvaluation(EvaluateMedicalAuthorizationCommand command) {
+
         // 1. Buscar la autorización
         MedicalAuthorization authorization = authorizationRepository.findByIdAndNotDeleted(
                 command.getAuthorizationId()
@@ -48,30 +119,85 @@ public class EvaluateMedicalAuthorizationService implements EvaluateMedicalAutho
                 "Autorización", command.getAuthorizationId()
         ));
 
-        // 2. Verificar que no haya sido evaluada
-        if (evaluationRepository.existsByAuthorizationId(authorization.getId())) {
+        // 2. Descartar sin llamar al seguro las que ya llegaron a un estado final (dato ya leído).
+        //    La garantía de una sola evaluación la da la restricción UNIQUE al insertar
+        if (authorization.isFinalState()) {
             throw new BusinessRuleException(
                     "Esta autorización ya ha sido evaluada"
             );
         }
 
+        //    Si otro revisor la tiene reservada, no se duplica su trabajo (409)
+        authorization.ensureNotLeasedToOther(command.getReviewerId(), LocalDateTime.now());
+
         // 3. Obtener el paciente
         Patient patient = patientRepository.findByIdAndNotDeleted(authorization.getPatientId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Paciente", authorization.getPatientId()
                 ));
 
-        // 4. Llamar al servicio externo de seguros
-        System.out.println("Evaluando cobertura con servicio externo...");
-        InsuranceValidationServicePort.InsuranceValidationResult validationResult =
-                insuranceService.validateCoverage(
-                        patient.getDocumentNumber(),
-                        patient.getAffiliationType(),
-                        authorization.getServiceType(),
-                        command.getEstimatedCost()
-                );
+        return new EvaluationContext(authorization, patient);
+    }
+
+    /**
+     * Guarda la evaluación de cobertura y actualiza el estado de la autorización
+     *
+     * El INSERT va primero: ante evaluaciones concurrentes de la misma autorización, la
+     * restricción UNIQUE de authorization_id deja pasar solo una. El estado solo cambia si
+     * sigue siendo el leído en la fase de lectura; si no, se revierte también el INSERT.
+     */
+    private CoverageEvaluation saveEvaluation(
+            MedicalAuthorization authorization,
+            InsuranceValidationServicePort.InsuranceValidationResult validationResult) {
+
+        // 5. Decidir el nuevo estado según el resultado (el dominio valida la transición)
+        AuthorizationStatus statusRead = authorization.getStatus();
+        if (validationResult.isApproved()) {
+            authorization.approve();
+        } else {
+            authorization.reject();
+        }
+
+        // 6. Crear la evaluación de cobertura (dominio)
+        CoverageEvaluation evaluation = toCoverageEvaluation(authorization.getId(), validationResult);
+
+        // 7. Insertar la evaluación (una por autorización)
+        CoverageEvaluation savedEvaluation;
+        try {
+            savedEvaluation = evaluationRepository.insert(evaluation);
+        } catch (DuplicateResourceException e) {
+            throw new BusinessRuleException(
+                    "Esta autorización ya ha sido evaluada"
+            );
+        }
+
+        // 8. Actualizar el estado de la autorización (compare-and-set)
+        boolean updated = authorizationRepository.updateStatusIfUnchanged(
+                authorization.getId(), statusRead, authorization.getStatus()
+        );
+        if (!updated) {
+            throw new ConcurrentUpdateException(
+                    "La autorización fue evaluada o modificada por otra operación: " + authorization.getId()
+            );
+        }
+
+        // 9. Log
+        System.out.println("Evaluación completada: " + savedEvaluation.getId() +
+                " - Aprobada: " + validationResult.isApproved() +
+                " - Cobertura: " + validationResult.getCoveragePercentage() + "%" +
+                " - Código: " + validationResult.getAuthorizationCode());
+
+        return savedEvaluation;
+    }
+
+    /**
+     * Construye la evaluación de dominio a partir de la respuesta del seguro
+     * (compartido con la evaluación en lote)
+     */
+    static CoverageEvaluation toCoverageEvaluation(
+            UUID authorizationId,
+            InsuranceValidationServicePort.InsuranceValidationResult validationResult) {
 
-        // 5. Crear la evaluación de cobertura (dominio)
         String insuranceResponse = String.format(
                 "{\"approved\":%b,\"coveragePercentage\":%d,\"coveredAmount\":%s,\"copayAmount\":%s,\"authorizationCode\":\"%s\",\"message\":\"%s\"}",
                 validationResult.isApproved(),
@@ -82,31 +208,25 @@ public class EvaluateMedicalAuthorizationService implements EvaluateMedicalAutho
                 validationResult.getMessage().replace("\"", "'")
         );
 
-        CoverageEvaluation evaluation = new CoverageEvaluation(
-                authorization.getId(),
+        return new CoverageEvaluation(
+                authorizationId,
                 validationResult.getCoveragePercentage(),
                 validationResult.getCopayAmount(),
                 validationResult.isApproved(),
                 insuranceResponse
         );
+    }
 
-        // 6. Guardar la evaluación
-        CoverageEvaluation savedEvaluation = evaluationRepository.save(evaluation);
+    /**
+     * Datos leídos en la fase de lectura y necesarios para la evaluación
+     */
+    private static final class EvaluationContext {
+        private final MedicalAuthorization authorization;
+        private final Patient patient;
 
-        // 7. Actualizar el estado de la autorización según el resultado
-        if (validationResult.isApproved()) {
-            authorization.approve();
-        } else {
-            authorization.reject();
+        private EvaluationContext(MedicalAuthorization authorization, Patient patient) {
+            this.authorization = authorization;
+            this.patient = patient;
         }
-        authorizationRepository.save(authorization);
-
-        // 8. Log
-        System.out.println("Evaluación completada: " + savedEvaluation.getId() +
-                " - Aprobada: " + validationResult.isApproved() +
-                " - Cobertura: " + validationResult.getCoveragePercentage() + "%" +
-                " - Código: " + validationResult.getAuthorizationCode());
-
-        return savedEvaluation;
     }
-}
\ No newline at end of file
+}
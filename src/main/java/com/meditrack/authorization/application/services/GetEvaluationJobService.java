@@ -0,0 +1,29 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.exceptions.ResourceNotFoundException;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.ports.in.query.GetEvaluationJobQuery;
+import com.meditrack.authorization.domain.ports.in.useCase.GetEvaluationJobUseCase;
+import com.meditrack.authorization.domain.ports.out.EvaluationJobRepositoryPort;
+import org.springframework.stereotype.Service;
+
+/**
+ * Servicio: Consultar Trabajo de Evaluación
+ */
+@Service
+public class GetEvaluationJobService implements GetEvaluationJobUseCase {
+
+    private final EvaluationJobRepositoryPort jobRepository;
+
+    public GetEvaluationJobService(EvaluationJobRepositoryPort jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @Override
+    public EvaluationJob execute(GetEvaluationJobQuery query) {
+        return jobRepository.findById(query.getJobId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Trabajo de evaluación", query.getJobId()
+                ));
+    }
+}
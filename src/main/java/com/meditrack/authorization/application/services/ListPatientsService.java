@@ -1,60 +1,83 @@
 package com.meditrack.authorization.application.services;
 
-import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
+import com.meditrack.authorization.domain.models.PatientSummary;
+import com.meditrack.authorization.domain.ports.in.query.ListPatientsQuery;
 import com.meditrack.authorization.domain.ports.in.useCase.ListPatientsUseCase;
 import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
 import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
-import com.meditrack.authorization.domain.ports.out.UserRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummarySlice;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Servicio: Listar Pacientes
  * Implementa el caso de uso ListPatientsUseCase
+ *
+ * La página se lee con una proyección (PatientSummary) sin hidratar entidades ni modelos
+ * de dominio, y sin COUNT: se pide una fila de más para saber si hay página siguiente.
+ * El total solo se calcula si se pide (includeTotal). La profundidad del offset está
+ * acotada (patients.list.max-offset): más allá se debe filtrar en lugar de paginar.
  */
 @Service
 public class ListPatientsService implements ListPatientsUseCase {
 
     private final PatientRepositoryPort patientRepository;
-    private final UserRepositoryPort userRepository;
     private final CurrentUserPort currentUserPort;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final long maxOffset;
 
     public ListPatientsService(
             PatientRepositoryPort patientRepository,
-            UserRepositoryPort userRepository,
-            CurrentUserPort currentUserPort) {
+            CurrentUserPort currentUserPort,
+            @Value("${patients.list.page-size.default:20}") int defaultPageSize,
+            @Value("${patients.list.page-size.max:100}") int maxPageSize,
+            @Value("${patients.list.max-offset:10000}") long maxOffset) {
         this.patientRepository = patientRepository;
-        this.userRepository = userRepository;
         this.currentUserPort = currentUserPort;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxOffset = maxOffset;
     }
 
     @Override
-    public List<Patient> execute() {
-
-        // 1. Obtener el usuario actual
-        UUID currentUserId = currentUserPort.getCurrentUserId();
-
-        // 2. Verificar el rol del usuario
-        return userRepository.findById(currentUserId)
-                .map(user -> {
-                    // Si es admin o médico, puede ver todos los pacientes
-                    if (user.isAdmin() || user.isDoctor()) {
-                        return patientRepository.findAllActive();
-                    }
-
-                    // Si es paciente, solo puede ver su propia información
-                    if (user.isPatient() && user.hasPatient()) {
-                        return patientRepository.findByIdAndNotDeleted(user.getPatientId())
-                                .map(List::of)
-                                .orElse(List.of());
-                    }
-
-                    // Otros casos (no debería ocurrir)
-                    return List.<Patient>of();
-                })
-                .orElse(List.of());
+    public PatientPage execute(ListPatientsQuery query) {
+
+        // 1. Obtener el usuario actual (rol y paciente vienen en el token)
+        AuthenticatedUser user = currentUserPort.getCurrentUser();
+
+        // 2. Acotar el tamaño de página en el servidor
+        int pageSize = Math.min(query.getSize() != null ? query.getSize() : defaultPageSize, maxPageSize);
+
+        // 3. Acotar la profundidad: page * size no puede desbordar el offset ni recorrer la tabla entera
+        if ((long) query.getPage() * pageSize > maxOffset) {
+            throw new IllegalArgumentException("La página solicitada supera el máximo de " + maxOffset
+                    + " registros del listado; acota la búsqueda con filtros");
+        }
+
+        // 4. Si es admin o médico, puede ver todos los pacientes
+        if (user.isAdmin() || user.isDoctor()) {
+            SummarySlice slice = patientRepository.findSummaries(
+                    query.getFilter(), query.getSort(), query.isAscending(), query.getPage(), pageSize);
+            Long total = query.isIncludeTotal() ? patientRepository.countSummaries(query.getFilter()) : null;
+            return new PatientPage(slice.getItems(), query.getPage(), pageSize, slice.hasNext(), total);
+        }
+
+        // 5. Si es paciente, solo puede ver su propia información
+        if (user.isPatient() && user.hasPatient()) {
+            List<PatientSummary> items = query.getPage() > 0 ? List.of() : patientRepository
+                    .findByIdAndNotDeleted(user.getPatientId())
+                    .map(PatientSummary::from)
+                    .map(List::of)
+                    .orElse(List.of());
+            return new PatientPage(items, query.getPage(), pageSize, false,
+                    query.isIncludeTotal() ? (long) items.size() : null);
+        }
+
+        // Otros casos (no debería ocurrir)
+        return new PatientPage(List.of(), query.getPage(), pageSize, false, query.isIncludeTotal() ? 0L : null);
     }
-}
\ No newline at end of file
+}
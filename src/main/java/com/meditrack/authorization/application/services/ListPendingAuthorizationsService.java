@@ -2,50 +2,67 @@ package com.meditrack.authorization.application.services;
 
 import com.meditrack.authorization.domain.enums.AuthorizationStatus;
 import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.query.ListPendingAuthorizationsQuery;
 import com.meditrack.authorization.domain.ports.in.useCase.ListPendingAuthorizationsUseCase;
 import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
 import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
-import com.meditrack.authorization.domain.ports.out.UserRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Servicio: Listar Autorizaciones Pendientes
+ *
+ * Paginación por keyset sobre (requestDate, id): cada página continúa después de la última
+ * fila de la anterior, así el costo no crece con la profundidad (no hay OFFSET) y las
+ * autorizaciones que dejan de estar pendientes entre páginas no desplazan los resultados.
  */
 @Service
 public class ListPendingAuthorizationsService implements ListPendingAuthorizationsUseCase {
 
     private final MedicalAuthorizationRepositoryPort authorizationRepository;
-    private final UserRepositoryPort userRepository;
     private final CurrentUserPort currentUserPort;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     public ListPendingAuthorizationsService(
             MedicalAuthorizationRepositoryPort authorizationRepository,
-            UserRepositoryPort userRepository,
-            CurrentUserPort currentUserPort) {
+            CurrentUserPort currentUserPort,
+            @Value("${authorizations.pending.page-size.default:50}") int defaultPageSize,
+            @Value("${authorizations.pending.page-size.max:200}") int maxPageSize) {
         this.authorizationRepository = authorizationRepository;
-        this.userRepository = userRepository;
         this.currentUserPort = currentUserPort;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
-    public List<MedicalAuthorization> execute() {
-
-        // 1. Obtener el usuario actual
-        UUID currentUserId = currentUserPort.getCurrentUserId();
-
-        // 2. Verificar permisos (solo admin y médico pueden ver pendientes)
-        userRepository.findById(currentUserId).ifPresent(user -> {
-            if (user.isPatient()) {
-                throw new IllegalStateException(
-                        "Los pacientes no pueden acceder a la lista de autorizaciones pendientes"
-                );
-            }
-        });
-
-        // 3. Obtener autorizaciones pendientes
-        return authorizationRepository.findByStatus(AuthorizationStatus.PENDIENTE);
+    public PendingPage execute(ListPendingAuthorizationsQuery query) {
+
+        // 1. Verificar permisos (solo admin y médico pueden ver pendientes)
+        if (currentUserPort.getCurrentUser().isPatient()) {
+            throw new IllegalStateException(
+                    "Los pacientes no pueden acceder a la lista de autorizaciones pendientes"
+            );
+        }
+
+        // 2. Acotar el tamaño de página en el servidor
+        int pageSize = Math.min(query.getLimit() != null ? query.getLimit() : defaultPageSize, maxPageSize);
+
+        // 3. Pedir una fila de más para saber si hay página siguiente
+        Cursor after = query.getAfter();
+        List<MedicalAuthorization> rows = authorizationRepository.findByStatusAfter(
+                AuthorizationStatus.PENDIENTE,
+                after != null ? after.getRequestDate() : null,
+                after != null ? after.getId() : null,
+                pageSize + 1
+        );
+
+        if (rows.size() <= pageSize) {
+            return new PendingPage(rows, null);
+        }
+        List<MedicalAuthorization> items = rows.subList(0, pageSize);
+        return new PendingPage(items, Cursor.of(items.get(pageSize - 1)));
     }
-}
\ No newline at end of file
+}
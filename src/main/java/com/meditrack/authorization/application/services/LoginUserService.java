@@ -51,17 +51,45 @@ public class LoginUserService implements LoginUserUseCase {
             );
         }
 
-        // 4. Generar el token JWT
+        // 4. Si el hash usa un algoritmo o costo anterior, volver a encriptar con el actual
+        upgradePasswordEncoding(user, command.getPassword());
+
+        // 5. Generar el token JWT
         String token = jwtService.generateToken(
                 user.getId(),
                 user.getUsername(),
-                user.getRole()
+                user.getRole(),
+                user.getPatientId()
         );
 
-        // 5. Log del login
+        // 6. Log del login
         System.out.println("Login exitoso: " + user.getUsername() + " con rol " + user.getRole());
 
-        // 6. Devolver usuario y token
+        // 7. Devolver usuario y token
         return new LoginResult(user, token);
     }
+
+    /**
+     * La contraseña en texto plano solo está disponible durante el login; un fallo aquí
+     * no impide el acceso (se reintentará en el siguiente login)
+     *
+     * Solo se escribe el hash, y solo si no cambió: el usuario se leyó antes del BCrypt
+     * (en cola) y guardarlo entero podría revertir una desactivación hecha entretanto
+     */
+    private void upgradePasswordEncoding(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordHash(user.getId(), user.getPassword(), newHash)) {
+                System.out.println("Contraseña re-encriptada con el algoritmo actual: " + user.getUsername());
+            } else {
+                System.out.println("Re-encriptación omitida: el usuario " + user.getUsername() +
+                        " cambió o se desactivó durante el login");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("No se pudo re-encriptar la contraseña de " + user.getUsername() + ": " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.exceptions.BusinessRuleException;
+import com.meditrack.authorization.domain.exceptions.ServiceUnavailableException;
+import com.meditrack.authorization.domain.models.CoverageEvaluation;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+import com.meditrack.authorization.domain.ports.in.useCase.EvaluateMedicalAuthorizationUseCase;
+import com.meditrack.authorization.domain.ports.in.useCase.ProcessEvaluationJobUseCase;
+import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.EvaluationJobRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Servicio: Procesar Trabajos de Evaluación
+ * Reutiliza la evaluación síncrona, que ya separa lectura, llamada al seguro y escritura
+ *
+ * Cada trabajo tomado queda reservado a este nodo (evaluation.jobs.worker.node-id) durante
+ * evaluation.jobs.lease-duration; otro nodo solo lo reencola si la reserva vence.
+ * El node-id por defecto es el hostname: debe ser estable entre reinicios y único por instancia.
+ *
+ * Con el seguro no disponible el trabajo se reencola con backoff hasta evaluation.jobs.max-attempts
+ * intentos; después se marca como fallido para que una caída larga no llene la cola.
+ *
+ * Si el nodo cayó tras confirmar la evaluación pero antes de registrar el trabajo, al
+ * reintentarlo la autorización ya está evaluada: el trabajo se completa con esa evaluación.
+ */
+@Service
+public class ProcessEvaluationJobService implements ProcessEvaluationJobUseCase {
+
+    private final EvaluationJobRepositoryPort jobRepository;
+    private final EvaluateMedicalAuthorizationUseCase evaluateUseCase;
+    private final CoverageEvaluationRepositoryPort evaluationRepository;
+    private final String nodeId;
+    private final long leaseDurationMillis;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int maxAttempts;
+
+    public ProcessEvaluationJobService(
+            EvaluationJobRepositoryPort jobRepository,
+            EvaluateMedicalAuthorizationUseCase evaluateUseCase,
+            CoverageEvaluationRepositoryPort evaluationRepository,
+            @Value("${evaluation.jobs.worker.node-id:}") String nodeId,
+            @Value("${evaluation.jobs.lease-duration:300000}") long leaseDurationMillis,
+            @Value("${evaluation.jobs.retry-backoff.initial:5000}") long initialBackoffMillis,
+            @Value("${evaluation.jobs.retry-backoff.max:60000}") long maxBackoffMillis,
+            @Value("${evaluation.jobs.max-attempts:10}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.evaluateUseCase = evaluateUseCase;
+        this.evaluationRepository = evaluationRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.leaseDurationMillis = leaseDurationMillis;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    @Transactional
+    public List<EvaluationJob> claimNext(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresAt = now.plusNanos(leaseDurationMillis * 1_000_000);
+        List<EvaluationJob> claimed = new ArrayList<>();
+        for (UUID jobId : jobRepository.findQueuedIds(now, limit)) {
+            // Otro worker pudo tomarlo entre la búsqueda y la actualización
+            if (jobRepository.markInProgressIfQueued(jobId, nodeId, leaseExpiresAt)) {
+                jobRepository.findById(jobId).ifPresent(claimed::add);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Sin @Transactional: la llamada al seguro no debe retener una conexión JDBC
+     */
+    @Override
+    public EvaluationJob execute(EvaluationJob job) {
+
+        // 1. Evaluar la autorización
+        try {
+            CoverageEvaluation evaluation = evaluateUseCase.execute(
+                    new EvaluateMedicalAuthorizationCommand(
+                            job.getAuthorizationId(), job.getEstimatedCost(), job.getRequestedBy())
+            );
+            job.complete(evaluation.getId());
+        } catch (ServiceUnavailableException e) {
+            // Circuito abierto o bulkhead lleno: se difiere con backoff mientras queden intentos
+            if (job.getAttempts() >= maxAttempts) {
+                System.err.println("Evaluación " + job.getId() + " fallida tras " + job.getAttempts() +
+                        " intentos: " + e.getMessage());
+                job.fail("Servicio de seguros no disponible tras " + job.getAttempts() + " intentos: " +
+                        e.getMessage());
+            } else {
+                long delayMillis = backoffMillis(job.getAttempts());
+                System.out.println("Evaluación " + job.getId() + " reencolada en " + delayMillis + "ms: " +
+                        e.getMessage());
+                job.requeue(e.getMessage(), LocalDateTime.now().plusNanos(delayMillis * 1_000_000));
+            }
+        } catch (BusinessRuleException e) {
+            // Reintento de un trabajo cuya evaluación ya se confirmó: se enlaza la existente
+            Optional<CoverageEvaluation> existing =
+                    evaluationRepository.findByAuthorizationId(job.getAuthorizationId());
+            if (existing.isPresent()) {
+                System.out.println("Evaluación " + job.getId() + " ya registrada para la autorización " +
+                        job.getAuthorizationId() + "; se completa con la existente");
+                job.complete(existing.get().getId());
+            } else {
+                System.err.println("Error al procesar la evaluación " + job.getId() + ": " + e.getMessage());
+                job.fail(e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error al procesar la evaluación " + job.getId() + ": " + e.getMessage());
+            job.fail(e.getMessage());
+        }
+
+        // 2. Registrar el resultado del trabajo (solo si la reserva sigue siendo de este nodo)
+        if (!jobRepository.saveResultIfClaimedBy(job, nodeId)) {
+            System.err.println("Resultado de la evaluación " + job.getId() +
+                    " descartado: la reserva venció y el trabajo fue reencolado");
+        }
+        return job;
+    }
+
+    @Override
+    @Transactional
+    public int requeueInterrupted() {
+        return jobRepository.requeueInProgress(nodeId, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int requeueExpired() {
+        return jobRepository.requeueExpired(LocalDateTime.now());
+    }
+
+    /**
+     * Backoff exponencial según los intentos ya hechos: initial, 2*initial, 4*initial... hasta max
+     */
+    private long backoffMillis(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(maxBackoffMillis, initialBackoffMillis << doublings);
+    }
+
+    private static String defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
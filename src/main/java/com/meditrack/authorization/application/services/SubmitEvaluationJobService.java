@@ -0,0 +1,98 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.exceptions.BusinessRuleException;
+import com.meditrack.authorization.domain.exceptions.DuplicateResourceException;
+import com.meditrack.authorization.domain.exceptions.ResourceNotFoundException;
+import com.meditrack.authorization.domain.exceptions.TooManyRequestsException;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+import com.meditrack.authorization.domain.ports.in.useCase.SubmitEvaluationJobUseCase;
+import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.EvaluationJobRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Servicio: Encolar Evaluación Asíncrona
+ * Valida la autorización y la deja en la cola persistente; el worker la procesa después
+ *
+ * evaluation.jobs.queue-capacity es un límite blando: el conteo y el INSERT no son atómicos,
+ * así que una ráfaga simultánea (entre hilos o nodos) puede superarlo en como mucho una
+ * petición por envío concurrente. Basta para el back-pressure; hacerlo exacto exigiría
+ * serializar todos los envíos sobre una fila bloqueada.
+ */
+@Service
+public class SubmitEvaluationJobService implements SubmitEvaluationJobUseCase {
+
+    private final EvaluationJobRepositoryPort jobRepository;
+    private final MedicalAuthorizationRepositoryPort authorizationRepository;
+    private final CoverageEvaluationRepositoryPort evaluationRepository;
+    private final long queueCapacity;
+    private final long retryAfterSeconds;
+
+    public SubmitEvaluationJobService(
+            EvaluationJobRepositoryPort jobRepository,
+            MedicalAuthorizationRepositoryPort authorizationRepository,
+            CoverageEvaluationRepositoryPort evaluationRepository,
+            @Value("${evaluation.jobs.queue-capacity:500}") long queueCapacity,
+            @Value("${evaluation.jobs.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.jobRepository = jobRepository;
+        this.authorizationRepository = authorizationRepository;
+        this.evaluationRepository = evaluationRepository;
+        this.queueCapacity = queueCapacity;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    @Transactional
+    public EvaluationJob execute(EvaluateMedicalAuthorizationCommand command) {
+
+        // 1. Back-pressure: rechazar si la cola está llena (límite blando, ver javadoc de la clase)
+        if (jobRepository.countByStatus(EvaluationJobStatus.EN_COLA) >= queueCapacity) {
+            throw new TooManyRequestsException(
+                    "La cola de evaluaciones está llena, intenta de nuevo más tarde",
+                    retryAfterSeconds
+            );
+        }
+
+        // 2. Buscar la autorización
+        MedicalAuthorization authorization = authorizationRepository.findByIdAndNotDeleted(
+                command.getAuthorizationId()
+        ).orElseThrow(() -> new ResourceNotFoundException(
+                "Autorización", command.getAuthorizationId()
+        ));
+
+        // 3. Verificar que no haya sido evaluada
+        if (authorization.isFinalState() || evaluationRepository.existsByAuthorizationId(authorization.getId())) {
+            throw new BusinessRuleException(
+                    "Esta autorización ya ha sido evaluada"
+            );
+        }
+
+        // 4. Si otro revisor la tiene reservada, no se duplica su trabajo (409)
+        authorization.ensureNotLeasedToOther(command.getReviewerId(), LocalDateTime.now());
+
+        // 5. Evitar dos trabajos simultáneos para la misma autorización
+        if (jobRepository.existsActiveByAuthorizationId(authorization.getId())) {
+            throw new DuplicateResourceException(
+                    "Ya existe una evaluación en curso para la autorización " + authorization.getId()
+            );
+        }
+
+        // 6. Encolar (el worker evalúa a nombre de quien la encoló)
+        EvaluationJob job = jobRepository.save(
+                new EvaluationJob(authorization.getId(), command.getEstimatedCost(), command.getReviewerId())
+        );
+
+        System.out.println("Evaluación encolada: " + job.getId() +
+                " - Autorización: " + authorization.getId());
+
+        return job;
+    }
+}
@@ -1,53 +1,80 @@
 package com.meditrack.authorization.application.services;
 
 import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.exceptions.ConcurrentUpdateException;
 import com.meditrack.authorization.domain.exceptions.ResourceNotFoundException;
 import com.meditrack.authorization.domain.exceptions.UnauthorizedAccessException;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
 import com.meditrack.authorization.domain.models.MedicalAuthorization;
 import com.meditrack.authorization.domain.ports.in.command.UpdateAuthorizationStatusCommand;
 import com.meditrack.authorization.domain.ports.in.useCase.UpdateAuthorizationStatusUseCase;
 import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
 import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
-import com.meditrack.authorization.domain.ports.out.UserRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Servicio: Actualizar Estado de Autorización
+ *
+ * Lectura, cambio y guardado con control optimista (versión): si otra operación modificó
+ * la autorización entre medio, el guardado falla en vez de sobrescribirla. El nuevo estado
+ * es absoluto, así que se reintenta sobre la versión fresca hasta max-attempts veces; cada
+ * intento es una transacción nueva.
  */
 @Service
 public class UpdateAuthorizationStatusService implements UpdateAuthorizationStatusUseCase {
 
     private final MedicalAuthorizationRepositoryPort authorizationRepository;
-    private final UserRepositoryPort userRepository;
     private final CurrentUserPort currentUserPort;
+    private final TransactionTemplate transaction;
+    private final int maxAttempts;
 
     public UpdateAuthorizationStatusService(
             MedicalAuthorizationRepositoryPort authorizationRepository,
-            UserRepositoryPort userRepository,
-            CurrentUserPort currentUserPort) {
+            CurrentUserPort currentUserPort,
+            PlatformTransactionManager transactionManager,
+            @Value("${authorizations.status-update.max-attempts:3}") int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("max-attempts debe ser al menos 1");
+        }
         this.authorizationRepository = authorizationRepository;
-        this.userRepository = userRepository;
         this.currentUserPort = currentUserPort;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
     }
 
     @Override
-    @Transactional
     public MedicalAuthorization execute(UpdateAuthorizationStatusCommand command) {
 
-        // 1. Obtener el usuario actual
-        UUID currentUserId = currentUserPort.getCurrentUserId();
+        // 1-2. Verificar que el usuario actual sea admin (solo admins pueden cambiar estados manualmente)
+        AuthenticatedUser user = currentUserPort.getCurrentUser();
+        if (!user.isAdmin()) {
+            throw new UnauthorizedAccessException(
+                    "Solo los administradores pueden cambiar el estado de autorizaciones"
+            );
+        }
 
-        // 2. Verificar que sea admin (solo admins pueden cambiar estados manualmente)
-        userRepository.findById(currentUserId).ifPresent(user -> {
-            if (!user.isAdmin()) {
-                throw new UnauthorizedAccessException(
-                        "Solo los administradores pueden cambiar el estado de autorizaciones"
-                );
+        // 3-6. Aplicar el cambio; ante un conflicto de versión, releer y reintentar
+        for (int attempt = 1; ; attempt++) {
+            boolean retry = attempt > 1;
+            try {
+                return transaction.execute(status -> applyStatus(command, user.getUserId(), retry));
+            } catch (ConcurrentUpdateException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                System.out.println("Conflicto al actualizar la autorización " + command.getAuthorizationId() +
+                        ", reintento " + attempt + "/" + (maxAttempts - 1));
             }
-        });
+        }
+    }
+
+    private MedicalAuthorization applyStatus(UpdateAuthorizationStatusCommand command, UUID userId, boolean retry) {
 
         // 3. Buscar la autorización
         MedicalAuthorization authorization = authorizationRepository.findByIdAndNotDeleted(
@@ -59,6 +86,14 @@ public class UpdateAuthorizationStatusService implements UpdateAuthorizationStat
         // 4. Actualizar el estado
         AuthorizationStatus newStatus = command.getNewStatus();
 
+        // En un reintento, si la operación concurrente ya dejó el estado pedido no hay nada que hacer
+        if (retry && authorization.getStatus() == newStatus) {
+            return authorization;
+        }
+
+        // Si otro revisor la tiene reservada, no se pisa su trabajo (409)
+        authorization.ensureNotLeasedToOther(userId, LocalDateTime.now());
+
         switch (newStatus) {
             case APROBADA:
                 authorization.approve();
@@ -73,7 +108,7 @@ public class UpdateAuthorizationStatusService implements UpdateAuthorizationStat
                 throw new IllegalArgumentException("Estado no válido: " + newStatus);
         }
 
-        // 5. Guardar cambios
+        // 5. Guardar cambios (falla con ConcurrentUpdateException si la versión cambió)
         MedicalAuthorization updatedAuthorization = authorizationRepository.save(authorization);
 
         // 6. Log
@@ -82,4 +117,4 @@ public class UpdateAuthorizationStatusService implements UpdateAuthorizationStat
 
         return updatedAuthorization;
     }
-}
\ No newline at end of file
+}
@@ -21,5 +21,18 @@ public enum AffiliationType {
      * Régimen especial - fuerzas militares, maestros, etc
      * Copago máximo: 10%
      */
-    ESPECIAL
+    ESPECIAL;
+
+    /**
+     * Obtiene el copago máximo permitido para el tipo de afiliación
+     *
+     * @return Porcentaje de copago máximo (0-100)
+     */
+    public int getMaxCopayPercentage() {
+        return switch (this) {
+            case CONTRIBUTIVO -> 20;  // 20%
+            case SUBSIDIADO -> 5;      // 5%
+            case ESPECIAL -> 10;       // 10%
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.meditrack.authorization.domain.enums;
+
+/**
+ * Estado de un trabajo de evaluación asíncrona
+ */
+public enum EvaluationJobStatus {
+    /**
+     * Trabajo encolado, esperando un worker libre
+     */
+    EN_COLA,
+
+    /**
+     * Trabajo tomado por un worker, consultando al seguro
+     */
+    EN_PROCESO,
+
+    /**
+     * Evaluación guardada y autorización actualizada
+     */
+    COMPLETADO,
+
+    /**
+     * La evaluación no se pudo completar
+     */
+    FALLIDO
+}
@@ -0,0 +1,18 @@
+package com.meditrack.authorization.domain.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Excepción: Otra operación modificó el recurso entre su lectura y su escritura
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentUpdateException(String resourceType, UUID id) {
+        super(String.format("%s %s fue modificada por otra operación; vuelve a consultarla e intenta de nuevo",
+                resourceType, id));
+    }
+}
@@ -0,0 +1,18 @@
+package com.meditrack.authorization.domain.exceptions;
+
+/**
+ * Excepción: Servicio o recurso temporalmente no disponible (fallo rápido)
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.meditrack.authorization.domain.exceptions;
+
+/**
+ * Excepción: Capacidad agotada, el cliente debe reintentar más tarde
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,72 @@
+package com.meditrack.authorization.domain.models;
+
+import com.meditrack.authorization.domain.enums.UserRole;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Modelo de Dominio: Usuario Autenticado
+ * Identidad de la petición en curso (viaja en el token), sin consultar la base de datos
+ */
+public class AuthenticatedUser {
+
+    private final UUID userId;
+    private final UserRole role;
+    private final UUID patientId;   // Nullable - solo si el usuario es un paciente
+
+    public AuthenticatedUser(UUID userId, UserRole role, UUID patientId) {
+        this.userId = Objects.requireNonNull(userId, "El ID del usuario es obligatorio");
+        this.role = Objects.requireNonNull(role, "El rol del usuario es obligatorio");
+        this.patientId = patientId;
+    }
+
+    /**
+     * Verifica si el usuario es un paciente
+     */
+    public boolean isPatient() {
+        return this.role == UserRole.ROLE_PACIENTE;
+    }
+
+    /**
+     * Verifica si el usuario es un médico
+     */
+    public boolean isDoctor() {
+        return this.role == UserRole.ROLE_MEDICO;
+    }
+
+    /**
+     * Verifica si el usuario es un administrador
+     */
+    public boolean isAdmin() {
+        return this.role == UserRole.ROLE_ADMIN;
+    }
+
+    /**
+     * Verifica si el usuario tiene un paciente asociado
+     */
+    public boolean hasPatient() {
+        return this.patientId != null;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public UUID getPatientId() {
+        return patientId;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "userId=" + userId +
+                ", role=" + role +
+                ", patientId=" + patientId +
+                '}';
+    }
+}
@@ -40,7 +40,7 @@ public class CoverageEvaluation {
         validateCoveragePercentage(coveragePercentage);
         validateCopayAmount(copayAmount);
 
-        this.id = UUID.randomUUID();
+        this.id = TimeOrderedUuid.next();
         this.authorizationId = authorizationId;
         this.coveragePercentage = coveragePercentage;
         this.copayAmount = copayAmount;
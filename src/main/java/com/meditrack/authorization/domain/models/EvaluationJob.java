@@ -0,0 +1,253 @@
+package com.meditrack.authorization.domain.models;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entidad de dominio: Trabajo de Evaluación
+ * Representa una evaluación de cobertura encolada para procesarse
+ * en segundo plano contra el servicio externo de seguros
+ *
+ * POJO puro sin dependencias de frameworks
+ */
+public class EvaluationJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private UUID id;
+    private UUID authorizationId;
+    private BigDecimal estimatedCost;
+    private UUID requestedBy;         // Quién la encoló; la evaluación se hace a su nombre
+    private EvaluationJobStatus status;
+    private int attempts;
+    private UUID evaluationId;        // Evaluación generada al completar
+    private String errorMessage;      // Motivo del fallo, si lo hubo
+    private String claimedBy;         // Nodo que lo procesa (solo EN_PROCESO)
+    private LocalDateTime leaseExpiresAt; // Pasada esta hora, cualquier nodo puede reencolarlo
+    private LocalDateTime notBefore;  // No se toma de la cola antes de esta hora (reintento diferido)
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // ==========================================
+    // CONSTRUCTORES
+    // ==========================================
+
+    /**
+     * Constructor para encolar un nuevo trabajo
+     */
+    public EvaluationJob(UUID authorizationId, BigDecimal estimatedCost, UUID requestedBy) {
+
+        // Validaciones de negocio
+        if (authorizationId == null) {
+            throw new IllegalArgumentException("El ID de la autorización es obligatorio");
+        }
+        if (estimatedCost == null || estimatedCost.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("El costo estimado debe ser mayor a cero");
+        }
+
+        this.id = TimeOrderedUuid.next();
+        this.authorizationId = authorizationId;
+        this.estimatedCost = estimatedCost;
+        this.requestedBy = requestedBy;
+        this.status = EvaluationJobStatus.EN_COLA;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    /**
+     * Constructor para reconstruir desde persistencia
+     */
+    public EvaluationJob(
+            UUID id,
+            UUID authorizationId,
+            BigDecimal estimatedCost,
+            UUID requestedBy,
+            EvaluationJobStatus status,
+            int attempts,
+            UUID evaluationId,
+            String errorMessage,
+            String claimedBy,
+            LocalDateTime leaseExpiresAt,
+            LocalDateTime notBefore,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+
+        this.id = id;
+        this.authorizationId = authorizationId;
+        this.estimatedCost = estimatedCost;
+        this.requestedBy = requestedBy;
+        this.status = status;
+        this.attempts = attempts;
+        this.evaluationId = evaluationId;
+        this.errorMessage = errorMessage;
+        this.claimedBy = claimedBy;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.notBefore = notBefore;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // ==========================================
+    // MÉTODOS DE NEGOCIO
+    // ==========================================
+
+    /**
+     * Marca el trabajo como completado con la evaluación generada
+     */
+    public void complete(UUID evaluationId) {
+        if (this.status != EvaluationJobStatus.EN_PROCESO) {
+            throw new IllegalStateException(
+                    "Solo se puede completar un trabajo en proceso: " + this.id
+            );
+        }
+
+        this.status = EvaluationJobStatus.COMPLETADO;
+        this.evaluationId = evaluationId;
+        this.errorMessage = null;
+        releaseClaim();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Marca el trabajo como fallido con el motivo del error
+     */
+    public void fail(String errorMessage) {
+        if (this.status != EvaluationJobStatus.EN_PROCESO) {
+            throw new IllegalStateException(
+                    "Solo se puede marcar como fallido un trabajo en proceso: " + this.id
+            );
+        }
+
+        this.status = EvaluationJobStatus.FALLIDO;
+        this.errorMessage = truncate(errorMessage);
+        releaseClaim();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Devuelve el trabajo a la cola (fallo transitorio: el seguro no está disponible)
+     *
+     * @param notBefore No se vuelve a tomar antes de esta hora
+     */
+    public void requeue(String reason, LocalDateTime notBefore) {
+        if (this.status != EvaluationJobStatus.EN_PROCESO) {
+            throw new IllegalStateException(
+                    "Solo se puede reencolar un trabajo en proceso: " + this.id
+            );
+        }
+
+        this.status = EvaluationJobStatus.EN_COLA;
+        this.errorMessage = truncate(reason);
+        this.notBefore = notBefore;
+        releaseClaim();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Verifica si el trabajo ya terminó (con éxito o con error)
+     */
+    public boolean isFinished() {
+        return this.status == EvaluationJobStatus.COMPLETADO
+                || this.status == EvaluationJobStatus.FALLIDO;
+    }
+
+    private void releaseClaim() {
+        this.claimedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getAuthorizationId() {
+        return authorizationId;
+    }
+
+    public BigDecimal getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    public UUID getRequestedBy() {
+        return requestedBy;
+    }
+
+    public EvaluationJobStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public UUID getEvaluationId() {
+        return evaluationId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public LocalDateTime getNotBefore() {
+        return notBefore;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // ==========================================
+    // EQUALS, HASHCODE, TOSTRING
+    // ==========================================
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EvaluationJob that = (EvaluationJob) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationJob{" +
+                "id=" + id +
+                ", authorizationId=" + authorizationId +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
@@ -22,6 +22,9 @@ public class MedicalAuthorization {
     private AuthorizationStatus status;
     private UUID requestedBy; // ID del médico o admin que solicita
     private boolean deleted;
+    private String leaseOwner; // Quién la tomó para revisión (null si nadie)
+    private LocalDateTime leaseExpiresAt; // Hasta cuándo la retiene; vencida vuelve a PENDIENTE
+    private Long version; // Versión leída (control optimista); null si aún no se ha guardado
 
     // ==========================================
     // CONSTRUCTORES
@@ -42,7 +45,7 @@ public class MedicalAuthorization {
         validateDescription(description);
         validateRequestedBy(requestedBy);
 
-        this.id = UUID.randomUUID();
+        this.id = TimeOrderedUuid.next();
         this.patientId = patientId;
         this.serviceType = serviceType;
         this.description = description.trim();
@@ -65,6 +68,25 @@ public class MedicalAuthorization {
             UUID requestedBy,
             boolean deleted) {
 
+        this(id, patientId, serviceType, description, requestDate, status, requestedBy, deleted, null, null, null);
+    }
+
+    /**
+     * Constructor para reconstruir desde persistencia, con la reserva de revisión y la versión
+     */
+    public MedicalAuthorization(
+            UUID id,
+            UUID patientId,
+            ServiceType serviceType,
+            String description,
+            LocalDateTime requestDate,
+            AuthorizationStatus status,
+            UUID requestedBy,
+            boolean deleted,
+            String leaseOwner,
+            LocalDateTime leaseExpiresAt,
+            Long version) {
+
         this.id = id;
         this.patientId = patientId;
         this.serviceType = serviceType;
@@ -73,6 +95,9 @@ public class MedicalAuthorization {
         this.status = status;
         this.requestedBy = requestedBy;
         this.deleted = deleted;
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.version = version;
     }
 
     /**
@@ -109,6 +134,7 @@ public class MedicalAuthorization {
         }
 
         this.status = AuthorizationStatus.APROBADA;
+        releaseLease();
     }
 
     /**
@@ -135,6 +161,7 @@ public class MedicalAuthorization {
         }
 
         this.status = AuthorizationStatus.RECHAZADA;
+        releaseLease();
     }
 
     /**
@@ -183,6 +210,45 @@ public class MedicalAuthorization {
         this.deleted = true;
     }
 
+    /**
+     * Verifica si la autorización está tomada para revisión por alguien con la reserva vigente
+     */
+    public boolean isLeasedAt(LocalDateTime now) {
+        return this.status == AuthorizationStatus.EN_REVISION
+                && this.leaseExpiresAt != null
+                && this.leaseExpiresAt.isAfter(now);
+    }
+
+    /**
+     * Verifica si otro revisor tiene la reserva vigente (reviewerId null = proceso sin usuario)
+     */
+    public boolean isLeasedToOther(UUID reviewerId, LocalDateTime now) {
+        return isLeasedAt(now)
+                && (reviewerId == null || !reviewerId.toString().equals(this.leaseOwner));
+    }
+
+    /**
+     * Solo quien tiene la reserva vigente puede evaluar o cambiar el estado
+     *
+     * @throws IllegalStateException si otro revisor la tiene reservada
+     */
+    public void ensureNotLeasedToOther(UUID reviewerId, LocalDateTime now) {
+        if (isLeasedToOther(reviewerId, now)) {
+            throw new IllegalStateException(
+                    "La autorización está reservada para revisión por otro usuario hasta " +
+                            this.leaseExpiresAt + ": " + this.id
+            );
+        }
+    }
+
+    /**
+     * Libera la reserva de revisión (al llegar a un estado final)
+     */
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+
     /**
      * Verifica si la autorización pertenece a un paciente específico
      */
@@ -326,6 +392,18 @@ public class MedicalAuthorization {
         return deleted;
     }
 
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     // ==========================================
     // EQUALS, HASHCODE, TOSTRING
     // ==========================================
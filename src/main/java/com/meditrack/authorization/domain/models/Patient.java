@@ -216,11 +216,7 @@ public class Patient {
      * @return Porcentaje de copago máximo (0-100)
      */
     public int getMaxCopayPercentage() {
-        return switch (this.affiliationType) {
-            case CONTRIBUTIVO -> 20;  // 20%
-            case SUBSIDIADO -> 5;      // 5%
-            case ESPECIAL -> 10;       // 10%
-        };
+        return this.affiliationType.getMaxCopayPercentage();
     }
 
     // ==========================================
@@ -0,0 +1,105 @@
+package com.meditrack.authorization.domain.models;
+
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Modelo de lectura: datos de un paciente para listados
+ *
+ * Inmutable y sin reglas de negocio; se construye directamente desde una proyección
+ * de la consulta, sin cargar la entidad JPA ni el modelo de dominio Patient.
+ */
+public class PatientSummary {
+
+    private final UUID id;
+    private final String documentNumber;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String phone;
+    private final AffiliationStatus affiliationStatus;
+    private final AffiliationType affiliationType;
+    private final LocalDate affiliationDate;
+
+    public PatientSummary(
+            UUID id,
+            String documentNumber,
+            String firstName,
+            String lastName,
+            String email,
+            String phone,
+            AffiliationStatus affiliationStatus,
+            AffiliationType affiliationType,
+            LocalDate affiliationDate) {
+        this.id = id;
+        this.documentNumber = documentNumber;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.affiliationStatus = affiliationStatus;
+        this.affiliationType = affiliationType;
+        this.affiliationDate = affiliationDate;
+    }
+
+    public static PatientSummary from(Patient patient) {
+        return new PatientSummary(
+                patient.getId(),
+                patient.getDocumentNumber(),
+                patient.getFirstName(),
+                patient.getLastName(),
+                patient.getEmail(),
+                patient.getPhone(),
+                patient.getAffiliationStatus(),
+                patient.getAffiliationType(),
+                patient.getAffiliationDate()
+        );
+    }
+
+    public String getFullName() {
+        return this.firstName + " " + this.lastName;
+    }
+
+    public int getMaxCopayPercentage() {
+        return this.affiliationType.getMaxCopayPercentage();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getDocumentNumber() {
+        return documentNumber;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public AffiliationStatus getAffiliationStatus() {
+        return affiliationStatus;
+    }
+
+    public AffiliationType getAffiliationType() {
+        return affiliationType;
+    }
+
+    public LocalDate getAffiliationDate() {
+        return affiliationDate;
+    }
+}
@@ -0,0 +1,37 @@
+package com.meditrack.authorization.domain.ports.in.command;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Command: Lote de autorizaciones a evaluar en una sola operación
+ */
+public class BulkEvaluateMedicalAuthorizationsCommand {
+
+    private final List<EvaluateMedicalAuthorizationCommand> items;
+
+    public BulkEvaluateMedicalAuthorizationsCommand(List<EvaluateMedicalAuthorizationCommand> items) {
+
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("El lote debe contener al menos una autorización");
+        }
+
+        Set<UUID> seen = new HashSet<>();
+        for (EvaluateMedicalAuthorizationCommand item : items) {
+            if (!seen.add(item.getAuthorizationId())) {
+                throw new IllegalArgumentException(
+                        "La autorización " + item.getAuthorizationId() + " está repetida en el lote"
+                );
+            }
+        }
+
+        this.items = List.copyOf(items);
+    }
+
+    // Getters
+    public List<EvaluateMedicalAuthorizationCommand> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,26 @@
+package com.meditrack.authorization.domain.ports.in.command;
+
+/**
+ * Command: Datos para tomar autorizaciones pendientes para revisión
+ */
+public class ClaimPendingAuthorizationsCommand {
+
+    private final Integer limit;
+
+    /**
+     * @param limit Cantidad pedida (null = cantidad por defecto; el servidor la acota)
+     */
+    public ClaimPendingAuthorizationsCommand(Integer limit) {
+
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("La cantidad a tomar debe ser mayor a cero");
+        }
+
+        this.limit = limit;
+    }
+
+    // Getters
+    public Integer getLimit() {
+        return limit;
+    }
+}
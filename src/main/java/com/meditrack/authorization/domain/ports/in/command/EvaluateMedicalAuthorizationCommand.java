@@ -10,8 +10,13 @@ public class EvaluateMedicalAuthorizationCommand {
 
     private final UUID authorizationId;
     private final BigDecimal estimatedCost;
+    private final UUID reviewerId; // Quién evalúa; null si no hay usuario (se respeta cualquier reserva vigente)
 
     public EvaluateMedicalAuthorizationCommand(UUID authorizationId, BigDecimal estimatedCost) {
+        this(authorizationId, estimatedCost, null);
+    }
+
+    public EvaluateMedicalAuthorizationCommand(UUID authorizationId, BigDecimal estimatedCost, UUID reviewerId) {
 
         if (authorizationId == null) {
             throw new IllegalArgumentException("El ID de la autorización es obligatorio");
@@ -27,6 +32,7 @@ public class EvaluateMedicalAuthorizationCommand {
 
         this.authorizationId = authorizationId;
         this.estimatedCost = estimatedCost;
+        this.reviewerId = reviewerId;
     }
 
     // Getters
@@ -37,4 +43,8 @@ public class EvaluateMedicalAuthorizationCommand {
     public BigDecimal getEstimatedCost() {
         return estimatedCost;
     }
+
+    public UUID getReviewerId() {
+        return reviewerId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.meditrack.authorization.domain.ports.in.query;
+
+import java.util.UUID;
+
+/**
+ * Query: Obtener un trabajo de evaluación por ID
+ */
+public class GetEvaluationJobQuery {
+
+    private final UUID jobId;
+
+    public GetEvaluationJobQuery(UUID jobId) {
+        if (jobId == null) {
+            throw new IllegalArgumentException("El ID del trabajo es obligatorio");
+        }
+
+        this.jobId = jobId;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+}
@@ -0,0 +1,85 @@
+package com.meditrack.authorization.domain.ports.in.query;
+
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummaryFilter;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummarySort;
+
+/**
+ * Query: Página de pacientes con filtros y orden
+ */
+public class ListPatientsQuery {
+
+    private static final int MAX_DOCUMENT_PREFIX_LENGTH = 20;
+
+    private final SummaryFilter filter;
+    private final SummarySort sort;
+    private final boolean ascending;
+    private final int page;
+    private final Integer size;
+    private final boolean includeTotal;
+
+    /**
+     * @param status Estado de afiliación (null = todos)
+     * @param type Tipo de afiliación (null = todos)
+     * @param documentPrefix Prefijo del número de documento (null = todos)
+     * @param sort Campo de orden (null = apellido)
+     * @param ascending Sentido del orden
+     * @param page Número de página, desde 0
+     * @param size Tamaño de página pedido (null = tamaño por defecto; el servidor lo acota)
+     * @param includeTotal Si se debe calcular el total de pacientes del filtro
+     */
+    public ListPatientsQuery(
+            AffiliationStatus status,
+            AffiliationType type,
+            String documentPrefix,
+            SummarySort sort,
+            boolean ascending,
+            int page,
+            Integer size,
+            boolean includeTotal) {
+        if (page < 0) {
+            throw new IllegalArgumentException("El número de página no puede ser negativo");
+        }
+        if (size != null && size <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a cero");
+        }
+
+        String prefix = documentPrefix == null || documentPrefix.isBlank() ? null : documentPrefix.trim();
+        if (prefix != null && (prefix.length() > MAX_DOCUMENT_PREFIX_LENGTH || !prefix.matches("[A-Za-z0-9]+"))) {
+            throw new IllegalArgumentException("El prefijo de documento debe ser alfanumérico y de máximo "
+                    + MAX_DOCUMENT_PREFIX_LENGTH + " caracteres");
+        }
+
+        this.filter = new SummaryFilter(status, type, prefix);
+        this.sort = sort != null ? sort : SummarySort.LAST_NAME;
+        this.ascending = ascending;
+        this.page = page;
+        this.size = size;
+        this.includeTotal = includeTotal;
+    }
+
+    public SummaryFilter getFilter() {
+        return filter;
+    }
+
+    public SummarySort getSort() {
+        return sort;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public boolean isIncludeTotal() {
+        return includeTotal;
+    }
+}
@@ -0,0 +1,33 @@
+package com.meditrack.authorization.domain.ports.in.query;
+
+import com.meditrack.authorization.domain.ports.in.useCase.ListPendingAuthorizationsUseCase.Cursor;
+
+/**
+ * Query: Página de autorizaciones pendientes
+ */
+public class ListPendingAuthorizationsQuery {
+
+    private final Cursor after;
+    private final Integer limit;
+
+    /**
+     * @param cursor Cursor opaco devuelto por la página anterior (null = primera página)
+     * @param limit Tamaño de página pedido (null = tamaño por defecto; el servidor lo acota)
+     */
+    public ListPendingAuthorizationsQuery(String cursor, Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a cero");
+        }
+
+        this.after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+        this.limit = limit;
+    }
+
+    public Cursor getAfter() {
+        return after;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,60 @@
+package com.meditrack.authorization.domain.ports.in.useCase;
+
+import com.meditrack.authorization.domain.models.CoverageEvaluation;
+import com.meditrack.authorization.domain.ports.in.command.BulkEvaluateMedicalAuthorizationsCommand;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Puerto de entrada: Caso de uso Evaluar Autorizaciones en Lote
+ */
+public interface BulkEvaluateMedicalAuthorizationsUseCase {
+
+    /**
+     * Evalúa varias autorizaciones; el fallo de una no aborta el resto
+     *
+     * @param command Lote de autorizaciones con su costo estimado
+     * @return Un resultado por elemento, en el mismo orden del lote
+     */
+    List<ItemResult> execute(BulkEvaluateMedicalAuthorizationsCommand command);
+
+    /**
+     * Resultado de un elemento del lote
+     */
+    class ItemResult {
+        private final UUID authorizationId;
+        private final CoverageEvaluation evaluation;
+        private final String errorMessage;
+
+        private ItemResult(UUID authorizationId, CoverageEvaluation evaluation, String errorMessage) {
+            this.authorizationId = authorizationId;
+            this.evaluation = evaluation;
+            this.errorMessage = errorMessage;
+        }
+
+        public static ItemResult success(CoverageEvaluation evaluation) {
+            return new ItemResult(evaluation.getAuthorizationId(), evaluation, null);
+        }
+
+        public static ItemResult failure(UUID authorizationId, String errorMessage) {
+            return new ItemResult(authorizationId, null, errorMessage);
+        }
+
+        public UUID getAuthorizationId() {
+            return authorizationId;
+        }
+
+        public CoverageEvaluation getEvaluation() {
+            return evaluation;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public boolean isSuccess() {
+            return evaluation != null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.meditrack.authorization.domain.ports.in.useCase;
+
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.command.ClaimPendingAuthorizationsCommand;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada: Caso de uso Tomar Autorizaciones Pendientes para Revisión
+ */
+public interface ClaimPendingAuthorizationsUseCase {
+
+    /**
+     * Toma las autorizaciones PENDIENTE más antiguas y las pasa a EN_REVISION con una reserva
+     * a nombre del usuario actual. Dos revisores nunca reciben la misma autorización
+     *
+     * @param command Cantidad a tomar
+     * @return Autorizaciones tomadas (puede ser vacía si no quedan libres)
+     */
+    List<MedicalAuthorization> execute(ClaimPendingAuthorizationsCommand command);
+
+    /**
+     * Devuelve a PENDIENTE las autorizaciones cuya reserva venció sin resolverse
+     *
+     * @return Número de autorizaciones liberadas
+     */
+    int releaseExpiredLeases();
+}
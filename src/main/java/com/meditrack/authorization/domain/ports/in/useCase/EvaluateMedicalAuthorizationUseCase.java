@@ -3,6 +3,8 @@ package com.meditrack.authorization.domain.ports.in.useCase;
 import com.meditrack.authorization.domain.models.CoverageEvaluation;
 import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Puerto de entrada: Caso de uso Evaluar Autorización Médica
  */
@@ -17,4 +19,13 @@ public interface EvaluateMedicalAuthorizationUseCase {
      * @throws IllegalArgumentException si la autorización no existe o ya fue evaluada
      */
     CoverageEvaluation execute(EvaluateMedicalAuthorizationCommand command);
+
+    /**
+     * Evalúa una autorización médica sin bloquear el hilo que la invoca
+     * mientras se espera la respuesta del servicio de seguros
+     *
+     * @param command Datos para la evaluación
+     * @return Future que se completa con la evaluación de cobertura creada
+     */
+    CompletableFuture<CoverageEvaluation> executeAsync(EvaluateMedicalAuthorizationCommand command);
 }
@@ -0,0 +1,18 @@
+package com.meditrack.authorization.domain.ports.in.useCase;
+
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.ports.in.query.GetEvaluationJobQuery;
+
+/**
+ * Puerto de entrada: Caso de uso Consultar Trabajo de Evaluación
+ */
+public interface GetEvaluationJobUseCase {
+
+    /**
+     * Obtiene el estado de un trabajo de evaluación
+     *
+     * @param query Query con el ID del trabajo
+     * @return Trabajo encontrado
+     */
+    EvaluationJob execute(GetEvaluationJobQuery query);
+}
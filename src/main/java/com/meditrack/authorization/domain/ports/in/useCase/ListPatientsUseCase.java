@@ -1,6 +1,7 @@
 package com.meditrack.authorization.domain.ports.in.useCase;
 
-import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.models.PatientSummary;
+import com.meditrack.authorization.domain.ports.in.query.ListPatientsQuery;
 
 import java.util.List;
 
@@ -10,9 +11,49 @@ import java.util.List;
 public interface ListPatientsUseCase {
 
     /**
-     * Lista todos los pacientes activos (no eliminados)
+     * Lista una página de pacientes activos (no eliminados)
      *
-     * @return Lista de pacientes
+     * @param query Filtros, orden y página
+     * @return Página de pacientes
      */
-    List<Patient> execute();
-}
\ No newline at end of file
+    PatientPage execute(ListPatientsQuery query);
+
+    /**
+     * Página de resultados; total es null si no se pidió
+     */
+    class PatientPage {
+        private final List<PatientSummary> items;
+        private final int page;
+        private final int size;
+        private final boolean hasNext;
+        private final Long total;
+
+        public PatientPage(List<PatientSummary> items, int page, int size, boolean hasNext, Long total) {
+            this.items = items;
+            this.page = page;
+            this.size = size;
+            this.hasNext = hasNext;
+            this.total = total;
+        }
+
+        public List<PatientSummary> getItems() {
+            return items;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        public Long getTotal() {
+            return total;
+        }
+    }
+}
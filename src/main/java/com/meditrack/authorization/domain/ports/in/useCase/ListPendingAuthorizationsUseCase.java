@@ -1,7 +1,13 @@
 package com.meditrack.authorization.domain.ports.in.useCase;
 import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.query.ListPendingAuthorizationsQuery;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Puerto de entrada: Caso de uso Listar Autorizaciones Pendientes
@@ -9,10 +15,75 @@ import java.util.List;
 public interface ListPendingAuthorizationsUseCase {
 
     /**
-     * Lista todas las autorizaciones pendientes
+     * Lista una página de autorizaciones pendientes, de la más antigua a la más reciente
      * Usado por médicos para ver qué autorizaciones requieren atención
      *
-     * @return Lista de autorizaciones pendientes
+     * @param query Cursor de la página anterior y tamaño de página
+     * @return Página de autorizaciones pendientes y cursor de la siguiente
      */
-    List<MedicalAuthorization> execute();
-}
\ No newline at end of file
+    PendingPage execute(ListPendingAuthorizationsQuery query);
+
+    /**
+     * Página de resultados; next es null en la última página
+     */
+    class PendingPage {
+        private final List<MedicalAuthorization> items;
+        private final Cursor next;
+
+        public PendingPage(List<MedicalAuthorization> items, Cursor next) {
+            this.items = items;
+            this.next = next;
+        }
+
+        public List<MedicalAuthorization> getItems() {
+            return items;
+        }
+
+        public Cursor getNext() {
+            return next;
+        }
+    }
+
+    /**
+     * Posición en el orden (requestDate, id): la página siguiente empieza justo después
+     * Se expone como texto opaco (Base64 URL-safe); su formato interno puede cambiar
+     */
+    class Cursor {
+        private final LocalDateTime requestDate;
+        private final UUID id;
+
+        public Cursor(LocalDateTime requestDate, UUID id) {
+            this.requestDate = requestDate;
+            this.id = id;
+        }
+
+        public static Cursor of(MedicalAuthorization authorization) {
+            return new Cursor(authorization.getRequestDate(), authorization.getId());
+        }
+
+        public String encode() {
+            String raw = requestDate + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor de paginación inválido");
+            }
+        }
+
+        public LocalDateTime getRequestDate() {
+            return requestDate;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.meditrack.authorization.domain.ports.in.useCase;
+
+import com.meditrack.authorization.domain.models.EvaluationJob;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada: Caso de uso Procesar Trabajos de Evaluación
+ * Lo invoca el worker que drena la cola
+ */
+public interface ProcessEvaluationJobUseCase {
+
+    /**
+     * Toma hasta {@code limit} trabajos en cola, marcándolos EN_PROCESO
+     *
+     * @param limit Máximo de trabajos a tomar (huecos libres del worker)
+     * @return Trabajos tomados por este proceso
+     */
+    List<EvaluationJob> claimNext(int limit);
+
+    /**
+     * Ejecuta la evaluación de un trabajo ya tomado y registra el resultado
+     *
+     * @param job Trabajo EN_PROCESO
+     * @return Trabajo COMPLETADO, FALLIDO o EN_COLA diferido
+     */
+    EvaluationJob execute(EvaluationJob job);
+
+    /**
+     * Devuelve a la cola los trabajos de este nodo interrumpidos por una parada del servicio
+     * y los de otros nodos cuya reserva ya venció
+     *
+     * @return Número de trabajos reencolados
+     */
+    int requeueInterrupted();
+
+    /**
+     * Devuelve a la cola los trabajos cuya reserva venció (nodo caído que no volvió a arrancar)
+     *
+     * @return Número de trabajos reencolados
+     */
+    int requeueExpired();
+}
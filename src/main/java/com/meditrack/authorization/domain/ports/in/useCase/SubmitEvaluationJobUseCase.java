@@ -0,0 +1,19 @@
+package com.meditrack.authorization.domain.ports.in.useCase;
+
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+
+/**
+ * Puerto de entrada: Caso de uso Encolar Evaluación Asíncrona
+ */
+public interface SubmitEvaluationJobUseCase {
+
+    /**
+     * Encola la evaluación de una autorización para procesarla en segundo plano
+     *
+     * @param command Datos de la evaluación
+     * @return Trabajo encolado
+     * @throws com.meditrack.authorization.domain.exceptions.TooManyRequestsException si la cola está llena
+     */
+    EvaluationJob execute(EvaluateMedicalAuthorizationCommand command);
+}
@@ -3,8 +3,10 @@ package com.meditrack.authorization.domain.ports.out;
 import com.meditrack.authorization.domain.models.CoverageEvaluation;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,6 +20,14 @@ public interface CoverageEvaluationRepositoryPort {
      */
     CoverageEvaluation save(CoverageEvaluation evaluation);
 
+    /**
+     * Inserta una evaluación nueva y la envía a la base de datos en el acto
+     *
+     * @throws com.meditrack.authorization.domain.exceptions.DuplicateResourceException
+     *         si la autorización ya tiene evaluación (restricción UNIQUE de authorization_id)
+     */
+    CoverageEvaluation insert(CoverageEvaluation evaluation);
+
     /**
      * Busca una evaluación por ID
      */
@@ -33,6 +43,16 @@ public interface CoverageEvaluationRepositoryPort {
      */
     boolean existsByAuthorizationId(UUID authorizationId);
 
+    /**
+     * De las autorizaciones dadas, devuelve las que ya tienen evaluación (una sola consulta)
+     */
+    Set<UUID> findEvaluatedAuthorizationIds(Collection<UUID> authorizationIds);
+
+    /**
+     * Inserta varias evaluaciones nuevas en lote (sentencias INSERT agrupadas)
+     */
+    void insertAll(List<CoverageEvaluation> evaluations);
+
     /**
      * Busca todas las evaluaciones aprobadas
      */
@@ -1,5 +1,7 @@
 package com.meditrack.authorization.domain.ports.out;
 
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
+
 import java.util.UUID;
 
 /**
@@ -15,4 +17,12 @@ public interface CurrentUserPort {
      * @throws IllegalStateException si no hay usuario autenticado
      */
     UUID getCurrentUserId();
+
+    /**
+     * Obtiene el usuario autenticado con su rol y paciente asociado (sin consultar la base de datos)
+     *
+     * @return Usuario autenticado
+     * @throws IllegalStateException si no hay usuario autenticado
+     */
+    AuthenticatedUser getCurrentUser();
 }
@@ -0,0 +1,72 @@
+package com.meditrack.authorization.domain.ports.out;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Puerto de salida: Repositorio de Trabajos de Evaluación
+ * La cola de evaluaciones asíncronas vive en base de datos para sobrevivir reinicios
+ */
+public interface EvaluationJobRepositoryPort {
+
+    /**
+     * Guarda un trabajo de evaluación
+     */
+    EvaluationJob save(EvaluationJob job);
+
+    /**
+     * Busca un trabajo por ID
+     */
+    Optional<EvaluationJob> findById(UUID id);
+
+    /**
+     * Cuenta trabajos en un estado (para control de capacidad de la cola)
+     */
+    long countByStatus(EvaluationJobStatus status);
+
+    /**
+     * Verifica si la autorización ya tiene un trabajo en cola o en proceso
+     */
+    boolean existsActiveByAuthorizationId(UUID authorizationId);
+
+    /**
+     * Busca los IDs de los trabajos en cola más antiguos que ya pueden tomarse
+     * (sin reintento diferido pendiente)
+     */
+    List<UUID> findQueuedIds(LocalDateTime now, int limit);
+
+    /**
+     * Pasa el trabajo de EN_COLA a EN_PROCESO, incrementa sus intentos y lo reserva para el nodo
+     *
+     * @return true si este proceso lo tomó, false si otro worker se adelantó
+     */
+    boolean markInProgressIfQueued(UUID id, String owner, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Registra el resultado (COMPLETADO, FALLIDO o EN_COLA diferido) si el trabajo
+     * sigue reservado por el nodo dado
+     *
+     * @return false si la reserva venció y el trabajo ya no es de este nodo
+     */
+    boolean saveResultIfClaimedBy(EvaluationJob job, String owner);
+
+    /**
+     * Devuelve a la cola los trabajos EN_PROCESO del nodo dado (p. ej. tras su reinicio)
+     * y los de cualquier nodo cuya reserva ya venció
+     *
+     * @return Número de trabajos reencolados
+     */
+    int requeueInProgress(String owner, LocalDateTime now);
+
+    /**
+     * Devuelve a la cola los trabajos EN_PROCESO cuya reserva venció
+     *
+     * @return Número de trabajos reencolados
+     */
+    int requeueExpired(LocalDateTime now);
+}
@@ -4,6 +4,7 @@ import com.meditrack.authorization.domain.enums.AffiliationType;
 import com.meditrack.authorization.domain.enums.ServiceType;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Puerto de salida: Servicio de Validación de Seguros
@@ -27,6 +28,23 @@ public interface InsuranceValidationServicePort {
             BigDecimal estimatedCost
     );
 
+    /**
+     * Valida la cobertura de forma asíncrona (no bloquea el hilo que la invoca)
+     *
+     * @param patientDocumentNumber Número de documento del paciente
+     * @param affiliationType Tipo de afiliación del paciente
+     * @param serviceType Tipo de servicio médico
+     * @param estimatedCost Costo estimado del servicio
+     * @return Future que se completa con el resultado de la validación,
+     *         o excepcionalmente con ExternalServiceException si el servicio falla
+     */
+    CompletableFuture<InsuranceValidationResult> validateCoverageAsync(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost
+    );
+
     /**
      * Resultado de la validación de seguros
      */
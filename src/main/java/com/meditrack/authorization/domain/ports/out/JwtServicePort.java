@@ -16,9 +16,10 @@ public interface JwtServicePort {
      * @param userId ID del usuario
      * @param username Nombre de usuario
      * @param role Rol del usuario
+     * @param patientId ID del paciente asociado (null si el usuario no es paciente)
      * @return Token JWT generado
      */
-    String generateToken(UUID userId, String username, UserRole role);
+    String generateToken(UUID userId, String username, UserRole role, UUID patientId);
 
     /**
      * Extrae el userId de un token JWT
@@ -5,6 +5,7 @@ import com.meditrack.authorization.domain.enums.ServiceType;
 import com.meditrack.authorization.domain.models.MedicalAuthorization;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +21,13 @@ public interface MedicalAuthorizationRepositoryPort {
      */
     MedicalAuthorization save(MedicalAuthorization authorization);
 
+    /**
+     * Cambia el estado solo si la autorización sigue en el estado esperado (control optimista)
+     *
+     * @return true si se actualizó, false si otro proceso la modificó antes
+     */
+    boolean updateStatusIfUnchanged(UUID id, AuthorizationStatus expectedStatus, AuthorizationStatus newStatus);
+
     /**
      * Busca una autorización por ID
      */
@@ -30,6 +38,22 @@ public interface MedicalAuthorizationRepositoryPort {
      */
     Optional<MedicalAuthorization> findByIdAndNotDeleted(UUID id);
 
+    /**
+     * Busca varias autorizaciones por ID (no eliminadas) en una sola consulta
+     */
+    List<MedicalAuthorization> findAllByIdsAndNotDeleted(Collection<UUID> ids);
+
+    /**
+     * Busca varias autorizaciones aún evaluables (PENDIENTE o EN_REVISION) y las bloquea
+     * hasta el fin de la transacción, para cambiar su estado sin carreras
+     */
+    List<MedicalAuthorization> findEvaluableByIdsForUpdate(Collection<UUID> ids);
+
+    /**
+     * Guarda el nuevo estado de varias autorizaciones (sentencias UPDATE en lote)
+     */
+    void updateStatuses(List<MedicalAuthorization> authorizations);
+
     /**
      * Busca autorizaciones por paciente (no eliminadas)
      */
@@ -103,4 +127,40 @@ public interface MedicalAuthorizationRepositoryPort {
      * @return Lista de autorizaciones con el estado especificado
      */
     List<MedicalAuthorization> findByStatus(AuthorizationStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Página por keyset de autorizaciones no eliminadas en un estado, ordenadas por (requestDate, id)
+     *
+     * @param status Estado de la autorización
+     * @param afterRequestDate Fecha de la última fila de la página anterior (null = primera página)
+     * @param afterId ID de la última fila de la página anterior
+     * @param limit Máximo de filas a devolver
+     * @return Autorizaciones posteriores a la posición dada
+     */
+    List<MedicalAuthorization> findByStatusAfter(
+            AuthorizationStatus status,
+            LocalDateTime afterRequestDate,
+            UUID afterId,
+            int limit
+    );
+
+    /**
+     * Toma para revisión las autorizaciones PENDIENTE más antiguas: las pasa a EN_REVISION
+     * con reserva a nombre de owner. Las filas que otra transacción está tomando se saltan,
+     * así varios revisores o nodos nunca reciben la misma autorización
+     *
+     * @param owner Dueño de la reserva
+     * @param leaseExpiresAt Vencimiento de la reserva
+     * @param limit Máximo de autorizaciones a tomar
+     * @return Autorizaciones tomadas (puede ser vacía)
+     */
+    List<MedicalAuthorization> claimPendingForReview(String owner, LocalDateTime leaseExpiresAt, int limit);
+
+    /**
+     * Devuelve a PENDIENTE las autorizaciones cuya reserva de revisión venció
+     *
+     * @param now Instante de referencia
+     * @return Cantidad de autorizaciones liberadas
+     */
+    int releaseExpiredLeases(LocalDateTime now);
+}
@@ -22,4 +22,13 @@ public interface PasswordEncoderPort {
      * @return true si coinciden
      */
     boolean matches(String rawPassword, String encodedPassword);
-}
\ No newline at end of file
+
+    /**
+     * Indica si la contraseña encriptada usa un algoritmo o costo anterior al configurado
+     * y conviene volver a encriptarla (solo tiene sentido tras verificarla con matches)
+     *
+     * @param encodedPassword Contraseña encriptada
+     * @return true si debe volver a encriptarse
+     */
+    boolean upgradeEncoding(String encodedPassword);
+}
@@ -3,8 +3,11 @@ package com.meditrack.authorization.domain.ports.out;
 import com.meditrack.authorization.domain.enums.AffiliationStatus;
 import com.meditrack.authorization.domain.enums.AffiliationType;
 import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.models.PatientSummary;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -59,6 +62,11 @@ public interface PatientRepositoryPort {
      */
     List<Patient> findByAffiliationStatusAndNotDeleted(AffiliationStatus status);
 
+    /**
+     * Busca varios pacientes por ID (no eliminados) en una sola consulta
+     */
+    List<Patient> findAllByIdsAndNotDeleted(Collection<UUID> ids);
+
     /**
      * Cuenta pacientes por tipo de afiliación
      */
@@ -68,4 +76,93 @@ public interface PatientRepositoryPort {
      * Elimina un paciente por ID
      */
     void deleteById(UUID id);
-}
\ No newline at end of file
+
+    /**
+     * Página de pacientes no eliminados como proyección (solo las columnas del listado)
+     *
+     * @param filter Filtros opcionales
+     * @param sort Campo de orden (el ID desempata)
+     * @param ascending Dirección del orden
+     * @param page Número de página (desde 0)
+     * @param size Tamaño de página
+     * @return Pacientes de la página e indicador de página siguiente (sin COUNT)
+     */
+    SummarySlice findSummaries(SummaryFilter filter, SummarySort sort, boolean ascending, int page, int size);
+
+    /**
+     * Cuenta los pacientes no eliminados que cumplen los filtros
+     */
+    long countSummaries(SummaryFilter filter);
+
+    /**
+     * Campos por los que se puede ordenar el listado
+     */
+    enum SummarySort {
+        LAST_NAME,
+        DOCUMENT_NUMBER,
+        AFFILIATION_DATE
+    }
+
+    /**
+     * Filtros del listado; null = sin filtrar por ese campo
+     */
+    class SummaryFilter {
+        private final AffiliationStatus affiliationStatus;
+        private final AffiliationType affiliationType;
+        private final String documentPrefix;
+
+        public SummaryFilter(AffiliationStatus affiliationStatus, AffiliationType affiliationType, String documentPrefix) {
+            this.affiliationStatus = affiliationStatus;
+            this.affiliationType = affiliationType;
+            this.documentPrefix = documentPrefix;
+        }
+
+        public AffiliationStatus getAffiliationStatus() {
+            return affiliationStatus;
+        }
+
+        public AffiliationType getAffiliationType() {
+            return affiliationType;
+        }
+
+        public String getDocumentPrefix() {
+            return documentPrefix;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SummaryFilter)) return false;
+            SummaryFilter that = (SummaryFilter) o;
+            return affiliationStatus == that.affiliationStatus
+                    && affiliationType == that.affiliationType
+                    && Objects.equals(documentPrefix, that.documentPrefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(affiliationStatus, affiliationType, documentPrefix);
+        }
+    }
+
+    /**
+     * Página sin total: los pacientes y si hay una página siguiente
+     */
+    class SummarySlice {
+        private final List<PatientSummary> items;
+        private final boolean hasNext;
+
+        public SummarySlice(List<PatientSummary> items, boolean hasNext) {
+            this.items = items;
+            this.hasNext = hasNext;
+        }
+
+        public List<PatientSummary> getItems() {
+            return items;
+        }
+
+        public boolean hasNext() {
+            return hasNext;
+        }
+    }
+}
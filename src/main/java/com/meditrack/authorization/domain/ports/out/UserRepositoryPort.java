@@ -58,6 +58,14 @@ public interface UserRepositoryPort {
      */
     List<User> findAllActive();
 
+    /**
+     * Reemplaza solo el hash de la contraseña, si sigue siendo el esperado y el usuario
+     * está activo; el resto del usuario no se toca
+     *
+     * @return false si el hash cambió entretanto o el usuario ya no está activo
+     */
+    boolean updatePasswordHash(UUID id, String expectedPasswordHash, String newPasswordHash);
+
     /**
      * Elimina un usuario por ID
      */
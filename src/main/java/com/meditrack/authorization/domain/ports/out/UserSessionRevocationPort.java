@@ -0,0 +1,17 @@
+package com.meditrack.authorization.domain.ports.out;
+
+import java.util.UUID;
+
+/**
+ * Puerto de salida: Revocación de Sesiones
+ * Invalida los tokens ya emitidos de un usuario (por ejemplo, al desactivarlo)
+ */
+public interface UserSessionRevocationPort {
+
+    /**
+     * Revoca todas las sesiones emitidas hasta ahora para el usuario
+     *
+     * @param userId ID del usuario
+     */
+    void revokeSessions(UUID userId);
+}
@@ -8,12 +8,14 @@ import com.meditrack.authorization.domain.ports.in.useCase.RegisterUserUseCase;
 import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.AuthResponse;
 import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.LoginRequest;
 import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.RegisterRequest;
+import com.meditrack.authorization.infrastructure.security.LoginAttemptLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,12 +32,15 @@ public class AuthController {
 
     private final RegisterUserUseCase registerUserUseCase;
     private final LoginUserUseCase loginUserUseCase;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     public AuthController(
             RegisterUserUseCase registerUserUseCase,
-            LoginUserUseCase loginUserUseCase) {
+            LoginUserUseCase loginUserUseCase,
+            LoginAttemptLimiter loginAttemptLimiter) {
         this.registerUserUseCase = registerUserUseCase;
         this.loginUserUseCase = loginUserUseCase;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
     /**
@@ -111,20 +116,31 @@ public class AuthController {
                     responseCode = "400",
                     description = "Credenciales inválidas",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Demasiados intentos para el usuario o la IP (ver Retry-After)",
+                    content = @Content
             )
     })
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
 
-        // 1. Crear el command desde el request
+        // 1. Limitar intentos antes de tocar la base de datos o BCrypt
+        loginAttemptLimiter.checkAndRecord(request.getUsername(), httpRequest.getRemoteAddr());
+
+        // 2. Crear el command desde el request
         LoginUserCommand command = new LoginUserCommand(
                 request.getUsername(),
                 request.getPassword()
         );
 
-        // 2. Ejecutar el caso de uso
+        // 3. Ejecutar el caso de uso
         LoginUserUseCase.LoginResult loginResult = loginUserUseCase.execute(command);
+        loginAttemptLimiter.recordSuccess(request.getUsername());
 
-        // 3. Crear la respuesta
+        // 4. Crear la respuesta
         AuthResponse response = AuthResponse.fromUser(
                 loginResult.getUser(),
                 loginResult.getToken()
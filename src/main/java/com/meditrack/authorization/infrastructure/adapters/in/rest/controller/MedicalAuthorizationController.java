@@ -1,7 +1,10 @@
 package com.meditrack.authorization.infrastructure.adapters.in.rest.controller;
 
 import com.meditrack.authorization.domain.models.CoverageEvaluation;
+import com.meditrack.authorization.domain.models.EvaluationJob;
 import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.command.BulkEvaluateMedicalAuthorizationsCommand;
+import com.meditrack.authorization.domain.ports.in.command.ClaimPendingAuthorizationsCommand;
 import com.meditrack.authorization.domain.ports.in.command.CreateMedicalAuthorizationCommand;
 import com.meditrack.authorization.domain.ports.in.useCase.CreateMedicalAuthorizationUseCase;
 import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
@@ -17,7 +20,9 @@ import com.meditrack.authorization.domain.ports.in.command.CreateMedicalAuthoriz
 import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
 import com.meditrack.authorization.domain.ports.in.command.UpdateAuthorizationStatusCommand;
 import com.meditrack.authorization.domain.ports.in.query.GetAuthorizationByIdQuery;
+import com.meditrack.authorization.domain.ports.in.query.GetEvaluationJobQuery;
 import com.meditrack.authorization.domain.ports.in.query.ListAuthorizationsByPatientQuery;
+import com.meditrack.authorization.domain.ports.in.query.ListPendingAuthorizationsQuery;
 import com.meditrack.authorization.domain.ports.in.useCase.*;
 import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
 import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.*;
@@ -34,8 +39,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +61,10 @@ public class MedicalAuthorizationController {
     private final GetAuthorizationByIdUseCase getAuthorizationByIdUseCase;
     private final ListAuthorizationsByPatientUseCase listByPatientUseCase;
     private final ListPendingAuthorizationsUseCase listPendingUseCase;
+    private final ClaimPendingAuthorizationsUseCase claimPendingUseCase;
+    private final SubmitEvaluationJobUseCase submitEvaluationJobUseCase;
+    private final GetEvaluationJobUseCase getEvaluationJobUseCase;
+    private final BulkEvaluateMedicalAuthorizationsUseCase bulkEvaluateUseCase;
     private final CurrentUserPort currentUserPort;
 
     public MedicalAuthorizationController(
@@ -63,6 +74,10 @@ public class MedicalAuthorizationController {
             GetAuthorizationByIdUseCase getAuthorizationByIdUseCase,
             ListAuthorizationsByPatientUseCase listByPatientUseCase,
             ListPendingAuthorizationsUseCase listPendingUseCase,
+            ClaimPendingAuthorizationsUseCase claimPendingUseCase,
+            SubmitEvaluationJobUseCase submitEvaluationJobUseCase,
+            GetEvaluationJobUseCase getEvaluationJobUseCase,
+            BulkEvaluateMedicalAuthorizationsUseCase bulkEvaluateUseCase,
             CurrentUserPort currentUserPort) {
         this.createAuthorizationUseCase = createAuthorizationUseCase;
         this.evaluateAuthorizationUseCase = evaluateAuthorizationUseCase;
@@ -70,6 +85,10 @@ public class MedicalAuthorizationController {
         this.getAuthorizationByIdUseCase = getAuthorizationByIdUseCase;
         this.listByPatientUseCase = listByPatientUseCase;
         this.listPendingUseCase = listPendingUseCase;
+        this.claimPendingUseCase = claimPendingUseCase;
+        this.submitEvaluationJobUseCase = submitEvaluationJobUseCase;
+        this.getEvaluationJobUseCase = getEvaluationJobUseCase;
+        this.bulkEvaluateUseCase = bulkEvaluateUseCase;
         this.currentUserPort = currentUserPort;
     }
 
@@ -160,29 +179,177 @@ public class MedicalAuthorizationController {
                     description = "Autorización no encontrada",
                     content = @Content
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Reservada para revisión por otro usuario o modificada por otra operación",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Error al comunicarse con el servicio de seguros",
                     content = @Content
             )
     })
-    public ResponseEntity<EvaluationResponse> evaluateAuthorization(
+    public CompletableFuture<ResponseEntity<EvaluationResponse>> evaluateAuthorization(
             @PathVariable UUID id,
             @Valid @RequestBody EvaluateAuthorizationRequest request) {
 
         // 1. Crear el command
         EvaluateMedicalAuthorizationCommand command = new EvaluateMedicalAuthorizationCommand(
                 id,
-                request.getEstimatedCost()
+                request.getEstimatedCost(),
+                currentUserPort.getCurrentUserId()
         );
 
-        // 2. Ejecutar el caso de uso (llama al servicio externo)
-        CoverageEvaluation evaluation = evaluateAuthorizationUseCase.execute(command);
+        // 2. Ejecutar el caso de uso sin bloquear el hilo HTTP mientras responde el seguro
+        // 3. Crear la respuesta cuando la evaluación termine
+        return evaluateAuthorizationUseCase.executeAsync(command)
+                .thenApply(evaluation -> ResponseEntity.ok(EvaluationResponse.fromDomain(evaluation)));
+    }
 
-        // 3. Crear la respuesta
-        EvaluationResponse response = EvaluationResponse.fromDomain(evaluation);
+    /**
+     * POST /api/authorizations/{id}/evaluate?mode=async
+     * Encola la evaluación y responde de inmediato con la URL de estado (Admin y Médico)
+     */
+    @PostMapping(value = "/{id}/evaluate", params = "mode=async")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MEDICO')")
+    @Operation(
+            summary = "Evaluar autorización en segundo plano",
+            description = "Encola la evaluación con el servicio de seguros y devuelve 202 con la URL para consultar su estado. Solo accesible para ADMIN y MEDICO."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Evaluación encolada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EvaluationJobResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Autorización ya evaluada o datos inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Autorización no encontrada",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Ya hay una evaluación en curso o la reservó otro revisor",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Cola de evaluaciones llena (ver cabecera Retry-After)",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<EvaluationJobResponse> submitEvaluation(
+            @PathVariable UUID id,
+            @Valid @RequestBody EvaluateAuthorizationRequest request) {
 
-        return ResponseEntity.ok(response);
+        // 1. Crear el command
+        EvaluateMedicalAuthorizationCommand command = new EvaluateMedicalAuthorizationCommand(
+                id,
+                request.getEstimatedCost(),
+                currentUserPort.getCurrentUserId()
+        );
+
+        // 2. Encolar la evaluación
+        EvaluationJob job = submitEvaluationJobUseCase.execute(command);
+
+        // 3. Responder 202 con la URL de estado
+        String statusUrl = evaluationJobUrl(job.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create(statusUrl))
+                .body(EvaluationJobResponse.fromDomain(job, statusUrl));
+    }
+
+    /**
+     * GET /api/authorizations/evaluation-jobs/{jobId}
+     * Consulta el estado de una evaluación asíncrona (Admin y Médico)
+     */
+    @GetMapping("/evaluation-jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MEDICO')")
+    @Operation(
+            summary = "Consultar evaluación asíncrona",
+            description = "Devuelve el estado de un trabajo de evaluación encolado. Solo accesible para ADMIN y MEDICO."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estado del trabajo",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EvaluationJobResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Trabajo no encontrado",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<EvaluationJobResponse> getEvaluationJob(@PathVariable UUID jobId) {
+
+        // 1. Ejecutar el caso de uso
+        EvaluationJob job = getEvaluationJobUseCase.execute(new GetEvaluationJobQuery(jobId));
+
+        // 2. Crear la respuesta
+        return ResponseEntity.ok(EvaluationJobResponse.fromDomain(job, evaluationJobUrl(job.getId())));
+    }
+
+    /**
+     * POST /api/authorizations/evaluations/bulk
+     * Evalúa varias autorizaciones en una sola petición (Solo Admin)
+     */
+    @PostMapping("/evaluations/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Evaluar autorizaciones en lote",
+            description = "Evalúa un lote de autorizaciones con el servicio de seguros. Devuelve un resultado por elemento: un fallo no aborta el resto. Solo accesible para ADMIN."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote procesado (revisar el resultado de cada elemento)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkEvaluationResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lote vacío, repetido o demasiado grande",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Acceso denegado (requiere rol ADMIN)",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<BulkEvaluationResponse> bulkEvaluate(
+            @Valid @RequestBody BulkEvaluateAuthorizationsRequest request) {
+
+        // 1. Crear el command
+        UUID reviewerId = currentUserPort.getCurrentUserId();
+        BulkEvaluateMedicalAuthorizationsCommand command = new BulkEvaluateMedicalAuthorizationsCommand(
+                request.getItems().stream()
+                        .map(item -> new EvaluateMedicalAuthorizationCommand(
+                                item.getAuthorizationId(),
+                                item.getEstimatedCost(),
+                                reviewerId
+                        ))
+                        .collect(Collectors.toList())
+        );
+
+        // 2. Ejecutar el caso de uso
+        // 3. Crear la respuesta
+        return ResponseEntity.ok(BulkEvaluationResponse.fromDomain(bulkEvaluateUseCase.execute(command)));
     }
 
     /**
@@ -193,12 +360,19 @@ public class MedicalAuthorizationController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MEDICO')")
     @Operation(
             summary = "Listar autorizaciones pendientes",
-            description = "Lista todas las autorizaciones en estado PENDIENTE. Solo accesible para ADMIN y MEDICO."
+            description = "Lista por páginas las autorizaciones en estado PENDIENTE, de la más antigua a la más " +
+                    "reciente. Para la página siguiente se envía el nextCursor de la respuesta anterior. " +
+                    "Solo accesible para ADMIN y MEDICO."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Lista de autorizaciones pendientes obtenida exitosamente"
+                    description = "Página de autorizaciones pendientes obtenida exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor o tamaño de página inválido",
+                    content = @Content
             ),
             @ApiResponse(
                     responseCode = "403",
@@ -206,13 +380,57 @@ public class MedicalAuthorizationController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<AuthorizationResponse>> listPendingAuthorizations() {
+    public ResponseEntity<AuthorizationPageResponse> listPendingAuthorizations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
-        // 1. Ejecutar el caso de uso
-        List<MedicalAuthorization> authorizations = listPendingUseCase.execute();
+        // 1. Crear la query (el servidor acota el tamaño de página)
+        ListPendingAuthorizationsQuery query = new ListPendingAuthorizationsQuery(cursor, limit);
 
-        // 2. Convertir a DTOs
-        List<AuthorizationResponse> response = authorizations.stream()
+        // 2. Ejecutar el caso de uso
+        // 3. Convertir a DTO
+        return ResponseEntity.ok(AuthorizationPageResponse.fromDomain(listPendingUseCase.execute(query)));
+    }
+
+    /**
+     * POST /api/authorizations/claims
+     * Toma autorizaciones pendientes para revisión (Admin y Médico)
+     */
+    @PostMapping("/claims")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MEDICO')")
+    @Operation(
+            summary = "Tomar autorizaciones pendientes para revisión",
+            description = "Pasa a EN_REVISION las autorizaciones PENDIENTE más antiguas y las reserva a nombre " +
+                    "del usuario actual. Dos revisores nunca reciben la misma autorización; si la reserva vence " +
+                    "sin resolverse, la autorización vuelve a PENDIENTE. Solo accesible para ADMIN y MEDICO."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Autorizaciones tomadas (lista vacía si no quedan pendientes libres)"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cantidad inválida",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Acceso denegado",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<List<AuthorizationResponse>> claimPendingAuthorizations(
+            @RequestParam(required = false) Integer limit) {
+
+        // 1. Crear el command (el servidor acota la cantidad)
+        ClaimPendingAuthorizationsCommand command = new ClaimPendingAuthorizationsCommand(limit);
+
+        // 2. Ejecutar el caso de uso
+        List<MedicalAuthorization> claimed = claimPendingUseCase.execute(command);
+
+        // 3. Convertir a DTOs
+        List<AuthorizationResponse> response = claimed.stream()
                 .map(AuthorizationResponse::fromDomain)
                 .collect(Collectors.toList());
 
@@ -333,6 +551,11 @@ public class MedicalAuthorizationController {
                     description = "Autorización no encontrada",
                     content = @Content
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Reservada para revisión por otro usuario o modificada por otra operación",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "Acceso denegado (requiere rol ADMIN)",
@@ -357,4 +580,8 @@ public class MedicalAuthorizationController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private String evaluationJobUrl(UUID jobId) {
+        return "/api/authorizations/evaluation-jobs/" + jobId;
+    }
+}
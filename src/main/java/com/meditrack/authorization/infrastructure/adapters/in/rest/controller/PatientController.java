@@ -1,10 +1,15 @@
 package com.meditrack.authorization.infrastructure.adapters.in.rest.controller;
 
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
 import com.meditrack.authorization.domain.models.Patient;
 import com.meditrack.authorization.domain.ports.in.command.RegisterPatientCommand;
 import com.meditrack.authorization.domain.ports.in.command.UpdatePatientCommand;
 import com.meditrack.authorization.domain.ports.in.query.GetPatientByIdQuery;
+import com.meditrack.authorization.domain.ports.in.query.ListPatientsQuery;
 import com.meditrack.authorization.domain.ports.in.useCase.*;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummarySort;
+import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.PatientPageResponse;
 import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.PatientResponse;
 import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.RegisterPatientRequest;
 import com.meditrack.authorization.infrastructure.adapters.in.rest.dto.UpdatePatientRequest;
@@ -21,9 +26,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Controller REST: Gestión de Pacientes
@@ -118,17 +121,23 @@ public class PatientController {
 
     /**
      * GET /api/patients
-     * Lista todos los pacientes
+     * Lista los pacientes por páginas, con filtros y orden
      */
     @GetMapping
     @Operation(
             summary = "Listar pacientes",
-            description = "Lista todos los pacientes activos. ADMIN y MEDICO ven todos, PACIENTE solo ve su propia información."
+            description = "Lista por páginas los pacientes activos, con filtros por estado, tipo y prefijo de documento. " +
+                    "El total solo se calcula con includeTotal=true. ADMIN y MEDICO ven todos, PACIENTE solo ve su propia información."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Lista de pacientes obtenida exitosamente"
+                    description = "Página de pacientes obtenida exitosamente"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Filtro, página o tamaño de página inválido",
+                    content = @Content
             ),
             @ApiResponse(
                     responseCode = "403",
@@ -136,17 +145,23 @@ public class PatientController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<PatientResponse>> listPatients() {
+    public ResponseEntity<PatientPageResponse> listPatients(
+            @RequestParam(required = false) AffiliationStatus status,
+            @RequestParam(required = false) AffiliationType type,
+            @RequestParam(required = false) String documentPrefix,
+            @RequestParam(defaultValue = "LAST_NAME") SummarySort sort,
+            @RequestParam(defaultValue = "true") boolean ascending,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        // 1. Ejecutar el caso de uso
-        List<Patient> patients = listPatientsUseCase.execute();
-
-        // 2. Convertir a DTOs
-        List<PatientResponse> response = patients.stream()
-                .map(PatientResponse::fromDomain)
-                .collect(Collectors.toList());
+        // 1. Crear la query (el servidor acota el tamaño de página)
+        ListPatientsQuery query = new ListPatientsQuery(
+                status, type, documentPrefix, sort, ascending, page, size, includeTotal);
 
-        return ResponseEntity.ok(response);
+        // 2. Ejecutar el caso de uso
+        // 3. Convertir a DTO
+        return ResponseEntity.ok(PatientPageResponse.fromDomain(listPatientsUseCase.execute(query)));
     }
 
     /**
@@ -0,0 +1,56 @@
+package com.meditrack.authorization.infrastructure.adapters.in.rest.dto;
+
+import com.meditrack.authorization.domain.ports.in.useCase.ListPendingAuthorizationsUseCase.PendingPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO: Response con una página de autorizaciones médicas
+ */
+@Schema(description = "Página de autorizaciones médicas")
+public class AuthorizationPageResponse {
+
+    @Schema(description = "Autorizaciones de la página, de la más antigua a la más reciente")
+    private List<AuthorizationResponse> items;
+
+    @Schema(description = "Cursor opaco para pedir la página siguiente; null si es la última",
+            example = "MjAyNC0wMS0yOFQxMDozMDp8MTIzZTQ1NjctZTg5Yi0xMmQzLWE0NTYtNDI2NjE0MTc0MDAw")
+    private String nextCursor;
+
+    // Constructores
+    public AuthorizationPageResponse() {
+    }
+
+    public AuthorizationPageResponse(List<AuthorizationResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Crea un AuthorizationPageResponse desde la página del caso de uso
+     */
+    public static AuthorizationPageResponse fromDomain(PendingPage page) {
+        List<AuthorizationResponse> items = page.getItems().stream()
+                .map(AuthorizationResponse::fromDomain)
+                .toList();
+        return new AuthorizationPageResponse(items, page.getNext() != null ? page.getNext().encode() : null);
+    }
+
+    // Getters y Setters
+    public List<AuthorizationResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<AuthorizationResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
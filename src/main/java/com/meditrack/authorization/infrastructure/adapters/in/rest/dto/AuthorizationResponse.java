@@ -35,6 +35,12 @@ public class AuthorizationResponse {
     @Schema(description = "ID del solicitante", example = "660e8400-e29b-41d4-a716-446655440000")
     private UUID requestedBy;
 
+    @Schema(description = "Quién la tomó para revisión; null si nadie", example = "660e8400-e29b-41d4-a716-446655440000")
+    private String leaseOwner;
+
+    @Schema(description = "Vencimiento de la reserva de revisión; al vencer vuelve a PENDIENTE", example = "2024-01-28T10:45:00")
+    private LocalDateTime leaseExpiresAt;
+
     // Constructores
     public AuthorizationResponse() {
     }
@@ -55,7 +61,7 @@ public class AuthorizationResponse {
      * Crea un AuthorizationResponse desde un MedicalAuthorization del dominio
      */
     public static AuthorizationResponse fromDomain(MedicalAuthorization authorization) {
-        return new AuthorizationResponse(
+        AuthorizationResponse response = new AuthorizationResponse(
                 authorization.getId(),
                 authorization.getPatientId(),
                 authorization.getServiceType(),
@@ -64,6 +70,9 @@ public class AuthorizationResponse {
                 authorization.getStatus(),
                 authorization.getRequestedBy()
         );
+        response.setLeaseOwner(authorization.getLeaseOwner());
+        response.setLeaseExpiresAt(authorization.getLeaseExpiresAt());
+        return response;
     }
 
     // Getters y Setters
@@ -122,4 +131,20 @@ public class AuthorizationResponse {
     public void setRequestedBy(UUID requestedBy) {
         this.requestedBy = requestedBy;
     }
-}
\ No newline at end of file
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+}
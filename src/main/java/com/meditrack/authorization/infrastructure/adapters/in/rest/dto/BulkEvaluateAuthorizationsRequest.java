@@ -0,0 +1,80 @@
+package com.meditrack.authorization.infrastructure.adapters.in.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO: Request para evaluar varias autorizaciones en lote
+ */
+@Schema(description = "Lote de autorizaciones a evaluar con el servicio de seguros")
+public class BulkEvaluateAuthorizationsRequest {
+
+    @Schema(description = "Autorizaciones y su costo estimado", required = true)
+    @NotEmpty(message = "El lote debe contener al menos una autorización")
+    @Valid
+    private List<Item> items;
+
+    // Constructores
+    public BulkEvaluateAuthorizationsRequest() {
+    }
+
+    public BulkEvaluateAuthorizationsRequest(List<Item> items) {
+        this.items = items;
+    }
+
+    // Getters y Setters
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    /**
+     * Elemento del lote
+     */
+    @Schema(name = "BulkEvaluationItem", description = "Autorización a evaluar")
+    public static class Item {
+
+        @Schema(description = "ID de la autorización", example = "550e8400-e29b-41d4-a716-446655440000", required = true)
+        @NotNull(message = "El ID de la autorización es obligatorio")
+        private UUID authorizationId;
+
+        @Schema(description = "Costo estimado del servicio", example = "250000", required = true)
+        @NotNull(message = "El costo estimado es obligatorio")
+        @Positive(message = "El costo estimado debe ser mayor a cero")
+        private BigDecimal estimatedCost;
+
+        public Item() {
+        }
+
+        public Item(UUID authorizationId, BigDecimal estimatedCost) {
+            this.authorizationId = authorizationId;
+            this.estimatedCost = estimatedCost;
+        }
+
+        public UUID getAuthorizationId() {
+            return authorizationId;
+        }
+
+        public void setAuthorizationId(UUID authorizationId) {
+            this.authorizationId = authorizationId;
+        }
+
+        public BigDecimal getEstimatedCost() {
+            return estimatedCost;
+        }
+
+        public void setEstimatedCost(BigDecimal estimatedCost) {
+            this.estimatedCost = estimatedCost;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.meditrack.authorization.infrastructure.adapters.in.rest.dto;
+
+import com.meditrack.authorization.domain.ports.in.useCase.BulkEvaluateMedicalAuthorizationsUseCase.ItemResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * DTO: Response de una evaluación en lote, con un resultado por elemento
+ */
+@Schema(description = "Resultado de la evaluación en lote")
+public class BulkEvaluationResponse {
+
+    @Schema(description = "Elementos recibidos", example = "3")
+    private int total;
+
+    @Schema(description = "Elementos evaluados correctamente", example = "2")
+    private int succeeded;
+
+    @Schema(description = "Elementos con error", example = "1")
+    private int failed;
+
+    @Schema(description = "Resultado de cada elemento, en el orden recibido")
+    private List<Item> results;
+
+    // Constructores
+    public BulkEvaluationResponse() {
+    }
+
+    public BulkEvaluationResponse(int total, int succeeded, int failed, List<Item> results) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    /**
+     * Crea un BulkEvaluationResponse desde los resultados del caso de uso
+     */
+    public static BulkEvaluationResponse fromDomain(List<ItemResult> itemResults) {
+        List<Item> results = itemResults.stream()
+                .map(Item::fromDomain)
+                .collect(Collectors.toList());
+        int succeeded = (int) results.stream().filter(Item::isSuccess).count();
+        return new BulkEvaluationResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+
+    // Getters y Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Item> results) {
+        this.results = results;
+    }
+
+    /**
+     * Resultado de un elemento del lote
+     */
+    @Schema(name = "BulkEvaluationItemResult", description = "Resultado de una autorización del lote")
+    public static class Item {
+
+        @Schema(description = "ID de la autorización", example = "550e8400-e29b-41d4-a716-446655440000")
+        private UUID authorizationId;
+
+        @Schema(description = "Si la evaluación se completó", example = "true")
+        private boolean success;
+
+        @Schema(description = "Evaluación generada (si success = true)")
+        private EvaluationResponse evaluation;
+
+        @Schema(description = "Motivo del error (si success = false)")
+        private String error;
+
+        public Item() {
+        }
+
+        public Item(UUID authorizationId, boolean success, EvaluationResponse evaluation, String error) {
+            this.authorizationId = authorizationId;
+            this.success = success;
+            this.evaluation = evaluation;
+            this.error = error;
+        }
+
+        public static Item fromDomain(ItemResult result) {
+            return new Item(
+                    result.getAuthorizationId(),
+                    result.isSuccess(),
+                    result.isSuccess() ? EvaluationResponse.fromDomain(result.getEvaluation()) : null,
+                    result.getErrorMessage()
+            );
+        }
+
+        public UUID getAuthorizationId() {
+            return authorizationId;
+        }
+
+        public void setAuthorizationId(UUID authorizationId) {
+            this.authorizationId = authorizationId;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public EvaluationResponse getEvaluation() {
+            return evaluation;
+        }
+
+        public void setEvaluation(EvaluationResponse evaluation) {
+            this.evaluation = evaluation;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
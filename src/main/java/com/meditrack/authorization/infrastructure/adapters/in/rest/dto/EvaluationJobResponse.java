@@ -0,0 +1,150 @@
+package com.meditrack.authorization.infrastructure.adapters.in.rest.dto;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO: Response con el estado de una evaluación asíncrona
+ */
+@Schema(description = "Estado de un trabajo de evaluación asíncrona")
+public class EvaluationJobResponse {
+
+    @Schema(description = "ID del trabajo", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+    private UUID id;
+
+    @Schema(description = "ID de la autorización", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID authorizationId;
+
+    @Schema(description = "Estado del trabajo", example = "EN_COLA")
+    private EvaluationJobStatus status;
+
+    @Schema(description = "Intentos de procesamiento", example = "1")
+    private int attempts;
+
+    @Schema(description = "ID de la evaluación generada (cuando está COMPLETADO)")
+    private UUID evaluationId;
+
+    @Schema(description = "Motivo del fallo (cuando está FALLIDO)")
+    private String errorMessage;
+
+    @Schema(description = "Fecha de creación", example = "2024-01-28T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Última actualización", example = "2024-01-28T10:30:02")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "URL para consultar el estado", example = "/api/authorizations/evaluation-jobs/7c9e6679-7425-40de-944b-e07fc1f90ae7")
+    private String statusUrl;
+
+    // Constructores
+    public EvaluationJobResponse() {
+    }
+
+    public EvaluationJobResponse(UUID id, UUID authorizationId, EvaluationJobStatus status, int attempts,
+                                 UUID evaluationId, String errorMessage, LocalDateTime createdAt,
+                                 LocalDateTime updatedAt, String statusUrl) {
+        this.id = id;
+        this.authorizationId = authorizationId;
+        this.status = status;
+        this.attempts = attempts;
+        this.evaluationId = evaluationId;
+        this.errorMessage = errorMessage;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.statusUrl = statusUrl;
+    }
+
+    /**
+     * Crea un EvaluationJobResponse desde un EvaluationJob del dominio
+     */
+    public static EvaluationJobResponse fromDomain(EvaluationJob job, String statusUrl) {
+        return new EvaluationJobResponse(
+                job.getId(),
+                job.getAuthorizationId(),
+                job.getStatus(),
+                job.getAttempts(),
+                job.getEvaluationId(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                statusUrl
+        );
+    }
+
+    // Getters y Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAuthorizationId() {
+        return authorizationId;
+    }
+
+    public void setAuthorizationId(UUID authorizationId) {
+        this.authorizationId = authorizationId;
+    }
+
+    public EvaluationJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EvaluationJobStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public UUID getEvaluationId() {
+        return evaluationId;
+    }
+
+    public void setEvaluationId(UUID evaluationId) {
+        this.evaluationId = evaluationId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getStatusUrl() {
+        return statusUrl;
+    }
+
+    public void setStatusUrl(String statusUrl) {
+        this.statusUrl = statusUrl;
+    }
+}
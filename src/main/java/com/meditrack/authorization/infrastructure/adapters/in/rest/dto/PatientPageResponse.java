@@ -0,0 +1,91 @@
+package com.meditrack.authorization.infrastructure.adapters.in.rest.dto;
+
+import com.meditrack.authorization.domain.ports.in.useCase.ListPatientsUseCase.PatientPage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO: Response con una página de pacientes
+ */
+@Schema(description = "Página de pacientes")
+public class PatientPageResponse {
+
+    @Schema(description = "Pacientes de la página")
+    private List<PatientResponse> items;
+
+    @Schema(description = "Número de página, desde 0", example = "0")
+    private int page;
+
+    @Schema(description = "Tamaño de página aplicado por el servidor", example = "20")
+    private int size;
+
+    @Schema(description = "Indica si existe una página siguiente", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Total de pacientes del filtro; null si no se pidió includeTotal", example = "134")
+    private Long total;
+
+    // Constructores
+    public PatientPageResponse() {
+    }
+
+    public PatientPageResponse(List<PatientResponse> items, int page, int size, boolean hasNext, Long total) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.total = total;
+    }
+
+    /**
+     * Crea un PatientPageResponse desde la página del caso de uso
+     */
+    public static PatientPageResponse fromDomain(PatientPage page) {
+        List<PatientResponse> items = page.getItems().stream()
+                .map(PatientResponse::fromSummary)
+                .toList();
+        return new PatientPageResponse(items, page.getPage(), page.getSize(), page.hasNext(), page.getTotal());
+    }
+
+    // Getters y Setters
+    public List<PatientResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PatientResponse> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+}
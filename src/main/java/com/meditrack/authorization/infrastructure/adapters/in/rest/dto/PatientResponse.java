@@ -3,6 +3,7 @@ package com.meditrack.authorization.infrastructure.adapters.in.rest.dto;
 import com.meditrack.authorization.domain.enums.AffiliationStatus;
 import com.meditrack.authorization.domain.enums.AffiliationType;
 import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.models.PatientSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -87,6 +88,25 @@ public class PatientResponse {
         );
     }
 
+    /**
+     * Crea un PatientResponse desde la proyección de listados
+     */
+    public static PatientResponse fromSummary(PatientSummary patient) {
+        return new PatientResponse(
+                patient.getId(),
+                patient.getDocumentNumber(),
+                patient.getFullName(),
+                patient.getFirstName(),
+                patient.getLastName(),
+                patient.getEmail(),
+                patient.getPhone(),
+                patient.getAffiliationStatus(),
+                patient.getAffiliationType(),
+                patient.getAffiliationDate(),
+                patient.getMaxCopayPercentage()
+        );
+    }
+
     // Getters y Setters
     public UUID getId() {
         return id;
@@ -0,0 +1,34 @@
+package com.meditrack.authorization.infrastructure.adapters.in.scheduler;
+
+import com.meditrack.authorization.domain.ports.in.useCase.ClaimPendingAuthorizationsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Worker: devuelve a PENDIENTE las autorizaciones cuya reserva de revisión venció
+ *
+ * Es un UPDATE idempotente, así que puede correr en todos los nodos a la vez.
+ */
+@Component
+@ConditionalOnProperty(name = "authorizations.review.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class AuthorizationLeaseSweeper {
+
+    private final ClaimPendingAuthorizationsUseCase claimUseCase;
+
+    public AuthorizationLeaseSweeper(ClaimPendingAuthorizationsUseCase claimUseCase) {
+        this.claimUseCase = claimUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${authorizations.review.sweep-interval:60000}")
+    public void sweep() {
+        try {
+            int released = claimUseCase.releaseExpiredLeases();
+            if (released > 0) {
+                System.out.println("Reservas de revisión vencidas liberadas: " + released);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error al liberar reservas de revisión vencidas: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.meditrack.authorization.infrastructure.adapters.in.scheduler;
+
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.ports.in.useCase.ProcessEvaluationJobUseCase;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker: drena la cola de evaluaciones asíncronas
+ *
+ * Un pool fijo de hilos limita cuántas llamadas al seguro hay en vuelo, así el
+ * seguro recibe un ritmo constante aunque los clientes encolen en ráfagas.
+ * Solo se toman de la cola tantos trabajos como hilos libres haya.
+ */
+@Component
+@ConditionalOnProperty(name = "evaluation.jobs.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class EvaluationJobWorker {
+
+    private final ProcessEvaluationJobUseCase processJobUseCase;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public EvaluationJobWorker(
+            ProcessEvaluationJobUseCase processJobUseCase,
+            @Value("${evaluation.jobs.worker.threads:4}") int workerCount) {
+        this.processJobUseCase = processJobUseCase;
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(
+                workerCount, new CustomizableThreadFactory("evaluation-worker-"));
+    }
+
+    /**
+     * Al arrancar, los trabajos de este nodo que quedaron EN_PROCESO por una parada vuelven
+     * a la cola; los que otros nodos vivos están procesando no se tocan
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedJobs() {
+        int requeued = processJobUseCase.requeueInterrupted();
+        if (requeued > 0) {
+            System.out.println("Trabajos de evaluación reencolados tras reinicio: " + requeued);
+        }
+    }
+
+    /**
+     * Reencola los trabajos cuya reserva venció (nodo caído); idempotente en todos los nodos
+     */
+    @Scheduled(fixedDelayString = "${evaluation.jobs.worker.sweep-interval:60000}")
+    public void sweepExpiredLeases() {
+        try {
+            int requeued = processJobUseCase.requeueExpired();
+            if (requeued > 0) {
+                System.out.println("Trabajos de evaluación con reserva vencida reencolados: " + requeued);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error al reencolar trabajos con reserva vencida: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${evaluation.jobs.worker.poll-interval:1000}")
+    public void poll() {
+        int freeSlots = workerCount - inFlight.get();
+        if (freeSlots <= 0) {
+            return;
+        }
+
+        List<EvaluationJob> jobs = processJobUseCase.claimNext(freeSlots);
+        for (EvaluationJob job : jobs) {
+            inFlight.incrementAndGet();
+            try {
+                workers.execute(() -> {
+                    try {
+                        processJobUseCase.execute(job);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Apagando: el trabajo queda EN_PROCESO y se reencola al siguiente arranque
+                // de este nodo o cuando venza su reserva
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,49 @@
+package com.meditrack.authorization.infrastructure.adapters.in.scheduler;
+
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.cache.NearCacheInvalidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Worker: aplica en este nodo las invalidaciones de near-cache publicadas por cualquier nodo
+ * y purga las que ya superaron la retención
+ */
+@Component
+@ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true", matchIfMissing = true)
+public class NearCacheInvalidationPoller {
+
+    private final NearCacheInvalidator invalidator;
+    private final Duration retention;
+
+    public NearCacheInvalidationPoller(
+            NearCacheInvalidator invalidator,
+            @Value("${cache.near.invalidation-retention:3600000}") long retentionMillis) {
+        this.invalidator = invalidator;
+        this.retention = Duration.ofMillis(retentionMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.near.poll-interval:2000}")
+    public void poll() {
+        try {
+            invalidator.poll();
+        } catch (RuntimeException e) {
+            System.err.println("Error al sondear invalidaciones de caché: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.near.purge-interval:600000}")
+    public void purge() {
+        try {
+            int purged = invalidator.purge(retention);
+            if (purged > 0) {
+                System.out.println("Invalidaciones de caché purgadas: " + purged);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error al purgar invalidaciones de caché: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.meditrack.authorization.infrastructure.adapters.in.scheduler;
+
+import com.meditrack.authorization.infrastructure.security.RevokedSessionRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Worker: aplica en este nodo las revocaciones de sesión registradas por cualquier nodo
+ * y purga las que ya no afectan a tokens vigentes
+ */
+@Component
+public class RevokedSessionPoller {
+
+    private final RevokedSessionRegistry registry;
+
+    public RevokedSessionPoller(RevokedSessionRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.poll-interval:2000}")
+    public void poll() {
+        try {
+            registry.refresh();
+        } catch (RuntimeException e) {
+            System.err.println("Error al sondear revocaciones de sesión: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval:600000}")
+    public void purge() {
+        try {
+            int purged = registry.purge();
+            if (purged > 0) {
+                System.out.println("Revocaciones de sesión purgadas: " + purged);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error al purgar revocaciones de sesión: " + e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,35 @@
 package com.meditrack.authorization.infrastructure.adapters.out.external.adapter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meditrack.authorization.domain.enums.AffiliationType;
 import com.meditrack.authorization.domain.enums.ServiceType;
 import com.meditrack.authorization.domain.exceptions.ExternalServiceException;
 import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
 import com.meditrack.authorization.infrastructure.adapters.out.external.dto.InsuranceValidationRequest;
 import com.meditrack.authorization.infrastructure.adapters.out.external.dto.InsuranceValidationResponse;
+import com.meditrack.authorization.infrastructure.adapters.out.external.http.HedgingRequestExecutor;
+import com.meditrack.authorization.infrastructure.adapters.out.external.http.RetryingRequestExecutor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Adaptador: Comunicación con el servicio externo de validación de seguros
@@ -18,14 +37,33 @@ import java.math.BigDecimal;
 @Component
 public class InsuranceValidationServiceAdapter implements InsuranceValidationServicePort {
 
+    private static final String SERVICE_NAME = "Insurance Validation Service";
+    private static final String VALIDATE_PATH = "/api/insurance/validate";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final RestTemplate restTemplate;
+    private final HttpClient asyncHttpClient;
+    private final HedgingRequestExecutor hedgingExecutor;
+    private final RetryingRequestExecutor retryingExecutor;
+    private final ObjectMapper objectMapper;
     private final String insuranceServiceUrl;
+    private final Duration readTimeout;
 
     public InsuranceValidationServiceAdapter(
             RestTemplate restTemplate,
-            @Value("${insurance.validation.service.url}") String insuranceServiceUrl) {
+            HttpClient insuranceAsyncHttpClient,
+            HedgingRequestExecutor insuranceHedgingExecutor,
+            RetryingRequestExecutor insuranceRetryingExecutor,
+            ObjectMapper objectMapper,
+            @Value("${insurance.validation.service.url}") String insuranceServiceUrl,
+            @Value("${insurance.validation.service.timeout:5000}") long readTimeoutMillis) {
         this.restTemplate = restTemplate;
+        this.asyncHttpClient = insuranceAsyncHttpClient;
+        this.hedgingExecutor = insuranceHedgingExecutor;
+        this.retryingExecutor = insuranceRetryingExecutor;
+        this.objectMapper = objectMapper;
         this.insuranceServiceUrl = insuranceServiceUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
     }
 
     @Override
@@ -37,46 +75,143 @@ public class InsuranceValidationServiceAdapter implements InsuranceValidationSer
 
         try {
             // 1. Construir la URL del endpoint
-            String url = insuranceServiceUrl + "/api/insurance/validate";
+            String url = insuranceServiceUrl + VALIDATE_PATH;
 
-            // 2. Crear el request
+            // 2. Crear el request; la clave de idempotencia es la misma en todos los reintentos
             InsuranceValidationRequest request = new InsuranceValidationRequest(
                     patientDocumentNumber,
                     affiliationType.toString(),
                     serviceType.toString(),
                     estimatedCost
             );
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString());
+            HttpEntity<InsuranceValidationRequest> entity = new HttpEntity<>(request, headers);
 
-            // 3. Llamar al servicio externo
+            // 3. Llamar al servicio externo (con reintentos ante fallos transitorios)
             System.out.println("Llamando a Insurance Service: " + url);
-            InsuranceValidationResponse response = restTemplate.postForObject(
-                    url,
-                    request,
-                    InsuranceValidationResponse.class
+            InsuranceValidationResponse response = retryingExecutor.execute(
+                    () -> restTemplate.postForObject(url, entity, InsuranceValidationResponse.class),
+                    this::isTransient
             );
 
-            // 4. Validar respuesta
-            if (response == null) {
-                throw new RuntimeException("No se recibió respuesta del servicio de seguros");
-            }
-
-            // 5. Log
-            System.out.println("Respuesta recibida: Aprobado=" + response.isApproved() +
-                    ", Cobertura=" + response.getCoveragePercentage() + "%");
-
-            // 6. Convertir a resultado del dominio
-            return new InsuranceValidationResult(
-                    response.isApproved(),
-                    response.getCoveragePercentage(),
-                    response.getCopayAmount(),
-                    response.getCoveredAmount(),
-                    response.getAuthorizationCode(),
-                    response.getMessage()
-            );
+            // 4. Validar respuesta y convertir a resultado del dominio
+            return toResult(response);
 
         } catch (Exception e) {
             System.err.println("Error al llamar al servicio de seguros: " + e.getMessage());
-            throw new ExternalServiceException("Insurance Validation Service", e);
+            throw new ExternalServiceException(SERVICE_NAME, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<InsuranceValidationResult> validateCoverageAsync(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost) {
+
+        // 1. Crear el request
+        InsuranceValidationRequest request = new InsuranceValidationRequest(
+                patientDocumentNumber,
+                affiliationType.toString(),
+                serviceType.toString(),
+                estimatedCost
+        );
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(URI.create(insuranceServiceUrl + VALIDATE_PATH))
+                    .timeout(readTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .header(IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ExternalServiceException(SERVICE_NAME, e));
+        }
+
+        // 2. Enviar sin bloquear; la respuesta se procesa en el executor del cliente HTTP.
+        //    Si el seguro tarda más de lo habitual se lanza un segundo intento (hedging);
+        //    se cubre el futuro de sendAsync para que cancelar el perdedor aborte su intercambio HTTP.
+        //    Los fallos transitorios se reintentan con el mismo request (misma clave de idempotencia)
+        return retryingExecutor.executeAsync(
+                        () -> hedgingExecutor.execute(() -> asyncHttpClient
+                                        .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray()))
+                                .thenApply(this::parseResponse),
+                        this::isTransient)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                            ? ex.getCause() : ex;
+                    if (cause instanceof ExternalServiceException externalServiceException) {
+                        throw externalServiceException;
+                    }
+                    System.err.println("Error al llamar al servicio de seguros: " + cause.getMessage());
+                    throw new ExternalServiceException(SERVICE_NAME, cause);
+                });
+    }
+
+    private InsuranceValidationResult parseResponse(HttpResponse<byte[]> httpResponse) {
+        if (httpResponse.statusCode() >= 500) {
+            throw new ServerErrorResponseException(httpResponse.statusCode());
+        }
+        if (httpResponse.statusCode() < 200 || httpResponse.statusCode() >= 300) {
+            throw new ExternalServiceException(
+                    "El servicio de seguros respondió con estado HTTP " + httpResponse.statusCode()
+            );
+        }
+
+        try {
+            return toResult(objectMapper.readValue(httpResponse.body(), InsuranceValidationResponse.class));
+        } catch (IOException e) {
+            throw new ExternalServiceException(SERVICE_NAME, e);
+        }
+    }
+
+    private InsuranceValidationResult toResult(InsuranceValidationResponse response) {
+        if (response == null) {
+            throw new ExternalServiceException("No se recibió respuesta del servicio de seguros");
+        }
+
+        System.out.println("Respuesta recibida: Aprobado=" + response.isApproved() +
+                ", Cobertura=" + response.getCoveragePercentage() + "%");
+
+        return new InsuranceValidationResult(
+                response.isApproved(),
+                response.getCoveragePercentage(),
+                response.getCopayAmount(),
+                response.getCoveredAmount(),
+                response.getAuthorizationCode(),
+                response.getMessage()
+        );
+    }
+
+    /**
+     * Fallos que pueden desaparecer al repetir la llamada: 5xx o conexión reiniciada/rechazada.
+     * Los timeouts (lectura, conexión o espera del pool) no se reintentan: repetirlos suele
+     * tardar lo mismo y alargaría la llamada más allá del timeout de la petición
+     */
+    private boolean isTransient(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        if (cause instanceof ResourceAccessException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof InterruptedIOException || cause instanceof HttpTimeoutException) {
+            return false;
+        }
+        return cause instanceof HttpServerErrorException
+                || cause instanceof ServerErrorResponseException
+                || cause instanceof IOException;
+    }
+
+    /**
+     * Respuesta 5xx del cliente HTTP asíncrono (reintentable)
+     */
+    private static final class ServerErrorResponseException extends ExternalServiceException {
+        private ServerErrorResponseException(int statusCode) {
+            super("El servicio de seguros respondió con estado HTTP " + statusCode);
         }
     }
-}
\ No newline at end of file
+}
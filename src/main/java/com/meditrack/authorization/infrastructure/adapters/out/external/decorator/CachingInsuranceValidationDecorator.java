@@ -0,0 +1,140 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.decorator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorador: caché de decisiones de cobertura delante del servicio de seguros
+ *
+ * La clave es (tipo de afiliación, tipo de servicio, banda de costo). Política de campos:
+ * - Se reutilizan: aprobado, porcentaje de cobertura y mensaje (dependen de la clave)
+ * - Se recalculan con el costo real: monto cubierto y copago
+ * - Nunca se reutiliza: authorizationCode (es propio de cada paciente); en un acierto va null
+ */
+public class CachingInsuranceValidationDecorator implements InsuranceValidationServicePort {
+
+    private final InsuranceValidationServicePort delegate;
+    private final Cache<DecisionKey, CachedDecision> cache;
+    private final BigDecimal costBandWidth;
+
+    public CachingInsuranceValidationDecorator(
+            InsuranceValidationServicePort delegate,
+            Cache<DecisionKey, CachedDecision> cache,
+            BigDecimal costBandWidth) {
+        if (costBandWidth.signum() <= 0) {
+            throw new IllegalArgumentException("El ancho de banda de costo debe ser mayor a cero");
+        }
+        this.delegate = delegate;
+        this.cache = cache;
+        this.costBandWidth = costBandWidth;
+    }
+
+    @Override
+    public InsuranceValidationResult validateCoverage(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost) {
+
+        DecisionKey key = keyFor(affiliationType, serviceType, estimatedCost);
+        CachedDecision cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.toResult(estimatedCost);
+        }
+
+        InsuranceValidationResult result = delegate.validateCoverage(
+                patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+        cache.put(key, CachedDecision.from(result));
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<InsuranceValidationResult> validateCoverageAsync(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost) {
+
+        DecisionKey key = keyFor(affiliationType, serviceType, estimatedCost);
+        CachedDecision cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.toResult(estimatedCost));
+        }
+
+        return delegate.validateCoverageAsync(patientDocumentNumber, affiliationType, serviceType, estimatedCost)
+                .thenApply(result -> {
+                    cache.put(key, CachedDecision.from(result));
+                    return result;
+                });
+    }
+
+    private DecisionKey keyFor(AffiliationType affiliationType, ServiceType serviceType, BigDecimal estimatedCost) {
+        long band = estimatedCost.divide(costBandWidth, 0, RoundingMode.FLOOR).longValueExact();
+        return new DecisionKey(affiliationType, serviceType, band);
+    }
+
+    /**
+     * Clave de la caché: las preguntas que el seguro responde igual para cualquier paciente
+     */
+    public static final class DecisionKey {
+        private final AffiliationType affiliationType;
+        private final ServiceType serviceType;
+        private final long costBand;
+
+        DecisionKey(AffiliationType affiliationType, ServiceType serviceType, long costBand) {
+            this.affiliationType = affiliationType;
+            this.serviceType = serviceType;
+            this.costBand = costBand;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DecisionKey)) return false;
+            DecisionKey that = (DecisionKey) o;
+            return costBand == that.costBand
+                    && affiliationType == that.affiliationType
+                    && serviceType == that.serviceType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(affiliationType, serviceType, costBand);
+        }
+    }
+
+    /**
+     * Valor de la caché: solo los campos reutilizables de la respuesta
+     */
+    public static final class CachedDecision {
+        private final boolean approved;
+        private final int coveragePercentage;
+        private final String message;
+
+        private CachedDecision(boolean approved, int coveragePercentage, String message) {
+            this.approved = approved;
+            this.coveragePercentage = coveragePercentage;
+            this.message = message;
+        }
+
+        static CachedDecision from(InsuranceValidationResult result) {
+            return new CachedDecision(result.isApproved(), result.getCoveragePercentage(), result.getMessage());
+        }
+
+        InsuranceValidationResult toResult(BigDecimal estimatedCost) {
+            BigDecimal coveredAmount = estimatedCost
+                    .multiply(BigDecimal.valueOf(coveragePercentage))
+                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            BigDecimal copayAmount = estimatedCost.subtract(coveredAmount).setScale(2, RoundingMode.HALF_UP);
+            return new InsuranceValidationResult(
+                    approved, coveragePercentage, copayAmount, coveredAmount, null, message);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.decorator;
+
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import io.micrometer.core.instrument.Counter;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decorador: agrupa consultas idénticas en vuelo (single-flight)
+ *
+ * Si llega una consulta igual a otra que todavía espera respuesta del seguro,
+ * se engancha a esa misma llamada en lugar de abrir una nueva. La entrada se
+ * elimina al terminar la llamada: no es una caché, solo deduplica lo concurrente.
+ */
+public class CoalescingInsuranceValidationDecorator implements InsuranceValidationServicePort {
+
+    private final InsuranceValidationServicePort delegate;
+    private final Counter coalescedCalls;
+    private final ConcurrentMap<RequestKey, CompletableFuture<InsuranceValidationResult>> inFlight =
+            new ConcurrentHashMap<>();
+
+    public CoalescingInsuranceValidationDecorator(InsuranceValidationServicePort delegate, Counter coalescedCalls) {
+        this.delegate = delegate;
+        this.coalescedCalls = coalescedCalls;
+    }
+
+    @Override
+    public InsuranceValidationResult validateCoverage(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost) {
+
+        RequestKey key = new RequestKey(patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+        CompletableFuture<InsuranceValidationResult> leader = new CompletableFuture<>();
+        CompletableFuture<InsuranceValidationResult> existing = inFlight.putIfAbsent(key, leader);
+
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+
+        // Esta petición hace la llamada real en su propio hilo y comparte el resultado.
+        // Cualquier Throwable (también un Error) debe completar el futuro: los seguidores
+        // esperan en join() sin plazo
+        try {
+            InsuranceValidationResult result = delegate.validateCoverage(
+                    patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+            leader.complete(result);
+            return result;
+        } catch (Throwable e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    @Override
+    public CompletableFuture<InsuranceValidationResult> validateCoverageAsync(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost) {
+
+        RequestKey key = new RequestKey(patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+        CompletableFuture<InsuranceValidationResult> leader = new CompletableFuture<>();
+        CompletableFuture<InsuranceValidationResult> existing = inFlight.putIfAbsent(key, leader);
+
+        if (existing != null) {
+            coalescedCalls.increment();
+            // Copia: si un llamador cancela su futuro no afecta a los demás
+            return existing.thenApply(result -> result);
+        }
+
+        CompletableFuture<InsuranceValidationResult> call;
+        try {
+            call = delegate.validateCoverageAsync(patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+
+        call.whenComplete((result, ex) -> {
+            inFlight.remove(key, leader);
+            if (ex != null) {
+                leader.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause() : ex);
+            } else {
+                leader.complete(result);
+            }
+        });
+        return leader.thenApply(result -> result);
+    }
+
+    private InsuranceValidationResult await(CompletableFuture<InsuranceValidationResult> shared) {
+        try {
+            return shared.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Clave de agrupación: consultas idénticas al seguro
+     */
+    private static final class RequestKey {
+        private final String patientDocumentNumber;
+        private final AffiliationType affiliationType;
+        private final ServiceType serviceType;
+        private final BigDecimal estimatedCost;
+
+        private RequestKey(String patientDocumentNumber, AffiliationType affiliationType,
+                           ServiceType serviceType, BigDecimal estimatedCost) {
+            this.patientDocumentNumber = patientDocumentNumber;
+            this.affiliationType = affiliationType;
+            this.serviceType = serviceType;
+            // 100000 y 100000.00 son la misma consulta
+            this.estimatedCost = estimatedCost.stripTrailingZeros();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RequestKey)) return false;
+            RequestKey that = (RequestKey) o;
+            return Objects.equals(patientDocumentNumber, that.patientDocumentNumber)
+                    && affiliationType == that.affiliationType
+                    && serviceType == that.serviceType
+                    && estimatedCost.equals(that.estimatedCost);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.decorator;
+
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.ServiceUnavailableException;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorador: circuit breaker y bulkhead delante del servicio de seguros
+ *
+ * - Bulkhead: limita las llamadas en vuelo por nodo; si no hay hueco se rechaza al instante
+ * - Circuit breaker: con el circuito abierto no se llama al seguro (fallo rápido) y,
+ *   pasado el tiempo de espera, deja pasar unas pocas llamadas de prueba (half-open)
+ *
+ * En ambos rechazos se lanza ServiceUnavailableException (503 + Retry-After)
+ */
+public class ResilientInsuranceValidationDecorator implements InsuranceValidationServicePort {
+
+    private final InsuranceValidationServicePort delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final long retryAfterSeconds;
+
+    public ResilientInsuranceValidationDecorator(
+            InsuranceValidationServicePort delegate,
+            CircuitBreaker circuitBreaker,
+            Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.retryAfterSeconds = Math.max(1, circuitBreaker.getCircuitBreakerConfig()
+                .getWaitIntervalFunctionInOpenState().apply(1) / 1000);
+    }
+
+    @Override
+    public InsuranceValidationResult validateCoverage(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost) {
+
+        acquirePermissions();
+        long start = System.nanoTime();
+        try {
+            InsuranceValidationResult result = delegate.validateCoverage(
+                    patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+            circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, result);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    @Override
+    public CompletableFuture<InsuranceValidationResult> validateCoverageAsync(
+            String patientDocumentNumber,
+            AffiliationType affiliationType,
+            ServiceType serviceType,
+            BigDecimal estimatedCost) {
+
+        try {
+            acquirePermissions();
+        } catch (ServiceUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<InsuranceValidationResult> call;
+        try {
+            call = delegate.validateCoverageAsync(patientDocumentNumber, affiliationType, serviceType, estimatedCost);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+
+        return call.whenComplete((result, ex) -> {
+            long duration = System.nanoTime() - start;
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, cause);
+            } else {
+                circuitBreaker.onResult(duration, TimeUnit.NANOSECONDS, result);
+            }
+            bulkhead.onComplete();
+        });
+    }
+
+    /**
+     * Reserva un hueco del bulkhead y un permiso del circuit breaker, o falla rápido
+     */
+    private void acquirePermissions() {
+        if (!bulkhead.tryAcquirePermission()) {
+            throw new ServiceUnavailableException(
+                    "Demasiadas consultas simultáneas al servicio de seguros, intenta de nuevo en unos segundos",
+                    1
+            );
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.releasePermission();
+            throw new ServiceUnavailableException(
+                    "El servicio de seguros no está disponible temporalmente (circuito abierto)",
+                    retryAfterSeconds
+            );
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Peticiones con cobertura (hedged requests) contra el servicio de seguros
+ *
+ * Si el primer intento no respondió al llegar al percentil configurado (p95) de la
+ * latencia reciente, se lanza un segundo intento idéntico; gana la primera respuesta
+ * correcta y el otro intento se cancela.
+ *
+ * Presupuesto: cada petición aporta budgetPercent/100 fichas y cada segundo intento
+ * gasta una, así la carga extra nunca supera budgetPercent % de las peticiones.
+ *
+ * La latencia por intento se publica como histograma con ventana móvil
+ * (insurance.validation.latency) y es la misma que decide el retardo del segundo intento.
+ * Los intentos cancelados registran el tiempo que llevaban en vuelo: es una cota inferior
+ * de su latencia real, pero descartarlos sesgaría el p95 hacia abajo justo cuando el seguro va lento.
+ */
+public class HedgingRequestExecutor {
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMillis;
+    // Saldo inicial vacío: los segundos intentos son carga pura y se ganan con tráfico real
+    private final RequestBudget budget;
+
+    private final Timer latency;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesSkipped;
+
+    public HedgingRequestExecutor(
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            double percentile,
+            double budgetPercent,
+            long minDelayMillis) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("El percentil de cobertura debe estar entre 0 y 1");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayMillis = minDelayMillis;
+        this.budget = new RequestBudget(budgetPercent, 0);
+        this.latency = Timer.builder("insurance.validation.latency")
+                .description("Latencia de cada intento contra el servicio de seguros (ventana móvil)")
+                .publishPercentiles(0.5, percentile, 0.99)
+                .publishPercentileHistogram()
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+        this.hedgesSent = hedgeCounter(meterRegistry, "sent");
+        this.hedgesWon = hedgeCounter(meterRegistry, "won");
+        this.hedgesSkipped = hedgeCounter(meterRegistry, "budget_exhausted");
+    }
+
+    /**
+     * Ejecuta la petición y, si tarda más que el percentil observado, lanza un segundo intento
+     *
+     * @param attempt Crea y envía un intento; se invoca una o dos veces
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> attempt) {
+
+        if (!enabled) {
+            return timed(attempt);
+        }
+
+        budget.deposit();
+        long delayMillis = hedgeDelayMillis();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicBoolean settled = new AtomicBoolean();
+
+        track(timed(attempt), false, result, attempts, pending, settled);
+
+        if (delayMillis > 0) {
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (!budget.tryWithdraw()) {
+                    hedgesSkipped.increment();
+                    return;
+                }
+                hedgesSent.increment();
+                pending.incrementAndGet();
+                track(timed(attempt), true, result, attempts, pending, settled);
+            });
+        }
+
+        // Si el llamador cancela se cancelan los intentos que siguen en vuelo
+        result.whenComplete((value, ex) -> attempts.forEach(inFlight -> inFlight.cancel(true)));
+        return result;
+    }
+
+    /**
+     * El ganador actualiza las métricas y cancela al perdedor antes de completar el resultado,
+     * así quien recibe la respuesta ya ve ambos efectos
+     */
+    private <T> void track(CompletableFuture<T> attempt, boolean hedge, CompletableFuture<T> result,
+                           List<CompletableFuture<T>> attempts, AtomicInteger pending, AtomicBoolean settled) {
+        attempts.add(attempt);
+        if (result.isDone()) {
+            attempt.cancel(true);
+            return;
+        }
+
+        attempt.whenComplete((value, ex) -> {
+            if (ex == null) {
+                if (settled.compareAndSet(false, true)) {
+                    if (hedge) {
+                        hedgesWon.increment();
+                    }
+                    attempts.stream().filter(other -> other != attempt).forEach(other -> other.cancel(true));
+                    result.complete(value);
+                }
+            } else if (pending.decrementAndGet() == 0 && settled.compareAndSet(false, true)) {
+                // Solo falla si fallaron todos los intentos lanzados
+                result.completeExceptionally(ex);
+            }
+        });
+    }
+
+    /**
+     * Registra la latencia de los intentos que terminan bien y de los cancelados
+     * (tiempo en vuelo hasta la cancelación); los fallos no cuentan
+     */
+    private <T> CompletableFuture<T> timed(Supplier<CompletableFuture<T>> attempt) {
+        long start = System.nanoTime();
+        CompletableFuture<T> call;
+        try {
+            call = attempt.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        call.whenComplete((value, ex) -> {
+            if (ex == null || ex instanceof CancellationException) {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        return call;
+    }
+
+    /**
+     * Retardo del segundo intento: percentil de la ventana actual, nunca menor a minDelay;
+     * sin muestras todavía no se cubre
+     */
+    private long hedgeDelayMillis() {
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                double millis = value.value(TimeUnit.MILLISECONDS);
+                return millis > 0 ? Math.max(minDelayMillis, (long) Math.ceil(millis)) : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("insurance.validation.hedge")
+                .description("Segundos intentos contra el servicio de seguros")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
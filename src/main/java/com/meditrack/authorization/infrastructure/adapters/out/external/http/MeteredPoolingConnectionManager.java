@@ -0,0 +1,65 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pool de conexiones HTTP con métricas de espera
+ * Mide cuánto tiempo espera cada petición para obtener una conexión del pool
+ * (las métricas de saturación las publica PoolingHttpClientConnectionManagerMetricsBinder)
+ */
+public class MeteredPoolingConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer acquireTimer;
+    private final Timer acquireTimeoutTimer;
+
+    public MeteredPoolingConnectionManager(MeterRegistry meterRegistry, String poolName) {
+        super();
+        this.acquireTimer = Timer.builder("httpcomponents.httpclient.pool.acquire")
+                .description("Tiempo de espera para obtener una conexión del pool")
+                .tag("httpclient", poolName)
+                .tag("outcome", "success")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.acquireTimeoutTimer = Timer.builder("httpcomponents.httpclient.pool.acquire")
+                .description("Tiempo de espera para obtener una conexión del pool")
+                .tag("httpclient", poolName)
+                .tag("outcome", "timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        long start = System.nanoTime();
+
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                try {
+                    ConnectionEndpoint endpoint = delegate.get(timeout);
+                    acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    acquireTimeoutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+}
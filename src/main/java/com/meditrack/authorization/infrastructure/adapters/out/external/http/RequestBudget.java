@@ -0,0 +1,56 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presupuesto de peticiones extra (reintentos o segundos intentos) contra el servicio de seguros
+ *
+ * Cada llamada lógica aporta budgetPercent/100 fichas y cada petición extra gasta una,
+ * así la carga extra nunca supera budgetPercent % de las llamadas (más el saldo inicial).
+ * El saldo se acota a {@link #MAX_TOKENS} fichas para que un periodo tranquilo no
+ * acumule una ráfaga grande.
+ */
+final class RequestBudget {
+
+    static final long MAX_TOKENS = 10;
+
+    private static final long TOKEN = 1000;
+
+    private final long tokensPerRequest;
+    private final AtomicLong balance;
+
+    /**
+     * @param budgetPercent Peticiones extra permitidas por cada 100 llamadas lógicas
+     * @param initialTokens Saldo inicial en fichas completas (entre 0 y MAX_TOKENS)
+     */
+    RequestBudget(double budgetPercent, long initialTokens) {
+        if (initialTokens < 0 || initialTokens > MAX_TOKENS) {
+            throw new IllegalArgumentException("El saldo inicial debe estar entre 0 y " + MAX_TOKENS);
+        }
+        this.tokensPerRequest = Math.round(budgetPercent / 100 * TOKEN);
+        this.balance = new AtomicLong(initialTokens * TOKEN);
+    }
+
+    /**
+     * Aporta la parte de una llamada lógica
+     */
+    void deposit() {
+        balance.updateAndGet(tokens -> Math.min(MAX_TOKENS * TOKEN, tokens + tokensPerRequest));
+    }
+
+    /**
+     * Gasta una ficha si hay saldo
+     *
+     * @return false si el presupuesto está agotado
+     */
+    boolean tryWithdraw() {
+        long tokens;
+        do {
+            tokens = balance.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(tokens, tokens - TOKEN));
+        return true;
+    }
+}
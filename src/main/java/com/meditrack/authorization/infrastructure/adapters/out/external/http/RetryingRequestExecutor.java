@@ -0,0 +1,176 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Reintentos de las llamadas al servicio de seguros ante fallos transitorios
+ *
+ * - Backoff exponencial con jitter completo: espera aleatoria en [0, min(max, inicial * factor^n)]
+ * - Presupuesto de reintentos: cada llamada lógica aporta budgetPercent/100 fichas y cada
+ *   reintento gasta una, así durante una caída los reintentos no multiplican la carga
+ *
+ * - Plazo total (deadline) de la llamada lógica, menor que el timeout de la petición asíncrona:
+ *   solo se lanza otro intento si cabe entero (espera + attemptTimeout) dentro del plazo, y la
+ *   variante asíncrona falla con TimeoutException al vencerlo. Así ninguna evaluación se
+ *   confirma después de que el cliente ya recibió el 503 por timeout.
+ *
+ * Solo se reintenta lo que el predicado considera transitorio (5xx, conexión reiniciada).
+ */
+public class RetryingRequestExecutor {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final double multiplier;
+    private final long maxBackoffMillis;
+    private final long deadlineMillis;
+    private final long attemptTimeoutMillis;
+    // Saldo inicial lleno: los primeros fallos transitorios tras arrancar se pueden reintentar
+    // (los intentos por llamada ya los acota maxAttempts)
+    private final RequestBudget budget;
+
+    private final Counter retries;
+    private final Counter budgetExhausted;
+    private final Counter attemptsExhausted;
+    private final Counter deadlineExceeded;
+
+    public RetryingRequestExecutor(
+            MeterRegistry meterRegistry,
+            int maxAttempts,
+            long initialBackoffMillis,
+            double multiplier,
+            long maxBackoffMillis,
+            double budgetPercent,
+            long deadlineMillis,
+            long attemptTimeoutMillis) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("El número de intentos debe ser al menos 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.multiplier = multiplier;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.deadlineMillis = deadlineMillis;
+        this.attemptTimeoutMillis = attemptTimeoutMillis;
+        this.budget = new RequestBudget(budgetPercent, RequestBudget.MAX_TOKENS);
+        this.retries = retryCounter(meterRegistry, "retried");
+        this.budgetExhausted = retryCounter(meterRegistry, "budget_exhausted");
+        this.attemptsExhausted = retryCounter(meterRegistry, "attempts_exhausted");
+        this.deadlineExceeded = retryCounter(meterRegistry, "deadline_exceeded");
+    }
+
+    /**
+     * Ejecuta la llamada bloqueante, esperando entre intentos en el hilo actual
+     */
+    public <T> T execute(Supplier<T> call, Predicate<Throwable> retryable) {
+        budget.deposit();
+        long startNanos = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                long backoffMillis = backoffMillis(attempt);
+                if (!shouldRetry(e, attempt, retryable, startNanos, backoffMillis)) {
+                    throw e;
+                }
+                sleep(backoffMillis);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta la llamada no bloqueante; los reintentos se programan sin ocupar hilos
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call,
+                                                 Predicate<Throwable> retryable) {
+        budget.deposit();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.orTimeout(deadlineMillis, TimeUnit.MILLISECONDS);
+        attemptAsync(call, retryable, 1, System.nanoTime(), result);
+        return result;
+    }
+
+    private <T> void attemptAsync(Supplier<CompletableFuture<T>> call, Predicate<Throwable> retryable,
+                                  int attempt, long startNanos, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        // Vencido el plazo, el intento en vuelo ya no sirve a nadie
+        CompletableFuture<T> inFlight = future;
+        result.whenComplete((value, ex) -> inFlight.cancel(true));
+
+        future.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            long backoffMillis = backoffMillis(attempt);
+            if (result.isDone() || !shouldRetry(cause, attempt, retryable, startNanos, backoffMillis)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            CompletableFuture.delayedExecutor(backoffMillis, TimeUnit.MILLISECONDS)
+                    .execute(() -> attemptAsync(call, retryable, attempt + 1, startNanos, result));
+        });
+    }
+
+    private boolean shouldRetry(Throwable error, int attempt, Predicate<Throwable> retryable,
+                                long startNanos, long backoffMillis) {
+        if (!retryable.test(error)) {
+            return false;
+        }
+        if (attempt >= maxAttempts) {
+            attemptsExhausted.increment();
+            return false;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (elapsedMillis + backoffMillis + attemptTimeoutMillis > deadlineMillis) {
+            deadlineExceeded.increment();
+            return false;
+        }
+        if (!budget.tryWithdraw()) {
+            budgetExhausted.increment();
+            return false;
+        }
+        retries.increment();
+        System.err.println("Fallo transitorio en el servicio de seguros (intento " + attempt + "/" +
+                maxAttempts + "), reintentando: " + error.getMessage());
+        return true;
+    }
+
+    private long backoffMillis(int attempt) {
+        double ceiling = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(multiplier, attempt - 1));
+        return ThreadLocalRandom.current().nextLong((long) ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reintento interrumpido", e);
+        }
+    }
+
+    private static Counter retryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("insurance.validation.retry")
+                .description("Reintentos de llamadas al servicio de seguros")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -1,14 +1,21 @@
 package com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter;
 
+import com.meditrack.authorization.domain.exceptions.DuplicateResourceException;
 import com.meditrack.authorization.domain.models.CoverageEvaluation;
 import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.CoverageEvaluationEntity;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.CoverageEvaluationJpaRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,6 +27,9 @@ import java.util.stream.Collectors;
 @Component
 public class CoverageEvaluationRepositoryAdapter implements CoverageEvaluationRepositoryPort {
 
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
     private final CoverageEvaluationJpaRepository jpaRepository;
 
     public CoverageEvaluationRepositoryAdapter(CoverageEvaluationJpaRepository jpaRepository) {
@@ -33,6 +43,23 @@ public class CoverageEvaluationRepositoryAdapter implements CoverageEvaluationRe
         return savedEntity.toDomain();
     }
 
+    /**
+     * persist() sin el SELECT previo de merge() y flush inmediato: la restricción UNIQUE de
+     * authorization_id se comprueba aquí y no al hacer commit. Si otra transacción insertó la
+     * misma autorización y aún no confirma, la base de datos espera a que termine
+     */
+    @Override
+    public CoverageEvaluation insert(CoverageEvaluation evaluation) {
+        try {
+            return jpaRepository.saveAndFlush(CoverageEvaluationEntity.fromDomain(evaluation).markAsNew()).toDomain();
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            throw new DuplicateResourceException("Evaluación de cobertura", "autorización", evaluation.getAuthorizationId());
+        }
+    }
+
     @Override
     public Optional<CoverageEvaluation> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -50,6 +77,25 @@ public class CoverageEvaluationRepositoryAdapter implements CoverageEvaluationRe
         return jpaRepository.existsByAuthorizationId(authorizationId);
     }
 
+    @Override
+    public Set<UUID> findEvaluatedAuthorizationIds(Collection<UUID> authorizationIds) {
+        if (authorizationIds.isEmpty()) {
+            return Set.of();
+        }
+        return jpaRepository.findAuthorizationIdsIn(authorizationIds);
+    }
+
+    /**
+     * Las entidades se marcan como nuevas para que save() haga persist sin el SELECT previo
+     * de merge(); con IDs asignados Hibernate puede agrupar los INSERT en lotes
+     */
+    @Override
+    public void insertAll(List<CoverageEvaluation> evaluations) {
+        jpaRepository.saveAll(evaluations.stream()
+                .map(evaluation -> CoverageEvaluationEntity.fromDomain(evaluation).markAsNew())
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public List<CoverageEvaluation> findAllApproved() {
         return jpaRepository.findAllApproved().stream()
@@ -97,4 +143,26 @@ public class CoverageEvaluationRepositoryAdapter implements CoverageEvaluationRe
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Violación de UNIQUE: por el tipo que asigna Hibernate o, si no lo pudo clasificar
+     * (p. ej. en inserciones por lote), por el SQLState 23505 o el código 1062 de MySQL
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && (UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                    || sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
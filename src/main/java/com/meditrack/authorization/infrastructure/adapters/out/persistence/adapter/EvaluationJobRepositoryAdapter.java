@@ -0,0 +1,92 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.ports.out.EvaluationJobRepositoryPort;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.EvaluationJobEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.EvaluationJobJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adaptador de persistencia para EvaluationJob
+ * Implementa el puerto OUT EvaluationJobRepositoryPort
+ */
+@Component
+public class EvaluationJobRepositoryAdapter implements EvaluationJobRepositoryPort {
+
+    private static final EnumSet<EvaluationJobStatus> ACTIVE_STATUSES =
+            EnumSet.of(EvaluationJobStatus.EN_COLA, EvaluationJobStatus.EN_PROCESO);
+
+    private final EvaluationJobJpaRepository jpaRepository;
+
+    public EvaluationJobRepositoryAdapter(EvaluationJobJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public EvaluationJob save(EvaluationJob job) {
+        EvaluationJobEntity entity = EvaluationJobEntity.fromDomain(job);
+        EvaluationJobEntity savedEntity = jpaRepository.save(entity);
+        return savedEntity.toDomain();
+    }
+
+    @Override
+    public Optional<EvaluationJob> findById(UUID id) {
+        return jpaRepository.findById(id)
+                .map(EvaluationJobEntity::toDomain);
+    }
+
+    @Override
+    public long countByStatus(EvaluationJobStatus status) {
+        return jpaRepository.countByStatus(status);
+    }
+
+    @Override
+    public boolean existsActiveByAuthorizationId(UUID authorizationId) {
+        return jpaRepository.existsByAuthorizationIdAndStatusIn(authorizationId, ACTIVE_STATUSES);
+    }
+
+    @Override
+    public List<UUID> findQueuedIds(LocalDateTime now, int limit) {
+        return jpaRepository.findReadyIdsByStatusOrderByCreatedAt(
+                EvaluationJobStatus.EN_COLA, now, PageRequest.of(0, limit)
+        );
+    }
+
+    @Override
+    public boolean markInProgressIfQueued(UUID id, String owner, LocalDateTime leaseExpiresAt) {
+        return jpaRepository.claim(
+                id, EvaluationJobStatus.EN_COLA, EvaluationJobStatus.EN_PROCESO,
+                owner, leaseExpiresAt, LocalDateTime.now()
+        ) == 1;
+    }
+
+    @Override
+    public boolean saveResultIfClaimedBy(EvaluationJob job, String owner) {
+        return jpaRepository.finishIfClaimedBy(
+                job.getId(), owner, EvaluationJobStatus.EN_PROCESO, job.getStatus(),
+                job.getEvaluationId(), job.getErrorMessage(), job.getNotBefore(), job.getUpdatedAt()
+        ) == 1;
+    }
+
+    @Override
+    public int requeueInProgress(String owner, LocalDateTime now) {
+        return jpaRepository.requeueClaimedByOrExpired(
+                owner, EvaluationJobStatus.EN_PROCESO, EvaluationJobStatus.EN_COLA, now
+        );
+    }
+
+    @Override
+    public int requeueExpired(LocalDateTime now) {
+        return jpaRepository.requeueExpired(
+                EvaluationJobStatus.EN_PROCESO, EvaluationJobStatus.EN_COLA, now
+        );
+    }
+}
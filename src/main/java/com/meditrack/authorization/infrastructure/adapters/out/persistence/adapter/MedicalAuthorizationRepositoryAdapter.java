@@ -2,36 +2,77 @@ package com.meditrack.authorization.infrastructure.adapters.out.persistence.adap
 
 import com.meditrack.authorization.domain.enums.AuthorizationStatus;
 import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.ConcurrentUpdateException;
 import com.meditrack.authorization.domain.models.MedicalAuthorization;
 import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.MedicalAuthorizationEntity;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.MedicalAuthorizationJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Adaptador de persistencia para MedicalAuthorization
  * Implementa el puerto OUT MedicalAuthorizationRepositoryPort
  * Traduce entre modelos de dominio y entidades JPA
+ *
+ * Las escrituras de autorizaciones existentes usan control optimista (columna version);
+ * los conflictos se traducen a ConcurrentUpdateException y se cuentan en
+ * authorizations.optimistic.conflicts{operation=save|compare_and_set}
  */
 @Component
 public class MedicalAuthorizationRepositoryAdapter implements MedicalAuthorizationRepositoryPort {
 
+    private static final EnumSet<AuthorizationStatus> EVALUABLE_STATUSES =
+            EnumSet.of(AuthorizationStatus.PENDIENTE, AuthorizationStatus.EN_REVISION);
+
     private final MedicalAuthorizationJpaRepository jpaRepository;
+    private final Counter saveConflicts;
+    private final Counter compareAndSetConflicts;
 
-    public MedicalAuthorizationRepositoryAdapter(MedicalAuthorizationJpaRepository jpaRepository) {
+    public MedicalAuthorizationRepositoryAdapter(
+            MedicalAuthorizationJpaRepository jpaRepository,
+            MeterRegistry meterRegistry) {
         this.jpaRepository = jpaRepository;
+        this.saveConflicts = conflictCounter(meterRegistry, "save");
+        this.compareAndSetConflicts = conflictCounter(meterRegistry, "compare_and_set");
     }
 
     @Override
     public MedicalAuthorization save(MedicalAuthorization authorization) {
         MedicalAuthorizationEntity entity = MedicalAuthorizationEntity.fromDomain(authorization);
-        MedicalAuthorizationEntity savedEntity = jpaRepository.save(entity);
-        return savedEntity.toDomain();
+        if (entity.getVersion() == null) {
+            return jpaRepository.save(entity).toDomain();
+        }
+
+        // Actualización: flush inmediato para detectar aquí el conflicto de versión y no en el commit
+        try {
+            return jpaRepository.saveAndFlush(entity).toDomain();
+        } catch (OptimisticLockingFailureException e) {
+            saveConflicts.increment();
+            throw new ConcurrentUpdateException("La autorización", authorization.getId());
+        }
+    }
+
+    @Override
+    public boolean updateStatusIfUnchanged(UUID id, AuthorizationStatus expectedStatus, AuthorizationStatus newStatus) {
+        boolean updated = jpaRepository.updateStatusIfUnchanged(id, expectedStatus, newStatus) == 1;
+        if (!updated) {
+            compareAndSetConflicts.increment();
+        }
+        return updated;
     }
 
     @Override
@@ -46,59 +87,121 @@ public class MedicalAuthorizationRepositoryAdapter implements MedicalAuthorizati
                 .map(entity -> entity.toDomain());
     }
 
+    @Override
+    public List<MedicalAuthorization> findAllByIdsAndNotDeleted(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdInAndNotDeleted(ids)
+                .stream()
+                .map(MedicalAuthorizationEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<MedicalAuthorization> findEvaluableByIdsForUpdate(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdInAndStatusInForUpdate(ids, EVALUABLE_STATUSES)
+                .stream()
+                .map(MedicalAuthorizationEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * Las entidades ya están en el contexto de persistencia (cargadas con el bloqueo),
+     * así que basta con cambiar el estado: Hibernate agrupa los UPDATE en lotes al hacer flush
+     */
+    @Override
+    public void updateStatuses(List<MedicalAuthorization> authorizations) {
+        Map<UUID, MedicalAuthorization> byId = authorizations.stream()
+                .collect(Collectors.toMap(MedicalAuthorization::getId, authorization -> authorization));
+        jpaRepository.findAllById(byId.keySet()).forEach(entity -> {
+            MedicalAuthorization authorization = byId.get(entity.getId());
+            entity.setStatus(authorization.getStatus());
+            entity.setLeaseOwner(authorization.getLeaseOwner());
+            entity.setLeaseExpiresAt(authorization.getLeaseExpiresAt());
+        });
+    }
+
+    /**
+     * Debe ejecutarse dentro de una transacción: el bloqueo de las filas seleccionadas
+     * se mantiene hasta el commit, y el UPDATE va en la misma transacción
+     */
+    @Override
+    public List<MedicalAuthorization> claimPendingForReview(String owner, LocalDateTime leaseExpiresAt, int limit) {
+        List<UUID> ids = jpaRepository.findIdsByStatusForUpdateSkipLocked(
+                AuthorizationStatus.PENDIENTE, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        jpaRepository.leaseForReview(ids, owner, leaseExpiresAt);
+        return jpaRepository.findAllByIdInAndNotDeleted(ids).stream()
+                .map(MedicalAuthorizationEntity::toDomain)
+                .sorted(Comparator.comparing(MedicalAuthorization::getRequestDate)
+                        .thenComparing(MedicalAuthorization::getId))
+                .toList();
+    }
+
+    @Override
+    public int releaseExpiredLeases(LocalDateTime now) {
+        return jpaRepository.releaseExpiredLeases(now);
+    }
+
     @Override
     public List<MedicalAuthorization> findByPatientIdAndNotDeleted(UUID patientId) {
-        return List.of();
+        return toDomain(jpaRepository.findByPatientIdAndNotDeleted(patientId));
     }
 
     @Override
     public List<MedicalAuthorization> findByStatusAndNotDeleted(AuthorizationStatus status) {
-        return List.of();
+        return toDomain(jpaRepository.findByStatusAndNotDeleted(status));
     }
 
     @Override
     public List<MedicalAuthorization> findByPatientIdAndStatusAndNotDeleted(UUID patientId, AuthorizationStatus status) {
-        return List.of();
+        return toDomain(jpaRepository.findByPatientIdAndStatusAndNotDeleted(patientId, status));
     }
 
     @Override
     public List<MedicalAuthorization> findByServiceTypeAndNotDeleted(ServiceType serviceType) {
-        return List.of();
+        return toDomain(jpaRepository.findByServiceTypeAndNotDeleted(serviceType));
     }
 
     @Override
     public List<MedicalAuthorization> findPendingByPatientId(UUID patientId) {
-        return List.of();
+        return toDomain(jpaRepository.findPendingByPatientId(patientId));
     }
 
     @Override
     public long countActiveByPatientId(UUID patientId) {
-        return 0;
+        return jpaRepository.countActiveByPatientId(patientId);
     }
 
     @Override
     public List<MedicalAuthorization> findByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return List.of();
+        return toDomain(jpaRepository.findByDateRange(startDate, endDate));
     }
 
     @Override
     public List<MedicalAuthorization> findByRequestedBy(UUID userId) {
-        return List.of();
+        return toDomain(jpaRepository.findByRequestedBy(userId));
     }
 
     @Override
     public List<MedicalAuthorization> findAllActive() {
-        return List.of();
+        return toDomain(jpaRepository.findAllActive());
     }
 
     @Override
     public long countByStatus(AuthorizationStatus status) {
-        return 0;
+        return jpaRepository.countByStatus(status);
     }
 
     @Override
     public void deleteById(UUID id) {
-
+        jpaRepository.deleteById(id);
     }
 
     @Override
@@ -109,6 +212,18 @@ public class MedicalAuthorizationRepositoryAdapter implements MedicalAuthorizati
                 .toList();
     }
 
+    @Override
+    public List<MedicalAuthorization> findByStatusAfter(
+            AuthorizationStatus status,
+            LocalDateTime afterRequestDate,
+            UUID afterId,
+            int limit) {
+        if (afterRequestDate == null) {
+            return toDomain(jpaRepository.findFirstPageByStatus(status, Limit.of(limit)));
+        }
+        return toDomain(jpaRepository.findNextPageByStatus(status, afterRequestDate, afterId, Limit.of(limit)));
+    }
+
     @Override
     public List<MedicalAuthorization> findByPatientId(UUID patientId) {
         return jpaRepository.findByPatientIdAndDeletedFalse(patientId)
@@ -116,4 +231,17 @@ public class MedicalAuthorizationRepositoryAdapter implements MedicalAuthorizati
                 .map(entity -> entity.toDomain())
                 .toList();
     }
-}
\ No newline at end of file
+
+    private static List<MedicalAuthorization> toDomain(List<MedicalAuthorizationEntity> entities) {
+        return entities.stream()
+                .map(MedicalAuthorizationEntity::toDomain)
+                .toList();
+    }
+
+    private static Counter conflictCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("authorizations.optimistic.conflicts")
+                .description("Escrituras de autorizaciones rechazadas porque otra operación las modificó antes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -6,8 +6,13 @@ import com.meditrack.authorization.domain.models.Patient;
 import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.PatientEntity;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.PatientJpaRepository;
+import com.meditrack.authorization.domain.models.PatientSummary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,6 +51,17 @@ public class PatientRepositoryAdapter implements PatientRepositoryPort {
                 .map(PatientEntity::toDomain);
     }
 
+    @Override
+    public List<Patient> findAllByIdsAndNotDeleted(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdInAndNotDeleted(ids)
+                .stream()
+                .map(PatientEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Patient> findByDocumentNumber(String documentNumber) {
         return jpaRepository.findByDocumentNumber(documentNumber)
@@ -94,4 +110,35 @@ public class PatientRepositoryAdapter implements PatientRepositoryPort {
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    @Override
+    public SummarySlice findSummaries(SummaryFilter filter, SummarySort sort, boolean ascending, int page, int size) {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort order = Sort.by(direction, sortProperty(sort)).and(Sort.by(Sort.Direction.ASC, "id"));
+
+        Slice<PatientSummary> slice = jpaRepository.findSummaries(
+                filter.getAffiliationStatus(),
+                filter.getAffiliationType(),
+                filter.getDocumentPrefix(),
+                PageRequest.of(page, size, order)
+        );
+        return new SummarySlice(slice.getContent(), slice.hasNext());
+    }
+
+    @Override
+    public long countSummaries(SummaryFilter filter) {
+        return jpaRepository.countSummaries(
+                filter.getAffiliationStatus(),
+                filter.getAffiliationType(),
+                filter.getDocumentPrefix()
+        );
+    }
+
+    private static String sortProperty(SummarySort sort) {
+        return switch (sort) {
+            case LAST_NAME -> "lastName";
+            case DOCUMENT_NUMBER -> "documentNumber";
+            case AFFILIATION_DATE -> "affiliationDate";
+        };
+    }
+}
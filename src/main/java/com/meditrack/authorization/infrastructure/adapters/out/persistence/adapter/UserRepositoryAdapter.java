@@ -81,6 +81,11 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public boolean updatePasswordHash(UUID id, String expectedPasswordHash, String newPasswordHash) {
+        return jpaRepository.updatePasswordHash(id, expectedPasswordHash, newPasswordHash) == 1;
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
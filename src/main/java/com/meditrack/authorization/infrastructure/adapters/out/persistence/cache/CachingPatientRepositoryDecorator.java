@@ -0,0 +1,137 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorador: near-cache de pacientes por ID
+ *
+ * - Lectura: read-through por ID (findById y findByIdAndNotDeleted comparten la entrada);
+ *   las ausencias no se guardan
+ * - Escritura: save/deleteById invalidan la entrada en este nodo y la publican al resto
+ * - El modelo de dominio es mutable: se guarda y se entrega una copia en cada acceso
+ * - Conteos del listado paginado: caché propia por filtro con TTL corto; save/deleteById
+ *   la vacían en este nodo, en el resto expira sola (el total es orientativo)
+ *
+ * El resto de consultas van directo al repositorio.
+ */
+public class CachingPatientRepositoryDecorator implements PatientRepositoryPort {
+
+    public static final String CACHE_NAME = "patients-by-id";
+
+    private final PatientRepositoryPort delegate;
+    private final Cache<UUID, Patient> cache;
+    private final Cache<SummaryFilter, Long> countCache;
+    private final NearCacheInvalidator invalidator;
+
+    public CachingPatientRepositoryDecorator(
+            PatientRepositoryPort delegate,
+            Cache<UUID, Patient> cache,
+            Cache<SummaryFilter, Long> countCache,
+            NearCacheInvalidator invalidator) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.countCache = countCache;
+        this.invalidator = invalidator;
+        invalidator.register(CACHE_NAME, cache);
+    }
+
+    @Override
+    public Patient save(Patient patient) {
+        Patient saved = delegate.save(patient);
+        invalidator.invalidate(CACHE_NAME, saved.getId());
+        countCache.invalidateAll();
+        return saved;
+    }
+
+    @Override
+    public Optional<Patient> findById(UUID id) {
+        Patient cached = cache.get(id, key -> delegate.findById(key).map(CachingPatientRepositoryDecorator::copy).orElse(null));
+        return Optional.ofNullable(cached).map(CachingPatientRepositoryDecorator::copy);
+    }
+
+    @Override
+    public Optional<Patient> findByIdAndNotDeleted(UUID id) {
+        return findById(id).filter(patient -> !patient.isDeleted());
+    }
+
+    @Override
+    public Optional<Patient> findByDocumentNumber(String documentNumber) {
+        return delegate.findByDocumentNumber(documentNumber);
+    }
+
+    @Override
+    public boolean existsByDocumentNumber(String documentNumber) {
+        return delegate.existsByDocumentNumber(documentNumber);
+    }
+
+    @Override
+    public List<Patient> findByAffiliationStatus(AffiliationStatus status) {
+        return delegate.findByAffiliationStatus(status);
+    }
+
+    @Override
+    public List<Patient> findByAffiliationType(AffiliationType type) {
+        return delegate.findByAffiliationType(type);
+    }
+
+    @Override
+    public List<Patient> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<Patient> findByAffiliationStatusAndNotDeleted(AffiliationStatus status) {
+        return delegate.findByAffiliationStatusAndNotDeleted(status);
+    }
+
+    @Override
+    public List<Patient> findAllByIdsAndNotDeleted(Collection<UUID> ids) {
+        return delegate.findAllByIdsAndNotDeleted(ids);
+    }
+
+    @Override
+    public long countByAffiliationType(AffiliationType type) {
+        return delegate.countByAffiliationType(type);
+    }
+
+    @Override
+    public SummarySlice findSummaries(SummaryFilter filter, SummarySort sort, boolean ascending, int page, int size) {
+        return delegate.findSummaries(filter, sort, ascending, page, size);
+    }
+
+    @Override
+    public long countSummaries(SummaryFilter filter) {
+        return countCache.get(filter, delegate::countSummaries);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        invalidator.invalidate(CACHE_NAME, id);
+        countCache.invalidateAll();
+    }
+
+    private static Patient copy(Patient patient) {
+        return new Patient(
+                patient.getId(),
+                patient.getDocumentNumber(),
+                patient.getFirstName(),
+                patient.getLastName(),
+                patient.getEmail(),
+                patient.getPhone(),
+                patient.getAffiliationStatus(),
+                patient.getAffiliationType(),
+                patient.getAffiliationDate(),
+                patient.isDeleted()
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.models.User;
+import com.meditrack.authorization.domain.ports.out.UserRepositoryPort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorador: near-cache de usuarios por ID
+ *
+ * - Lectura: read-through en findById; las ausencias no se guardan
+ * - Escritura: save (incluida la desactivación), updatePasswordHash y deleteById invalidan la entrada
+ *   en este nodo y la publican al resto
+ * - El modelo de dominio es mutable: se guarda y se entrega una copia en cada acceso
+ *
+ * El resto de consultas (login por username, etc.) van directo al repositorio.
+ */
+public class CachingUserRepositoryDecorator implements UserRepositoryPort {
+
+    public static final String CACHE_NAME = "users-by-id";
+
+    private final UserRepositoryPort delegate;
+    private final Cache<UUID, User> cache;
+    private final NearCacheInvalidator invalidator;
+
+    public CachingUserRepositoryDecorator(
+            UserRepositoryPort delegate,
+            Cache<UUID, User> cache,
+            NearCacheInvalidator invalidator) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.invalidator = invalidator;
+        invalidator.register(CACHE_NAME, cache);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidator.invalidate(CACHE_NAME, saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        User cached = cache.get(id, key -> delegate.findById(key).map(CachingUserRepositoryDecorator::copy).orElse(null));
+        return Optional.ofNullable(cached).map(CachingUserRepositoryDecorator::copy);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findByPatientId(UUID patientId) {
+        return delegate.findByPatientId(patientId);
+    }
+
+    @Override
+    public List<User> findByRole(UserRole role) {
+        return delegate.findByRole(role);
+    }
+
+    @Override
+    public List<User> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public boolean updatePasswordHash(UUID id, String expectedPasswordHash, String newPasswordHash) {
+        boolean updated = delegate.updatePasswordHash(id, expectedPasswordHash, newPasswordHash);
+        if (updated) {
+            invalidator.invalidate(CACHE_NAME, id);
+        }
+        return updated;
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        invalidator.invalidate(CACHE_NAME, id);
+    }
+
+    private static User copy(User user) {
+        return new User(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getRole(),
+                user.getPatientId(),
+                user.isActive()
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.CacheInvalidationEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.CacheInvalidationJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invalidación de near-caches entre nodos sin broker
+ *
+ * - Escritura local: se descarta la entrada al momento y otra vez tras el commit (un lector
+ *   concurrente pudo recargar el valor anterior mientras la transacción seguía abierta)
+ * - Resto de nodos: la escritura deja una fila en cache_invalidations en la misma transacción;
+ *   cada nodo sondea las filas recientes con una ventana solapada (los IDs autoincrementales
+ *   pueden confirmarse fuera de orden, por eso no se sigue un cursor por ID)
+ *
+ * Métricas: near.cache.invalidation.lag (escritura -> invalidación aplicada en este nodo)
+ * y near.cache.poll.age (segundos desde el último sondeo correcto, cota de la obsolescencia)
+ */
+@Component
+public class NearCacheInvalidator {
+
+    private final CacheInvalidationJpaRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final Duration pollOverlap;
+    private final Map<String, Cache<UUID, ?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Timer> lagTimers = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastPollStart;
+    private volatile long lastSuccessfulPollMillis = System.currentTimeMillis();
+    private volatile long maxSeenId;
+
+    public NearCacheInvalidator(
+            CacheInvalidationJpaRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.near.poll-overlap:30000}") long pollOverlapMillis) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.pollOverlap = Duration.ofMillis(pollOverlapMillis);
+        this.lastPollStart = LocalDateTime.now();
+        Gauge.builder("near.cache.poll.age", this,
+                        invalidator -> (System.currentTimeMillis() - invalidator.lastSuccessfulPollMillis) / 1000.0)
+                .description("Segundos desde el último sondeo de invalidaciones (cota de obsolescencia)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra una caché local para que reciba las invalidaciones con su nombre
+     */
+    public void register(String cacheName, Cache<UUID, ?> cache) {
+        caches.put(cacheName, cache);
+        lagTimers.put(cacheName, Timer.builder("near.cache.invalidation.lag")
+                .description("Tiempo desde la escritura hasta la invalidación en este nodo")
+                .tag("cache", cacheName)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Invalida la entrada en este nodo y la publica para el resto
+     */
+    public void invalidate(String cacheName, UUID entityId) {
+        Cache<UUID, ?> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(entityId);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        cache.invalidate(entityId);
+                    }
+                });
+            }
+        }
+        repository.save(new CacheInvalidationEntity(cacheName, entityId, LocalDateTime.now()));
+    }
+
+    /**
+     * Aplica las invalidaciones recientes (propias y de otros nodos; invalidar es idempotente)
+     *
+     * @return Invalidaciones nuevas aplicadas
+     */
+    @Transactional(readOnly = true)
+    public int poll() {
+        LocalDateTime pollStart = LocalDateTime.now();
+        List<CacheInvalidationEntity> recent = repository.findByCreatedAtGreaterThanEqualOrderByIdAsc(
+                lastPollStart.minus(pollOverlap));
+
+        int applied = 0;
+        long seen = maxSeenId;
+        for (CacheInvalidationEntity invalidation : recent) {
+            Cache<UUID, ?> cache = caches.get(invalidation.getCacheName());
+            if (cache == null) {
+                continue;
+            }
+            cache.invalidate(invalidation.getEntityId());
+
+            if (invalidation.getId() > maxSeenId) {
+                applied++;
+                seen = Math.max(seen, invalidation.getId());
+                long lagMillis = Duration.between(invalidation.getCreatedAt(), pollStart).toMillis();
+                lagTimers.get(invalidation.getCacheName()).record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        maxSeenId = seen;
+        lastPollStart = pollStart;
+        lastSuccessfulPollMillis = System.currentTimeMillis();
+        return applied;
+    }
+
+    /**
+     * Borra las invalidaciones más antiguas que la retención
+     */
+    @Transactional
+    public int purge(Duration retention) {
+        return repository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+    }
+}
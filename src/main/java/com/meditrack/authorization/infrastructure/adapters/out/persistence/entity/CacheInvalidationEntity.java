@@ -0,0 +1,62 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA: Invalidación de Caché
+ * Mapea la tabla 'cache_invalidations' en la base de datos
+ */
+@Entity
+@Table(name = "cache_invalidations")
+public class CacheInvalidationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 40)
+    private String cacheName;
+
+    @Column(name = "entity_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID entityId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // ==========================================
+    // CONSTRUCTORES
+    // ==========================================
+
+    public CacheInvalidationEntity() {
+    }
+
+    public CacheInvalidationEntity(String cacheName, UUID entityId, LocalDateTime createdAt) {
+        this.cacheName = cacheName;
+        this.entityId = entityId;
+        this.createdAt = createdAt;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
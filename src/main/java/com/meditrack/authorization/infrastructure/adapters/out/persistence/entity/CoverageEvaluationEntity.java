@@ -2,6 +2,7 @@ package com.meditrack.authorization.infrastructure.adapters.out.persistence.enti
 
 import com.meditrack.authorization.domain.models.CoverageEvaluation;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,7 +14,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "coverage_evaluations")
-public class CoverageEvaluationEntity {
+public class CoverageEvaluationEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", columnDefinition = "BINARY(16)")
@@ -42,6 +43,10 @@ public class CoverageEvaluationEntity {
     @JoinColumn(name = "authorization_id", insertable = false, updatable = false)
     private MedicalAuthorizationEntity authorization;
 
+    // Solo true para inserciones en lote; por defecto save() sigue usando merge()
+    @Transient
+    private boolean newEntity;
+
     // ==========================================
     // CONSTRUCTORES
     // ==========================================
@@ -100,6 +105,29 @@ public class CoverageEvaluationEntity {
         );
     }
 
+    // ==========================================
+    // PERSISTABLE
+    // ==========================================
+
+    /**
+     * Marca la entidad como nueva para que se inserte con persist()
+     */
+    public CoverageEvaluationEntity markAsNew() {
+        this.newEntity = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     // ==========================================
     // GETTERS Y SETTERS
     // ==========================================
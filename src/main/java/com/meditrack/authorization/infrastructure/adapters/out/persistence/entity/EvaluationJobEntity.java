@@ -0,0 +1,249 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.entity;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA: Trabajo de Evaluación
+ * Mapea la tabla 'evaluation_jobs' en la base de datos
+ */
+@Entity
+@Table(name = "evaluation_jobs")
+public class EvaluationJobEntity {
+
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "authorization_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID authorizationId;
+
+    @Column(name = "estimated_cost", nullable = false, precision = 12, scale = 2)
+    private BigDecimal estimatedCost;
+
+    @Column(name = "requested_by", columnDefinition = "BINARY(16)")
+    private UUID requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EvaluationJobStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "evaluation_id", columnDefinition = "BINARY(16)")
+    private UUID evaluationId;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "not_before")
+    private LocalDateTime notBefore;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // ==========================================
+    // CONSTRUCTORES
+    // ==========================================
+
+    public EvaluationJobEntity() {
+    }
+
+    public EvaluationJobEntity(
+            UUID id,
+            UUID authorizationId,
+            BigDecimal estimatedCost,
+            UUID requestedBy,
+            EvaluationJobStatus status,
+            int attempts,
+            UUID evaluationId,
+            String errorMessage,
+            String claimedBy,
+            LocalDateTime leaseExpiresAt,
+            LocalDateTime notBefore,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this.id = id;
+        this.authorizationId = authorizationId;
+        this.estimatedCost = estimatedCost;
+        this.requestedBy = requestedBy;
+        this.status = status;
+        this.attempts = attempts;
+        this.evaluationId = evaluationId;
+        this.errorMessage = errorMessage;
+        this.claimedBy = claimedBy;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.notBefore = notBefore;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // ==========================================
+    // CONVERSIÓN: DOMAIN <-> ENTITY
+    // ==========================================
+
+    /**
+     * Convierte de modelo de dominio a entidad JPA
+     */
+    public static EvaluationJobEntity fromDomain(EvaluationJob job) {
+        return new EvaluationJobEntity(
+                job.getId(),
+                job.getAuthorizationId(),
+                job.getEstimatedCost(),
+                job.getRequestedBy(),
+                job.getStatus(),
+                job.getAttempts(),
+                job.getEvaluationId(),
+                job.getErrorMessage(),
+                job.getClaimedBy(),
+                job.getLeaseExpiresAt(),
+                job.getNotBefore(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Convierte de entidad JPA a modelo de dominio
+     */
+    public EvaluationJob toDomain() {
+        return new EvaluationJob(
+                this.id,
+                this.authorizationId,
+                this.estimatedCost,
+                this.requestedBy,
+                this.status,
+                this.attempts,
+                this.evaluationId,
+                this.errorMessage,
+                this.claimedBy,
+                this.leaseExpiresAt,
+                this.notBefore,
+                this.createdAt,
+                this.updatedAt
+        );
+    }
+
+    // ==========================================
+    // GETTERS Y SETTERS
+    // ==========================================
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAuthorizationId() {
+        return authorizationId;
+    }
+
+    public void setAuthorizationId(UUID authorizationId) {
+        this.authorizationId = authorizationId;
+    }
+
+    public BigDecimal getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    public void setEstimatedCost(BigDecimal estimatedCost) {
+        this.estimatedCost = estimatedCost;
+    }
+
+    public UUID getRequestedBy() {
+        return requestedBy;
+    }
+
+    public void setRequestedBy(UUID requestedBy) {
+        this.requestedBy = requestedBy;
+    }
+
+    public EvaluationJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EvaluationJobStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public UUID getEvaluationId() {
+        return evaluationId;
+    }
+
+    public void setEvaluationId(UUID evaluationId) {
+        this.evaluationId = evaluationId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public LocalDateTime getNotBefore() {
+        return notBefore;
+    }
+
+    public void setNotBefore(LocalDateTime notBefore) {
+        this.notBefore = notBefore;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -43,6 +43,18 @@ public class MedicalAuthorizationEntity {
     @Column(name = "deleted", nullable = false)
     private boolean deleted;
 
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // Control optimista: cada UPDATE exige la versión leída y la incrementa.
+    // Wrapper: null marca una autorización nueva (persist directo, sin SELECT previo del merge)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Relación ManyToOne con Patient
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", insertable = false, updatable = false)
@@ -86,7 +98,7 @@ public class MedicalAuthorizationEntity {
      * Convierte de modelo de dominio a entidad JPA
      */
     public static MedicalAuthorizationEntity fromDomain(MedicalAuthorization authorization) {
-        return new MedicalAuthorizationEntity(
+        MedicalAuthorizationEntity entity = new MedicalAuthorizationEntity(
                 authorization.getId(),
                 authorization.getPatientId(),
                 authorization.getServiceType(),
@@ -96,6 +108,10 @@ public class MedicalAuthorizationEntity {
                 authorization.getRequestedBy(),
                 authorization.isDeleted()
         );
+        entity.leaseOwner = authorization.getLeaseOwner();
+        entity.leaseExpiresAt = authorization.getLeaseExpiresAt();
+        entity.version = authorization.getVersion();
+        return entity;
     }
 
     /**
@@ -110,7 +126,10 @@ public class MedicalAuthorizationEntity {
                 this.requestDate,
                 this.status,
                 this.requestedBy,
-                this.deleted
+                this.deleted,
+                this.leaseOwner,
+                this.leaseExpiresAt,
+                this.version
         );
     }
 
@@ -182,6 +201,26 @@ public class MedicalAuthorizationEntity {
         this.deleted = deleted;
     }
 
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     public PatientEntity getPatient() {
         return patient;
     }
@@ -0,0 +1,46 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidad JPA: Sesión Revocada
+ * Mapea la tabla 'revoked_sessions' en la base de datos
+ */
+@Entity
+@Table(name = "revoked_sessions")
+public class RevokedSessionEntity {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    // ==========================================
+    // CONSTRUCTORES
+    // ==========================================
+
+    public RevokedSessionEntity() {
+    }
+
+    public RevokedSessionEntity(UUID userId, LocalDateTime revokedAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+    }
+
+    // ==========================================
+    // GETTERS
+    // ==========================================
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.repository;
+
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.CacheInvalidationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio JPA para CacheInvalidationEntity
+ */
+@Repository
+public interface CacheInvalidationJpaRepository extends JpaRepository<CacheInvalidationEntity, Long> {
+
+    /**
+     * Invalidaciones registradas desde un instante (el sondeo usa una ventana solapada)
+     */
+    List<CacheInvalidationEntity> findByCreatedAtGreaterThanEqualOrderByIdAsc(LocalDateTime since);
+
+    /**
+     * Purga las invalidaciones que ya procesaron todos los nodos
+     */
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationEntity c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -7,8 +7,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -27,6 +29,12 @@ public interface CoverageEvaluationJpaRepository extends JpaRepository<CoverageE
      */
     boolean existsByAuthorizationId(UUID authorizationId);
 
+    /**
+     * De las autorizaciones dadas, devuelve las que ya tienen evaluación
+     */
+    @Query("SELECT ce.authorizationId FROM CoverageEvaluationEntity ce WHERE ce.authorizationId IN :authorizationIds")
+    Set<UUID> findAuthorizationIdsIn(@Param("authorizationIds") Collection<UUID> authorizationIds);
+
     /**
      * Busca evaluaciones aprobadas
      */
@@ -0,0 +1,115 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.repository;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.EvaluationJobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositorio JPA para la entidad EvaluationJob
+ */
+@Repository
+public interface EvaluationJobJpaRepository extends JpaRepository<EvaluationJobEntity, UUID> {
+
+    /**
+     * Cuenta trabajos en un estado
+     */
+    long countByStatus(EvaluationJobStatus status);
+
+    /**
+     * Verifica si una autorización tiene trabajos en alguno de los estados dados
+     */
+    boolean existsByAuthorizationIdAndStatusIn(UUID authorizationId, Collection<EvaluationJobStatus> statuses);
+
+    /**
+     * Busca los IDs de los trabajos en un estado que ya pueden tomarse (not_before vencido),
+     * del más antiguo al más reciente. Usa el índice (status, created_at)
+     */
+    @Query("SELECT ej.id FROM EvaluationJobEntity ej " +
+            "WHERE ej.status = :status AND (ej.notBefore IS NULL OR ej.notBefore <= :now) " +
+            "ORDER BY ej.createdAt ASC")
+    List<UUID> findReadyIdsByStatusOrderByCreatedAt(
+            @Param("status") EvaluationJobStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * Cambia el estado solo si coincide con el esperado, incrementa los intentos
+     * y registra el nodo que lo toma y hasta cuándo
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EvaluationJobEntity ej " +
+            "SET ej.status = :newStatus, ej.attempts = ej.attempts + 1, ej.updatedAt = :now, " +
+            "ej.claimedBy = :owner, ej.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE ej.id = :id AND ej.status = :expectedStatus")
+    int claim(
+            @Param("id") UUID id,
+            @Param("expectedStatus") EvaluationJobStatus expectedStatus,
+            @Param("newStatus") EvaluationJobStatus newStatus,
+            @Param("owner") String owner,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Registra el resultado solo si el trabajo sigue EN_PROCESO y reservado por el nodo dado
+     * (si su reserva venció y otro nodo lo tomó, el resultado tardío se descarta)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EvaluationJobEntity ej " +
+            "SET ej.status = :newStatus, ej.evaluationId = :evaluationId, ej.errorMessage = :errorMessage, " +
+            "ej.notBefore = :notBefore, ej.claimedBy = NULL, ej.leaseExpiresAt = NULL, ej.updatedAt = :now " +
+            "WHERE ej.id = :id AND ej.status = :inProgress AND ej.claimedBy = :owner")
+    int finishIfClaimedBy(
+            @Param("id") UUID id,
+            @Param("owner") String owner,
+            @Param("inProgress") EvaluationJobStatus inProgress,
+            @Param("newStatus") EvaluationJobStatus newStatus,
+            @Param("evaluationId") UUID evaluationId,
+            @Param("errorMessage") String errorMessage,
+            @Param("notBefore") LocalDateTime notBefore,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Devuelve a la cola los trabajos en proceso del nodo dado o con la reserva vencida
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EvaluationJobEntity ej " +
+            "SET ej.status = :queued, ej.claimedBy = NULL, ej.leaseExpiresAt = NULL, ej.updatedAt = :now " +
+            "WHERE ej.status = :inProgress AND (ej.claimedBy = :owner OR ej.leaseExpiresAt < :now)")
+    int requeueClaimedByOrExpired(
+            @Param("owner") String owner,
+            @Param("inProgress") EvaluationJobStatus inProgress,
+            @Param("queued") EvaluationJobStatus queued,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Devuelve a la cola los trabajos en proceso con la reserva vencida (nodo caído)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EvaluationJobEntity ej " +
+            "SET ej.status = :queued, ej.claimedBy = NULL, ej.leaseExpiresAt = NULL, ej.updatedAt = :now " +
+            "WHERE ej.status = :inProgress AND ej.leaseExpiresAt < :now")
+    int requeueExpired(
+            @Param("inProgress") EvaluationJobStatus inProgress,
+            @Param("queued") EvaluationJobStatus queued,
+            @Param("now") LocalDateTime now
+    );
+}
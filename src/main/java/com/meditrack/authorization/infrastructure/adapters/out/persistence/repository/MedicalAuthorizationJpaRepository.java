@@ -3,40 +3,69 @@ package com.meditrack.authorization.infrastructure.adapters.out.persistence.repo
 import com.meditrack.authorization.domain.enums.AuthorizationStatus;
 import com.meditrack.authorization.domain.enums.ServiceType;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.MedicalAuthorizationEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repositorio JPA para la entidad MedicalAuthorization
+ *
+ * Los UPDATE masivos no pasan por Hibernate: incrementan la versión a mano para que
+ * una lectura previa a ellos no pueda sobrescribir su cambio al guardar
  */
 @Repository
 public interface MedicalAuthorizationJpaRepository extends JpaRepository<MedicalAuthorizationEntity, UUID> {
 
     /**
      * Busca autorizaciones por paciente (no eliminadas)
-     * Usa EntityGraph para evitar N+1 queries
+     *
+     * Los listados cargan coverageEvaluation en el mismo SELECT: el lado inverso del OneToOne
+     * se resuelve siempre al cargar la entidad y, sin el EntityGraph, sería un SELECT por fila
      */
-    @EntityGraph(attributePaths = {"patient", "coverageEvaluation"})
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma WHERE ma.patientId = :patientId AND ma.deleted = false")
     List<MedicalAuthorizationEntity> findByPatientIdAndNotDeleted(@Param("patientId") UUID patientId);
 
+    /**
+     * Actualiza el estado solo si coincide con el esperado (compare-and-set)
+     * Se usa para llegar a un estado final, por eso libera también la reserva de revisión
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MedicalAuthorizationEntity ma " +
+            "SET ma.status = :newStatus, ma.leaseOwner = NULL, ma.leaseExpiresAt = NULL, " +
+            "ma.version = ma.version + 1 " +
+            "WHERE ma.id = :id AND ma.status = :expectedStatus AND ma.deleted = false")
+    int updateStatusIfUnchanged(
+            @Param("id") UUID id,
+            @Param("expectedStatus") AuthorizationStatus expectedStatus,
+            @Param("newStatus") AuthorizationStatus newStatus
+    );
+
     /**
      * Busca autorizaciones por estado (no eliminadas)
      */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma WHERE ma.status = :status AND ma.deleted = false")
     List<MedicalAuthorizationEntity> findByStatusAndNotDeleted(@Param("status") AuthorizationStatus status);
 
     /**
      * Busca autorizaciones por paciente y estado (no eliminadas)
      */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
             "WHERE ma.patientId = :patientId AND ma.status = :status AND ma.deleted = false")
     List<MedicalAuthorizationEntity> findByPatientIdAndStatusAndNotDeleted(
@@ -51,9 +80,67 @@ public interface MedicalAuthorizationJpaRepository extends JpaRepository<Medical
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma WHERE ma.id = :id AND ma.deleted = false")
     Optional<MedicalAuthorizationEntity> findByIdAndNotDeleted(@Param("id") UUID id);
 
+    /**
+     * Busca varias autorizaciones por ID (no eliminadas)
+     */
+    @Query("SELECT ma FROM MedicalAuthorizationEntity ma WHERE ma.id IN :ids AND ma.deleted = false")
+    List<MedicalAuthorizationEntity> findAllByIdInAndNotDeleted(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Busca autorizaciones por ID en alguno de los estados dados, bloqueando las filas (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
+            "WHERE ma.id IN :ids AND ma.status IN :statuses AND ma.deleted = false")
+    List<MedicalAuthorizationEntity> findAllByIdInAndStatusInForUpdate(
+            @Param("ids") Collection<UUID> ids,
+            @Param("statuses") Collection<AuthorizationStatus> statuses
+    );
+
+    /**
+     * IDs de las autorizaciones más antiguas en un estado, bloqueando sus filas y saltando
+     * las que ya bloqueó otra transacción (SELECT ... FOR UPDATE SKIP LOCKED en MySQL 8)
+     * Usa el índice (status, deleted, request_date, id)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT ma.id FROM MedicalAuthorizationEntity ma " +
+            "WHERE ma.status = :status AND ma.deleted = false " +
+            "ORDER BY ma.requestDate ASC, ma.id ASC")
+    List<UUID> findIdsByStatusForUpdateSkipLocked(
+            @Param("status") AuthorizationStatus status,
+            Limit limit
+    );
+
+    /**
+     * Pasa a EN_REVISION con reserva las autorizaciones dadas que sigan PENDIENTE
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MedicalAuthorizationEntity ma " +
+            "SET ma.status = 'EN_REVISION', ma.leaseOwner = :owner, ma.leaseExpiresAt = :expiresAt, " +
+            "ma.version = ma.version + 1 " +
+            "WHERE ma.id IN :ids AND ma.status = 'PENDIENTE' AND ma.deleted = false")
+    int leaseForReview(
+            @Param("ids") Collection<UUID> ids,
+            @Param("owner") String owner,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    /**
+     * Devuelve a PENDIENTE las autorizaciones EN_REVISION cuya reserva venció
+     * Las que están EN_REVISION sin reserva (cambio manual de estado) y las eliminadas no se tocan
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MedicalAuthorizationEntity ma " +
+            "SET ma.status = 'PENDIENTE', ma.leaseOwner = NULL, ma.leaseExpiresAt = NULL, " +
+            "ma.version = ma.version + 1 " +
+            "WHERE ma.status = 'EN_REVISION' AND ma.leaseExpiresAt < :now AND ma.deleted = false")
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
     /**
      * Busca autorizaciones por tipo de servicio (no eliminadas)
      */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
             "WHERE ma.serviceType = :serviceType AND ma.deleted = false")
     List<MedicalAuthorizationEntity> findByServiceTypeAndNotDeleted(@Param("serviceType") ServiceType serviceType);
@@ -61,6 +148,7 @@ public interface MedicalAuthorizationJpaRepository extends JpaRepository<Medical
     /**
      * Busca autorizaciones pendientes para un paciente específico
      */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
             "WHERE ma.patientId = :patientId " +
             "AND ma.status = 'PENDIENTE' " +
@@ -77,6 +165,7 @@ public interface MedicalAuthorizationJpaRepository extends JpaRepository<Medical
     /**
      * Busca autorizaciones por rango de fechas
      */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
             "WHERE ma.requestDate BETWEEN :startDate AND :endDate " +
             "AND ma.deleted = false " +
@@ -89,15 +178,16 @@ public interface MedicalAuthorizationJpaRepository extends JpaRepository<Medical
     /**
      * Busca autorizaciones por quien las solicitó
      */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
             "WHERE ma.requestedBy = :userId AND ma.deleted = false " +
             "ORDER BY ma.requestDate DESC")
     List<MedicalAuthorizationEntity> findByRequestedBy(@Param("userId") UUID userId);
 
     /**
-     * Busca todas las autorizaciones activas (no eliminadas) con paginación implícita
+     * Busca todas las autorizaciones activas (no eliminadas)
      */
-    @EntityGraph(attributePaths = {"patient"})
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
     @Query("SELECT ma FROM MedicalAuthorizationEntity ma WHERE ma.deleted = false ORDER BY ma.requestDate DESC")
     List<MedicalAuthorizationEntity> findAllActive();
 
@@ -108,6 +198,33 @@ public interface MedicalAuthorizationJpaRepository extends JpaRepository<Medical
             "WHERE ma.status = :status AND ma.deleted = false")
     long countByStatus(@Param("status") AuthorizationStatus status);
 
+    /**
+     * Primera página por keyset de autorizaciones en un estado (índice status, deleted, request_date, id)
+     */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
+    @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
+            "WHERE ma.status = :status AND ma.deleted = false " +
+            "ORDER BY ma.requestDate ASC, ma.id ASC")
+    List<MedicalAuthorizationEntity> findFirstPageByStatus(
+            @Param("status") AuthorizationStatus status,
+            Limit limit
+    );
+
+    /**
+     * Página siguiente por keyset: filas estrictamente posteriores a (afterDate, afterId)
+     */
+    @EntityGraph(attributePaths = {"coverageEvaluation"})
+    @Query("SELECT ma FROM MedicalAuthorizationEntity ma " +
+            "WHERE ma.status = :status AND ma.deleted = false " +
+            "AND (ma.requestDate > :afterDate OR (ma.requestDate = :afterDate AND ma.id > :afterId)) " +
+            "ORDER BY ma.requestDate ASC, ma.id ASC")
+    List<MedicalAuthorizationEntity> findNextPageByStatus(
+            @Param("status") AuthorizationStatus status,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
     /**
      * Busca una autorización por ID que no esté eliminada
      */
@@ -2,12 +2,16 @@ package com.meditrack.authorization.infrastructure.adapters.out.persistence.repo
 
 import com.meditrack.authorization.domain.enums.AffiliationStatus;
 import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.models.PatientSummary;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.PatientEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -56,6 +60,12 @@ public interface PatientJpaRepository extends JpaRepository<PatientEntity, UUID>
     @Query("SELECT p FROM PatientEntity p WHERE p.id = :id AND p.deleted = false")
     Optional<PatientEntity> findByIdAndNotDeleted(@Param("id") UUID id);
 
+    /**
+     * Busca varios pacientes por ID (no eliminados)
+     */
+    @Query("SELECT p FROM PatientEntity p WHERE p.id IN :ids AND p.deleted = false")
+    List<PatientEntity> findAllByIdInAndNotDeleted(@Param("ids") Collection<UUID> ids);
+
     /**
      * Busca pacientes por email
      */
@@ -66,4 +76,40 @@ public interface PatientJpaRepository extends JpaRepository<PatientEntity, UUID>
      */
     @Query("SELECT COUNT(p) FROM PatientEntity p WHERE p.affiliationType = :type AND p.deleted = false")
     long countByAffiliationType(@Param("type") AffiliationType type);
-}
\ No newline at end of file
+
+    /**
+     * Listado de pacientes como proyección: selecciona solo las columnas del listado y no
+     * instancia entidades (ni las registra en el contexto de persistencia).
+     * Slice pide una fila de más en lugar de ejecutar COUNT; el orden viene del Pageable.
+     * Con un filtro en null la condición se anula (Connector/J envía los valores en línea
+     * y MySQL descarta la condición al optimizar)
+     */
+    @Query("SELECT new com.meditrack.authorization.domain.models.PatientSummary(" +
+            "p.id, p.documentNumber, p.firstName, p.lastName, p.email, p.phone, " +
+            "p.affiliationStatus, p.affiliationType, p.affiliationDate) " +
+            "FROM PatientEntity p " +
+            "WHERE p.deleted = false " +
+            "AND (:status IS NULL OR p.affiliationStatus = :status) " +
+            "AND (:type IS NULL OR p.affiliationType = :type) " +
+            "AND (:documentPrefix IS NULL OR p.documentNumber LIKE CONCAT(:documentPrefix, '%'))")
+    Slice<PatientSummary> findSummaries(
+            @Param("status") AffiliationStatus status,
+            @Param("type") AffiliationType type,
+            @Param("documentPrefix") String documentPrefix,
+            Pageable pageable
+    );
+
+    /**
+     * Total del listado con los mismos filtros
+     */
+    @Query("SELECT COUNT(p) FROM PatientEntity p " +
+            "WHERE p.deleted = false " +
+            "AND (:status IS NULL OR p.affiliationStatus = :status) " +
+            "AND (:type IS NULL OR p.affiliationType = :type) " +
+            "AND (:documentPrefix IS NULL OR p.documentNumber LIKE CONCAT(:documentPrefix, '%'))")
+    long countSummaries(
+            @Param("status") AffiliationStatus status,
+            @Param("type") AffiliationType type,
+            @Param("documentPrefix") String documentPrefix
+    );
+}
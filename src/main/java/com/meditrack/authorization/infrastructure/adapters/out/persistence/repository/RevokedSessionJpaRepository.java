@@ -0,0 +1,31 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.repository;
+
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.RevokedSessionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositorio JPA para RevokedSessionEntity
+ */
+@Repository
+public interface RevokedSessionJpaRepository extends JpaRepository<RevokedSessionEntity, UUID> {
+
+    /**
+     * Revocaciones registradas desde un instante (el sondeo usa una ventana solapada)
+     */
+    List<RevokedSessionEntity> findByRevokedAtGreaterThanEqual(LocalDateTime since);
+
+    /**
+     * Purga las revocaciones cuyos tokens afectados ya expiraron
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedSessionEntity r WHERE r.revokedAt < :before")
+    int deleteRevokedBefore(@Param("before") LocalDateTime before);
+}
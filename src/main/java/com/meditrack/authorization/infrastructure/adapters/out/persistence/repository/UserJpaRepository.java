@@ -3,9 +3,11 @@ package com.meditrack.authorization.infrastructure.adapters.out.persistence.repo
 import com.meditrack.authorization.domain.enums.UserRole;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +54,20 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
      */
     Optional<UserEntity> findByPatientId(UUID patientId);
 
+    /**
+     * Cambia solo el hash de la contraseña si sigue siendo el esperado y el usuario está activo
+     * (compare-and-set: no reescribe campos cargados antes, como active)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.password = :newHash " +
+            "WHERE u.id = :id AND u.password = :expectedHash AND u.active = true")
+    int updatePasswordHash(
+            @Param("id") UUID id,
+            @Param("expectedHash") String expectedHash,
+            @Param("newHash") String newHash
+    );
+
     /**
      * Busca usuarios por rol y estado activo
      */
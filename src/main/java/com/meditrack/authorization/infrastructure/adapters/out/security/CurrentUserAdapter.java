@@ -1,5 +1,6 @@
 package com.meditrack.authorization.infrastructure.adapters.out.security;
 
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
 import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,6 +17,11 @@ public class CurrentUserAdapter implements CurrentUserPort {
 
     @Override
     public UUID getCurrentUserId() {
+        return getCurrentUser().getUserId();
+    }
+
+    @Override
+    public AuthenticatedUser getCurrentUser() {
         // Obtener la autenticación del contexto de seguridad
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -24,7 +30,7 @@ public class CurrentUserAdapter implements CurrentUserPort {
             throw new IllegalStateException("No hay usuario autenticado");
         }
 
-        // El principal es el UUID del usuario que estableció JwtAuthenticationFilter
+        // El principal es el AuthenticatedUser que estableció JwtAuthenticationFilter
         Object principal = authentication.getPrincipal();
 
         // Si es "anonymousUser" significa que no está autenticado
@@ -32,11 +38,10 @@ public class CurrentUserAdapter implements CurrentUserPort {
             throw new IllegalStateException("No hay usuario autenticado");
         }
 
-        // Convertir a UUID
-        if (principal instanceof UUID) {
-            return (UUID) principal;
+        if (principal instanceof AuthenticatedUser) {
+            return (AuthenticatedUser) principal;
         }
 
-        throw new IllegalStateException("Principal no es un UUID válido");
+        throw new IllegalStateException("Principal no es un usuario autenticado válido");
     }
-}
\ No newline at end of file
+}
@@ -21,8 +21,8 @@ public class JwtServiceAdapter implements JwtServicePort {
     }
 
     @Override
-    public String generateToken(UUID userId, String username, UserRole role) {
-        return jwtService.generateToken(userId, username, role);
+    public String generateToken(UUID userId, String username, UserRole role, UUID patientId) {
+        return jwtService.generateToken(userId, username, role, patientId);
     }
 
     @Override
@@ -1,29 +1,147 @@
 package com.meditrack.authorization.infrastructure.adapters.out.security;
 
+import com.meditrack.authorization.domain.exceptions.ServiceUnavailableException;
 import com.meditrack.authorization.domain.ports.out.PasswordEncoderPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Adaptador de encriptación de contraseñas
  * Implementa el puerto OUT PasswordEncoderPort usando BCrypt de Spring Security
+ *
+ * BCrypt es CPU intensivo a propósito: se ejecuta en un pool propio y acotado para que
+ * una ráfaga de logins o registros no consuma la CPU de los demás endpoints.
+ * Con la cola llena (o si la espera supera el límite) se responde 503 de inmediato.
+ *
+ * Métricas: password.hashing.duration{operation=encode|matches}, password.hashing.queue.size,
+ * password.hashing.active y password.hashing.rejected{operation}
  */
 @Component
 public class PasswordEncoderAdapter implements PasswordEncoderPort {
 
+    private static final long RETRY_AFTER_SECONDS = 1;
+
     private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final long waitTimeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter encodeRejected;
+    private final Counter matchesRejected;
 
-    public PasswordEncoderAdapter(PasswordEncoder passwordEncoder) {
+    public PasswordEncoderAdapter(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing.threads:2}") int threads,
+            @Value("${security.password.hashing.queue-capacity:50}") int queueCapacity,
+            @Value("${security.password.hashing.wait-timeout:5000}") long waitTimeoutMillis) {
         this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.hashingExecutor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.encodeRejected = rejectedCounter(meterRegistry, "encode");
+        this.matchesRejected = rejectedCounter(meterRegistry, "matches");
+        Gauge.builder("password.hashing.queue.size", hashingExecutor, executor -> executor.getQueue().size())
+                .description("Operaciones de contraseña esperando un hilo libre")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Operaciones de contraseña en ejecución")
+                .register(meterRegistry);
     }
 
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)), encodeRejected);
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)),
+                matchesRejected);
+    }
+
+    /**
+     * Solo lee el prefijo y el costo del hash: no pasa por el pool
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Ejecuta la operación en el pool y espera su resultado; sin capacidad responde 503
+     */
+    private <T> T submit(Callable<T> operation, Counter rejected) {
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(operation);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceUnavailableException busy() {
+        return new ServiceUnavailableException(
+                "El servicio de autenticación está saturado, intente nuevamente", RETRY_AFTER_SECONDS);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing.duration")
+                .description("Duración de BCrypt (sin contar la espera en cola)")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("password.hashing.rejected")
+                .description("Operaciones de contraseña rechazadas por falta de capacidad")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
     }
-}
\ No newline at end of file
+}
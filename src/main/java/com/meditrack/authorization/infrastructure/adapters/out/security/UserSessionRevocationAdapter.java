@@ -0,0 +1,26 @@
+package com.meditrack.authorization.infrastructure.adapters.out.security;
+
+import com.meditrack.authorization.domain.ports.out.UserSessionRevocationPort;
+import com.meditrack.authorization.infrastructure.security.RevokedSessionRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Adaptador de revocación de sesiones
+ * Implementa el puerto OUT UserSessionRevocationPort usando RevokedSessionRegistry de infraestructura
+ */
+@Component
+public class UserSessionRevocationAdapter implements UserSessionRevocationPort {
+
+    private final RevokedSessionRegistry revokedSessionRegistry;
+
+    public UserSessionRevocationAdapter(RevokedSessionRegistry revokedSessionRegistry) {
+        this.revokedSessionRegistry = revokedSessionRegistry;
+    }
+
+    @Override
+    public void revokeSessions(UUID userId) {
+        revokedSessionRegistry.revoke(userId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.meditrack.authorization.infrastructure.config;
+
+import com.meditrack.authorization.infrastructure.adapters.out.external.http.HedgingRequestExecutor;
+import com.meditrack.authorization.infrastructure.adapters.out.external.http.RetryingRequestExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuración del cliente HTTP no bloqueante (java.net.http.HttpClient)
+ * usado por las llamadas asíncronas al servicio de seguros
+ *
+ * Las peticiones se multiplexan sobre el selector del cliente; el executor
+ * solo procesa las respuestas, por eso puede ser pequeño y acotado.
+ * No se expone como bean para no desplazar al applicationTaskExecutor de Spring Boot.
+ */
+@Configuration
+public class AsyncHttpClientConfig {
+
+    private final ExecutorService responseExecutor;
+    private final int connectTimeout;
+
+    public AsyncHttpClientConfig(
+            @Value("${insurance.validation.service.connect-timeout:2000}") int connectTimeout,
+            @Value("${insurance.validation.service.async.threads:4}") int asyncThreads) {
+        this.connectTimeout = connectTimeout;
+        this.responseExecutor = Executors.newFixedThreadPool(
+                asyncThreads, new CustomizableThreadFactory("insurance-async-"));
+    }
+
+    @Bean
+    public HttpClient insuranceAsyncHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .executor(responseExecutor)
+                .build();
+    }
+
+    /**
+     * Segundo intento (hedging) de las llamadas asíncronas; deshabilitado por defecto
+     */
+    @Bean
+    public HedgingRequestExecutor insuranceHedgingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${insurance.validation.service.hedging.enabled:false}") boolean enabled,
+            @Value("${insurance.validation.service.hedging.percentile:0.95}") double percentile,
+            @Value("${insurance.validation.service.hedging.budget-percent:10}") double budgetPercent,
+            @Value("${insurance.validation.service.hedging.min-delay:50}") long minDelayMillis) {
+        return new HedgingRequestExecutor(meterRegistry, enabled, percentile, budgetPercent, minDelayMillis);
+    }
+
+    /**
+     * Reintentos con backoff, presupuesto y plazo total; max-attempts=1 los desactiva
+     */
+    @Bean
+    public RetryingRequestExecutor insuranceRetryingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${insurance.validation.service.retry.max-attempts:3}") int maxAttempts,
+            @Value("${insurance.validation.service.retry.initial-backoff:100}") long initialBackoffMillis,
+            @Value("${insurance.validation.service.retry.multiplier:2.0}") double multiplier,
+            @Value("${insurance.validation.service.retry.max-backoff:1000}") long maxBackoffMillis,
+            @Value("${insurance.validation.service.retry.budget-percent:20}") double budgetPercent,
+            @Value("${insurance.validation.service.retry.deadline:10000}") long deadlineMillis,
+            @Value("${insurance.validation.service.timeout:5000}") long attemptTimeoutMillis) {
+        return new RetryingRequestExecutor(meterRegistry, maxAttempts, initialBackoffMillis, multiplier,
+                maxBackoffMillis, budgetPercent, deadlineMillis, attemptTimeoutMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        responseExecutor.shutdown();
+    }
+}
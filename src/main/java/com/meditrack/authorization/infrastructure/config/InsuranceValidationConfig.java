@@ -0,0 +1,98 @@
+package com.meditrack.authorization.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import com.meditrack.authorization.infrastructure.adapters.out.external.adapter.InsuranceValidationServiceAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.external.decorator.CachingInsuranceValidationDecorator;
+import com.meditrack.authorization.infrastructure.adapters.out.external.decorator.CachingInsuranceValidationDecorator.CachedDecision;
+import com.meditrack.authorization.infrastructure.adapters.out.external.decorator.CachingInsuranceValidationDecorator.DecisionKey;
+import com.meditrack.authorization.infrastructure.adapters.out.external.decorator.CoalescingInsuranceValidationDecorator;
+import com.meditrack.authorization.infrastructure.adapters.out.external.decorator.ResilientInsuranceValidationDecorator;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Configuración del puerto de validación de seguros
+ *
+ * Los servicios reciben el adaptador HTTP envuelto en los decoradores habilitados:
+ * caché de decisiones -> agrupación de consultas en vuelo -> circuit breaker / bulkhead -> adaptador HTTP
+ *
+ * La caché queda por fuera: un acierto responde aunque el circuito esté abierto
+ */
+@Configuration
+public class InsuranceValidationConfig {
+
+    private static final String DECISION_CACHE_NAME = "insurance-decisions";
+    private static final String RESILIENCE_INSTANCE_NAME = "insurance";
+
+    @Value("${insurance.validation.service.coalescing.enabled:true}")
+    private boolean coalescingEnabled;
+
+    @Value("${insurance.validation.service.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Value("${insurance.validation.service.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${insurance.validation.service.cache.ttl:600000}")
+    private long cacheTtl;
+
+    @Value("${insurance.validation.service.cache.cost-band-width:50000}")
+    private BigDecimal cacheCostBandWidth;
+
+    @Bean
+    @Primary
+    public InsuranceValidationServicePort insuranceValidationService(
+            InsuranceValidationServiceAdapter adapter,
+            MeterRegistry meterRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry) {
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE_NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                System.out.println("Circuit breaker del servicio de seguros: " + event.getStateTransition()));
+
+        InsuranceValidationServicePort port = new ResilientInsuranceValidationDecorator(
+                adapter, circuitBreaker, bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE_NAME));
+
+        if (coalescingEnabled) {
+            Counter coalescedCalls = Counter.builder("insurance.validation.coalesced")
+                    .description("Consultas al seguro resueltas con una llamada idéntica ya en vuelo")
+                    .register(meterRegistry);
+            port = new CoalescingInsuranceValidationDecorator(port, coalescedCalls);
+        }
+
+        if (cacheEnabled) {
+            port = new CachingInsuranceValidationDecorator(port, decisionCache(meterRegistry), cacheCostBandWidth);
+            System.out.println("Caché de decisiones de seguro habilitada: max=" + cacheMaxSize +
+                    ", ttl=" + cacheTtl + "ms, banda=" + cacheCostBandWidth);
+        }
+
+        return port;
+    }
+
+    /**
+     * Caché acotada por tamaño (desalojo W-TinyLFU de Caffeine) y por TTL.
+     * Publica en actuator cache.gets{result=hit|miss}, cache.evictions y cache.size
+     */
+    private Cache<DecisionKey, CachedDecision> decisionCache(MeterRegistry meterRegistry) {
+        Cache<DecisionKey, CachedDecision> cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtl))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, DECISION_CACHE_NAME);
+    }
+}
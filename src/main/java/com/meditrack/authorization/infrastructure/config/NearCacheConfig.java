@@ -0,0 +1,88 @@
+package com.meditrack.authorization.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.models.User;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummaryFilter;
+import com.meditrack.authorization.domain.ports.out.UserRepositoryPort;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.PatientRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.UserRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.cache.CachingPatientRepositoryDecorator;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.cache.CachingUserRepositoryDecorator;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.cache.NearCacheInvalidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Configuración de los near-caches de usuarios y pacientes por ID
+ *
+ * Los servicios reciben el adaptador JPA envuelto en el decorador de caché.
+ * Obsolescencia máxima en otro nodo: intervalo de sondeo de invalidaciones
+ * (cache.near.poll-interval); el TTL es solo una red de seguridad si el sondeo falla.
+ */
+@Configuration
+public class NearCacheConfig {
+
+    @Value("${cache.near.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.near.max-size:10000}")
+    private long maxSize;
+
+    @Value("${cache.near.ttl:300000}")
+    private long ttl;
+
+    @Value("${cache.near.patient-count-ttl:30000}")
+    private long patientCountTtl;
+
+    @Bean
+    @Primary
+    public UserRepositoryPort userRepository(
+            UserRepositoryAdapter adapter,
+            NearCacheInvalidator invalidator,
+            MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return adapter;
+        }
+        Cache<UUID, User> cache = nearCache(meterRegistry, CachingUserRepositoryDecorator.CACHE_NAME);
+        return new CachingUserRepositoryDecorator(adapter, cache, invalidator);
+    }
+
+    @Bean
+    @Primary
+    public PatientRepositoryPort patientRepository(
+            PatientRepositoryAdapter adapter,
+            NearCacheInvalidator invalidator,
+            MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return adapter;
+        }
+        Cache<UUID, Patient> cache = nearCache(meterRegistry, CachingPatientRepositoryDecorator.CACHE_NAME);
+        Cache<SummaryFilter, Long> countCache = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofMillis(patientCountTtl))
+                .build();
+        return new CachingPatientRepositoryDecorator(adapter, cache, countCache, invalidator);
+    }
+
+    /**
+     * Caché acotada por tamaño y TTL; publica cache.gets{result=hit|miss}, cache.evictions y cache.size
+     */
+    private <V> Cache<UUID, V> nearCache(MeterRegistry meterRegistry, String cacheName) {
+        Cache<UUID, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    }
+}
@@ -1,25 +1,129 @@
 package com.meditrack.authorization.infrastructure.config;
 
+import com.meditrack.authorization.infrastructure.adapters.out.external.http.MeteredPoolingConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Configuración de RestTemplate para llamadas HTTP a servicios externos
+ *
+ * El motor HTTP se elige con insurance.validation.service.client-engine:
+ * - pooled (por defecto): Apache HttpClient 5 con pool de conexiones keep-alive
+ * - simple: HttpURLConnection, una conexión nueva por petición
  */
 @Configuration
 public class RestTemplateConfig {
 
-    @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 5 segundos
-        factory.setReadTimeout(5000);    // 5 segundos
+    private static final String POOL_NAME = "insurance-validation";
+
+    @Value("${insurance.validation.service.connect-timeout:2000}")
+    private int connectTimeout;
+
+    @Value("${insurance.validation.service.timeout:5000}")
+    private int readTimeout;
+
+    @Value("${insurance.validation.service.pool.acquire-timeout:1000}")
+    private int poolAcquireTimeout;
+
+    @Value("${insurance.validation.service.pool.max-total:50}")
+    private int poolMaxTotal;
 
+    @Value("${insurance.validation.service.pool.max-per-route:20}")
+    private int poolMaxPerRoute;
+
+    @Value("${insurance.validation.service.pool.idle-eviction:30000}")
+    private long poolIdleEviction;
+
+    @Value("${insurance.validation.service.pool.time-to-live:300000}")
+    private long poolTimeToLive;
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory insuranceRequestFactory) {
         return builder
-                .requestFactory(() -> factory)
+                .requestFactory(() -> insuranceRequestFactory)
+                .build();
+    }
+
+    // ==========================================
+    // MOTOR POOLED: conexiones reutilizables con límite global y por ruta
+    // ==========================================
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "insurance.validation.service.client-engine", havingValue = "pooled", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager insuranceConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager =
+                new MeteredPoolingConnectionManager(meterRegistry, POOL_NAME);
+        connectionManager.setMaxTotal(poolMaxTotal);
+        connectionManager.setDefaultMaxPerRoute(poolMaxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                .setTimeToLive(TimeValue.ofMilliseconds(poolTimeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "insurance.validation.service.client-engine", havingValue = "pooled", matchIfMissing = true)
+    public CloseableHttpClient insuranceHttpClient(PoolingHttpClientConnectionManager insuranceConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(insuranceConnectionManager)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(poolIdleEviction, TimeUnit.MILLISECONDS))
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    @ConditionalOnProperty(name = "insurance.validation.service.client-engine", havingValue = "pooled", matchIfMissing = true)
+    public ClientHttpRequestFactory pooledInsuranceRequestFactory(CloseableHttpClient insuranceHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(insuranceHttpClient);
+    }
+
+    /**
+     * Publica en actuator el estado del pool (conexiones libres, ocupadas y peticiones en espera)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "insurance.validation.service.client-engine", havingValue = "pooled", matchIfMissing = true)
+    public MeterBinder insuranceConnectionPoolMetrics(PoolingHttpClientConnectionManager insuranceConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(insuranceConnectionManager, POOL_NAME);
+    }
+
+    // ==========================================
+    // MOTOR SIMPLE: una conexión HttpURLConnection por petición (sin pool)
+    // ==========================================
+
+    @Bean
+    @ConditionalOnProperty(name = "insurance.validation.service.client-engine", havingValue = "simple")
+    public ClientHttpRequestFactory simpleInsuranceRequestFactory() {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeout);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+}
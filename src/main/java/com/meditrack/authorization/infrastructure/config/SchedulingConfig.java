@@ -0,0 +1,12 @@
+package com.meditrack.authorization.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (@Scheduled), p. ej. el worker de evaluaciones
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,6 @@
 package com.meditrack.authorization.infrastructure.security;
 
-import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,7 +15,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Filtro que intercepta las peticiones HTTP y valida el token JWT
@@ -24,9 +23,11 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final RevokedSessionRegistry revokedSessionRegistry;
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
+    public JwtAuthenticationFilter(JwtService jwtService, RevokedSessionRegistry revokedSessionRegistry) {
         this.jwtService = jwtService;
+        this.revokedSessionRegistry = revokedSessionRegistry;
     }
 
     @Override
@@ -45,26 +46,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String jwt = authHeader.substring(7);
 
-            final UUID userId = jwtService.extractUserId(jwt);
-            final UserRole role = jwtService.extractRole(jwt);
+            // Un único parseo: verifica firma y expiración (lanza excepción si no es válido)
+            final VerifiedToken token = jwtService.verify(jwt);
+            request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, token);
 
-            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Usuario desactivado después de emitir el token: la petición sigue como anónima
+            boolean revoked = revokedSessionRegistry.isRevoked(token.getUserId(), token.getIssuedAt());
+            if (revoked) {
+                logger.warn("JWT de una sesión revocada: " + token.getUserId());
+            }
+
+            if (!revoked && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                if (jwtService.isTokenValid(jwt, userId)) {
+                // El principal lleva rol y paciente asociado: los servicios no consultan la base de datos
+                AuthenticatedUser principal = new AuthenticatedUser(
+                        token.getUserId(), token.getRole(), token.getPatientId()
+                );
 
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userId,  // ✅ CORRECTO - UUID del usuario
-                                    null,
-                                    List.of(new SimpleGrantedAuthority(role.toString()))
-                            );
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                principal,
+                                null,
+                                List.of(new SimpleGrantedAuthority(token.getRole().toString()))
+                        );
 
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
 
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
         } catch (Exception e) {
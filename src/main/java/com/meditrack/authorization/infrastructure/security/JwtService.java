@@ -1,18 +1,29 @@
 package com.meditrack.authorization.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.meditrack.authorization.domain.enums.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Servicio para generar y validar tokens JWT
@@ -20,30 +31,77 @@ import java.util.UUID;
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private static final String VERIFIED_TOKEN_CACHE_NAME = "jwt-verified-tokens";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * La clave y el parser se construyen una sola vez (son inmutables y thread-safe)
+     */
+    public JwtService(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${jwt.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.verifiedTokens = cacheEnabled ? verifiedTokenCache(cacheMaxSize, meterRegistry) : null;
+    }
 
     /**
      * Genera un token JWT para un usuario
      */
-    public String generateToken(UUID userId, String username, UserRole role) {
+    public String generateToken(UUID userId, String username, UserRole role, UUID patientId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId.toString());
         claims.put("username", username);
         claims.put("role", role.toString());
+        if (patientId != null) {
+            claims.put("patientId", patientId.toString());
+        }
 
         return Jwts.builder()
                 .claims(claims)
                 .subject(userId.toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifica firma y expiración en un único parseo y devuelve los claims necesarios
+     *
+     * @throws io.jsonwebtoken.JwtException si el token es inválido o expiró
+     */
+    public VerifiedToken verify(String token) {
+        if (verifiedTokens == null) {
+            return parseAndVerify(token);
+        }
+        // La clave es el digest del token completo (incluida la firma): un token alterado no coincide
+        return verifiedTokens.get(digest(token), key -> parseAndVerify(token));
+    }
+
+    private VerifiedToken parseAndVerify(String token) {
+        Claims claims = extractAllClaims(token);
+        String patientId = claims.get("patientId", String.class);
+        return new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                claims.get("username", String.class),
+                UserRole.valueOf(claims.get("role", String.class)),
+                patientId != null ? UUID.fromString(patientId) : null,
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+
     /**
      * Extrae el userId del token
      */
@@ -71,22 +129,9 @@ public class JwtService {
      * Valida si el token es válido
      */
     public boolean isTokenValid(String token, UUID userId) {
-        final UUID tokenUserId = extractUserId(token);
-        return (tokenUserId.equals(userId) && !isTokenExpired(token));
-    }
-
-    /**
-     * Verifica si el token ha expirado
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Extrae la fecha de expiración del token
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        final Claims claims = extractAllClaims(token);
+        return UUID.fromString(claims.getSubject()).equals(userId)
+                && !claims.getExpiration().before(new Date());
     }
 
     /**
@@ -98,21 +143,49 @@ public class JwtService {
     }
 
     /**
-     * Extrae todos los claims del token
+     * Extrae todos los claims del token (verifica la firma con el parser compartido)
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * Obtiene la clave de firma
+     * Caché de tokens verificados acotada por tamaño; cada entrada caduca en el exp de su token.
+     * Publica en actuator cache.gets{result=hit|miss}, cache.evictions y cache.size
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static Cache<String, VerifiedToken> verifiedTokenCache(long maxSize, MeterRegistry meterRegistry) {
+        Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        long remainingMillis = token.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, VERIFIED_TOKEN_CACHE_NAME);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
     }
-}
\ No newline at end of file
+}
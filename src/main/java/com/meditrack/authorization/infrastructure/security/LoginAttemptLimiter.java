@@ -0,0 +1,170 @@
+package com.meditrack.authorization.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meditrack.authorization.domain.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de intentos de login por username y por IP del cliente
+ *
+ * Ventana deslizante aproximada: por clave solo se guardan el conteo de la ventana actual
+ * y el de la anterior, y el anterior se pondera por la fracción de ventana aún solapada.
+ * Cada mapa está acotado en número de claves (desalojo W-TinyLFU de Caffeine) y una clave
+ * inactiva durante dos ventanas se descarta.
+ *
+ * Se cuentan todos los intentos (cada uno cuesta una verificación BCrypt);
+ * un login exitoso libera el contador del username.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxAttemptsPerUsername;
+    private final int maxAttemptsPerIp;
+    private final LongSupplier clock;
+    private final Cache<String, SlidingWindow> byUsername;
+    private final Cache<String, SlidingWindow> byIp;
+    private final Counter usernameThrottled;
+    private final Counter ipThrottled;
+
+    @Autowired
+    public LoginAttemptLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${security.login.limiter.enabled:true}") boolean enabled,
+            @Value("${security.login.limiter.window:60000}") long windowMillis,
+            @Value("${security.login.limiter.username.max-attempts:10}") int maxAttemptsPerUsername,
+            @Value("${security.login.limiter.ip.max-attempts:30}") int maxAttemptsPerIp,
+            @Value("${security.login.limiter.max-keys:100000}") long maxKeys) {
+        this(meterRegistry, enabled, windowMillis, maxAttemptsPerUsername, maxAttemptsPerIp, maxKeys,
+                System::currentTimeMillis);
+    }
+
+    LoginAttemptLimiter(
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            long windowMillis,
+            int maxAttemptsPerUsername,
+            int maxAttemptsPerIp,
+            long maxKeys,
+            LongSupplier clock) {
+        if (windowMillis <= 0 || maxAttemptsPerUsername <= 0 || maxAttemptsPerIp <= 0) {
+            throw new IllegalArgumentException("La ventana y los límites de login deben ser mayores a cero");
+        }
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxAttemptsPerUsername = maxAttemptsPerUsername;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.clock = clock;
+        this.byUsername = boundedMap(maxKeys);
+        this.byIp = boundedMap(maxKeys);
+        this.usernameThrottled = throttledCounter(meterRegistry, "username");
+        this.ipThrottled = throttledCounter(meterRegistry, "ip");
+    }
+
+    /**
+     * Registra un intento de login; si la IP o el username superan su límite responde 429
+     */
+    public void checkAndRecord(String username, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+
+        if (clientIp != null) {
+            long retryAfterMillis = byIp.get(clientIp, key -> new SlidingWindow())
+                    .tryAcquire(now, windowMillis, maxAttemptsPerIp);
+            if (retryAfterMillis > 0) {
+                ipThrottled.increment();
+                throw throttled(retryAfterMillis);
+            }
+        }
+
+        if (username != null) {
+            long retryAfterMillis = byUsername.get(normalize(username), key -> new SlidingWindow())
+                    .tryAcquire(now, windowMillis, maxAttemptsPerUsername);
+            if (retryAfterMillis > 0) {
+                usernameThrottled.increment();
+                throw throttled(retryAfterMillis);
+            }
+        }
+    }
+
+    /**
+     * Login exitoso: el username deja de acumular intentos
+     */
+    public void recordSuccess(String username) {
+        if (enabled && username != null) {
+            byUsername.invalidate(normalize(username));
+        }
+    }
+
+    private TooManyRequestsException throttled(long retryAfterMillis) {
+        return new TooManyRequestsException(
+                "Demasiados intentos de inicio de sesión, intente nuevamente más tarde",
+                Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Cache<String, SlidingWindow> boundedMap(long maxKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(2 * windowMillis))
+                .build();
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("auth.login.throttled")
+                .description("Intentos de login rechazados por el limitador")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Conteo de una clave: ventana actual y anterior (16 bytes de estado)
+     */
+    static final class SlidingWindow {
+        private long windowStart;
+        private int current;
+        private int previous;
+
+        /**
+         * @return 0 si el intento se admite; si no, milisegundos hasta que la estimación baje del límite
+         */
+        synchronized long tryAcquire(long now, long windowMillis, int limit) {
+            long start = now - Math.floorMod(now, windowMillis);
+            if (start != windowStart) {
+                previous = start - windowStart == windowMillis ? current : 0;
+                current = 0;
+                windowStart = start;
+            }
+
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            double estimate = previous * previousWeight + current;
+            if (estimate < limit) {
+                current++;
+                return 0;
+            }
+
+            if (current >= limit || previous == 0) {
+                return start + windowMillis - now;
+            }
+            // La estimación baja a medida que la ventana anterior deja de solaparse
+            double excess = estimate - limit + 1;
+            long waitMillis = (long) Math.ceil(excess / previous * windowMillis);
+            return Math.max(1, Math.min(waitMillis, start + windowMillis - now));
+        }
+    }
+}
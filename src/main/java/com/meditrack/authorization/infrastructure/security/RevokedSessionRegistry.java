@@ -0,0 +1,114 @@
+package com.meditrack.authorization.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.RevokedSessionEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.RevokedSessionJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Registro de sesiones revocadas (por usuario)
+ *
+ * Guarda el instante de revocación; los tokens del usuario emitidos hasta ese
+ * instante dejan de autenticar. La tabla revoked_sessions es la fuente de verdad:
+ * revoke() la escribe y cada nodo la carga al arrancar y la sondea (refresh()),
+ * así la revocación sobrevive reinicios y alcanza al resto del clúster con la
+ * obsolescencia acotada por el intervalo de sondeo. La copia local solo evita
+ * consultar la base de datos en cada petición.
+ *
+ * Cada revocación vive lo mismo que un token (jwt.expiration): pasado ese
+ * tiempo todos los tokens afectados ya expiraron.
+ */
+@Component
+public class RevokedSessionRegistry {
+
+    private final RevokedSessionJpaRepository repository;
+    private final Duration tokenLifetime;
+    private final Duration pollOverlap;
+    private final Cache<UUID, Long> revokedAt;
+
+    private volatile LocalDateTime lastRefreshStart;
+
+    public RevokedSessionRegistry(
+            RevokedSessionJpaRepository repository,
+            @Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${security.revocation.poll-overlap:30000}") long pollOverlapMillis) {
+        this.repository = repository;
+        this.tokenLifetime = Duration.ofMillis(Math.max(1, jwtExpiration));
+        this.pollOverlap = Duration.ofMillis(pollOverlapMillis);
+        this.revokedAt = Caffeine.newBuilder()
+                .expireAfterWrite(tokenLifetime)
+                .build();
+    }
+
+    /**
+     * Revoca los tokens emitidos hasta ahora para el usuario
+     * (se confirma con la transacción que lo invoca, p. ej. la baja del paciente)
+     */
+    @Transactional
+    public void revoke(UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+        repository.save(new RevokedSessionEntity(userId, now));
+        remember(userId, now);
+    }
+
+    /**
+     * Verifica si un token emitido en issuedAt pertenece a una sesión revocada
+     * (iat tiene precisión de segundos: un token del mismo segundo se considera revocado).
+     * Hasta el primer sondeo la copia local está vacía, así que se carga antes de responder
+     */
+    public boolean isRevoked(UUID userId, Date issuedAt) {
+        if (lastRefreshStart == null) {
+            refresh();
+        }
+        Long revoked = revokedAt.getIfPresent(userId);
+        if (revoked == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() <= revoked;
+    }
+
+    /**
+     * Incorpora las revocaciones registradas por cualquier nodo. El primer sondeo
+     * carga todas las que aún afectan a tokens vigentes; los siguientes, las
+     * posteriores al sondeo anterior con una ventana solapada
+     *
+     * @return número de revocaciones leídas
+     */
+    @Transactional(readOnly = true)
+    public int refresh() {
+        LocalDateTime refreshStart = LocalDateTime.now();
+        LocalDateTime since = lastRefreshStart == null
+                ? refreshStart.minus(tokenLifetime)
+                : lastRefreshStart.minus(pollOverlap);
+
+        int read = 0;
+        for (RevokedSessionEntity revocation : repository.findByRevokedAtGreaterThanEqual(since)) {
+            remember(revocation.getUserId(), revocation.getRevokedAt());
+            read++;
+        }
+        lastRefreshStart = refreshStart;
+        return read;
+    }
+
+    /**
+     * Purga las revocaciones cuyos tokens afectados ya expiraron
+     */
+    @Transactional
+    public int purge() {
+        return repository.deleteRevokedBefore(LocalDateTime.now().minus(tokenLifetime));
+    }
+
+    private void remember(UUID userId, LocalDateTime at) {
+        long millis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        revokedAt.asMap().merge(userId, millis, Math::max);
+    }
+}
@@ -1,5 +1,6 @@
 package com.meditrack.authorization.infrastructure.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -8,16 +9,22 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Configuración de seguridad de la aplicación
@@ -86,11 +93,36 @@ public class SecurityConfig {
 
 
     /**
-     * Bean para encriptar contraseñas con BCrypt
+     * Bean para encriptar contraseñas
+     *
+     * Los hashes nuevos se guardan con prefijo {id} del algoritmo configurado; los hashes
+     * sin prefijo (BCrypt de la versión anterior) se siguen verificando como BCrypt.
+     * upgradeEncoding indica si un hash usa otro algoritmo o un costo BCrypt menor al
+     * configurado: el login lo vuelve a encriptar sin forzar un cambio de contraseña.
+     * argon2 solo está disponible si BouncyCastle está en el classpath.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.encoding-id:bcrypt}") String encodingId,
+            @Value("${security.password.bcrypt.strength:10}") int bcryptStrength) {
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (ClassUtils.isPresent("org.bouncycastle.crypto.params.Argon2Parameters", null)) {
+            encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        }
+
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalStateException(
+                    "Algoritmo de contraseñas no disponible: " + encodingId + " (disponibles: " + encoders.keySet() + ")");
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        System.out.println("Encriptación de contraseñas: " + encodingId + ", costo BCrypt=" + bcryptStrength);
+        return delegating;
     }
 
     /**
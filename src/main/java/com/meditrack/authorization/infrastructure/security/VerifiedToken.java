@@ -0,0 +1,59 @@
+package com.meditrack.authorization.infrastructure.security;
+
+import com.meditrack.authorization.domain.enums.UserRole;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Claims de un JWT ya verificado (firma y expiración)
+ * Se obtiene una sola vez por petición y se comparte como atributo del request
+ */
+public final class VerifiedToken {
+
+    /**
+     * Atributo del request donde el filtro JWT deja el token verificado
+     */
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    private final UUID userId;
+    private final String username;
+    private final UserRole role;
+    private final UUID patientId;   // Nullable - solo si el usuario es un paciente
+    private final Date issuedAt;
+    private final Date expiration;
+
+    public VerifiedToken(UUID userId, String username, UserRole role, UUID patientId,
+                         Date issuedAt, Date expiration) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.patientId = patientId;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public UUID getPatientId() {
+        return patientId;
+    }
+
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+}
@@ -0,0 +1,230 @@
+package com.meditrack.authorization.infrastructure.simulator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.infrastructure.adapters.out.external.dto.InsuranceValidationRequest;
+import com.meditrack.authorization.infrastructure.adapters.out.external.dto.InsuranceValidationResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulador embebido del servicio de seguros (perfil insurance-simulator)
+ *
+ * Expone el mismo contrato que el servicio real (POST /api/insurance/validate con
+ * InsuranceValidationRequest / InsuranceValidationResponse) para pruebas de carga sin
+ * dependencias externas. Las respuestas se programan en un scheduler: la latencia
+ * simulada no ocupa hilos de Tomcat, que comparte con la aplicación.
+ *
+ * Con la misma semilla y el mismo orden de peticiones la secuencia de latencias y fallos se repite.
+ */
+@RestController
+@RequestMapping("/api/insurance")
+@Profile("insurance-simulator")
+public class InsuranceSimulatorController {
+
+    private static final double Z_99 = 2.3263;
+
+    private final ObjectMapper objectMapper;
+    private final Random random;
+    private final ScheduledExecutorService scheduler;
+    private volatile InsuranceSimulatorSettings settings;
+
+    public InsuranceSimulatorController(
+            ObjectMapper objectMapper,
+            @Value("${insurance.simulator.seed:42}") long seed,
+            @Value("${insurance.simulator.threads:2}") int threads,
+            @Value("${insurance.simulator.latency.median:80}") long medianLatencyMillis,
+            @Value("${insurance.simulator.latency.p99:800}") long p99LatencyMillis,
+            @Value("${insurance.simulator.error-rate:0}") double errorRate,
+            @Value("${insurance.simulator.error-status:503}") int errorStatus,
+            @Value("${insurance.simulator.timeout-rate:0}") double timeoutRate,
+            @Value("${insurance.simulator.timeout:30000}") long timeoutMillis,
+            @Value("${insurance.simulator.slow-drip-rate:0}") double slowDripRate,
+            @Value("${insurance.simulator.slow-drip.chunks:10}") int slowDripChunks,
+            @Value("${insurance.simulator.slow-drip.interval:500}") long slowDripIntervalMillis,
+            @Value("${insurance.simulator.max-approved-cost:20000000}") BigDecimal maxApprovedCost) {
+        this.objectMapper = objectMapper;
+        this.random = new Random(seed);
+        this.scheduler = Executors.newScheduledThreadPool(threads, new CustomizableThreadFactory("insurance-simulator-"));
+        this.settings = new InsuranceSimulatorSettings(
+                medianLatencyMillis, p99LatencyMillis, errorRate, errorStatus, timeoutRate, timeoutMillis,
+                slowDripRate, slowDripChunks, slowDripIntervalMillis, maxApprovedCost
+        );
+        this.settings.validate();
+        System.out.println("Simulador de seguros activo: mediana=" + medianLatencyMillis + "ms, p99=" +
+                p99LatencyMillis + "ms, errores=" + errorRate + ", timeouts=" + timeoutRate +
+                ", goteo=" + slowDripRate);
+    }
+
+    /**
+     * POST /api/insurance/validate
+     * Mismo contrato que el servicio de validación real
+     */
+    @PostMapping("/validate")
+    public ResponseEntity<ResponseBodyEmitter> validate(@RequestBody InsuranceValidationRequest request)
+            throws JsonProcessingException {
+
+        InsuranceSimulatorSettings current = settings;
+
+        // 1. Sortear el comportamiento de esta petición
+        double draw;
+        long latencyMillis;
+        synchronized (random) {
+            draw = random.nextDouble();
+            latencyMillis = sampleLatency(current, random.nextGaussian());
+        }
+
+        // 2. Error del servidor tras la latencia
+        if (draw < current.getErrorRate()) {
+            byte[] body = json(Map.of("error", "Error simulado del servicio de seguros"));
+            return respond(HttpStatus.valueOf(current.getErrorStatus()), body, latencyMillis, 1, 0);
+        }
+
+        // 3. Timeout: no responde hasta pasado timeoutMillis
+        if (draw < current.getErrorRate() + current.getTimeoutRate()) {
+            byte[] body = json(Map.of("error", "Timeout simulado del servicio de seguros"));
+            return respond(HttpStatus.GATEWAY_TIMEOUT, body, current.getTimeoutMillis(), 1, 0);
+        }
+
+        // 4. Respuesta correcta, de golpe o por goteo
+        byte[] body = json(decide(request, current));
+        if (draw < current.getErrorRate() + current.getTimeoutRate() + current.getSlowDripRate()) {
+            return respond(HttpStatus.OK, body, latencyMillis,
+                    current.getSlowDripChunks(), current.getSlowDripIntervalMillis());
+        }
+        return respond(HttpStatus.OK, body, latencyMillis, 1, 0);
+    }
+
+    /**
+     * GET /api/insurance/health
+     */
+    @GetMapping("/health")
+    public ResponseEntity<Map<String, String>> health() {
+        return ResponseEntity.ok(Map.of("status", "UP", "mode", "simulator"));
+    }
+
+    /**
+     * GET /api/insurance/simulator/settings
+     */
+    @GetMapping("/simulator/settings")
+    public ResponseEntity<InsuranceSimulatorSettings> getSettings() {
+        return ResponseEntity.ok(settings);
+    }
+
+    /**
+     * PUT /api/insurance/simulator/settings
+     * Cambia el perfil en caliente (por ejemplo, para provocar una degradación a mitad de la prueba)
+     */
+    @PutMapping("/simulator/settings")
+    public ResponseEntity<InsuranceSimulatorSettings> updateSettings(@RequestBody InsuranceSimulatorSettings newSettings) {
+        newSettings.validate();
+        this.settings = newSettings;
+        System.out.println("Perfil del simulador de seguros actualizado: errores=" + newSettings.getErrorRate() +
+                ", timeouts=" + newSettings.getTimeoutRate() + ", goteo=" + newSettings.getSlowDripRate());
+        return ResponseEntity.ok(newSettings);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Reglas de cobertura: porcentaje por régimen, aprobado si cubre el mínimo del servicio
+     * y el costo no supera el máximo configurado
+     */
+    private InsuranceValidationResponse decide(InsuranceValidationRequest request, InsuranceSimulatorSettings current) {
+        int coverage = switch (AffiliationType.valueOf(request.getAffiliationType())) {
+            case CONTRIBUTIVO -> 80;
+            case ESPECIAL -> 90;
+            case SUBSIDIADO -> 95;
+        };
+        int requiredCoverage = switch (ServiceType.valueOf(request.getServiceType())) {
+            case CONSULTA -> 70;
+            case PROCEDIMIENTO -> 80;
+            case CIRUGIA -> 90;
+        };
+
+        BigDecimal cost = request.getEstimatedCost();
+        boolean approved = coverage >= requiredCoverage && cost.compareTo(current.getMaxApprovedCost()) <= 0;
+        BigDecimal covered = approved
+                ? cost.multiply(BigDecimal.valueOf(coverage)).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO.setScale(2);
+        BigDecimal copay = cost.subtract(covered).setScale(2, RoundingMode.HALF_UP);
+
+        return new InsuranceValidationResponse(
+                approved,
+                approved ? coverage : 0,
+                copay,
+                covered,
+                cost,
+                approved ? "Cobertura aprobada (simulador)" : "Cobertura rechazada (simulador)",
+                approved ? "SIM-" + Long.toHexString(System.nanoTime()).toUpperCase() : null,
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * Latencia log-normal: mediana * e^(sigma * z), con sigma tal que el p99 coincida
+     */
+    private long sampleLatency(InsuranceSimulatorSettings current, double gaussian) {
+        if (current.getMedianLatencyMillis() == 0) {
+            return 0;
+        }
+        double sigma = Math.log((double) current.getP99LatencyMillis() / current.getMedianLatencyMillis()) / Z_99;
+        return Math.round(current.getMedianLatencyMillis() * Math.exp(sigma * gaussian));
+    }
+
+    /**
+     * Envía el cuerpo tras la espera inicial, en uno o varios trozos, sin bloquear hilos de Tomcat
+     */
+    private ResponseEntity<ResponseBodyEmitter> respond(HttpStatus status, byte[] body, long delayMillis,
+                                                       int chunks, long chunkIntervalMillis) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(
+                delayMillis + chunks * chunkIntervalMillis + TimeUnit.SECONDS.toMillis(5));
+
+        int chunkSize = Math.max(1, (int) Math.ceil((double) body.length / chunks));
+        for (int i = 0; i * chunkSize < body.length; i++) {
+            byte[] chunk = Arrays.copyOfRange(body, i * chunkSize, Math.min(body.length, (i + 1) * chunkSize));
+            boolean last = (i + 1) * chunkSize >= body.length;
+            scheduler.schedule(() -> {
+                try {
+                    emitter.send(chunk, MediaType.APPLICATION_JSON);
+                    if (last) {
+                        emitter.complete();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // El cliente cerró la conexión (por ejemplo, por su propio timeout)
+                    emitter.completeWithError(e);
+                }
+            }, delayMillis + i * chunkIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(emitter);
+    }
+
+    private byte[] json(Object value) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+package com.meditrack.authorization.infrastructure.simulator;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Seguridad del simulador de seguros: el servicio real no usa JWT, el simulador tampoco
+ * Cadena propia limitada a /api/insurance/** para no tocar la del resto de la API
+ */
+@Configuration
+@Profile("insurance-simulator")
+public class InsuranceSimulatorSecurityConfig {
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain insuranceSimulatorFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/api/insurance/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.meditrack.authorization.infrastructure.simulator;
+
+import java.math.BigDecimal;
+
+/**
+ * Perfil del simulador de seguros: latencia, errores, timeouts y respuestas lentas
+ *
+ * - Latencia log-normal definida por su mediana y su p99 (cola larga como la del seguro real)
+ * - errorRate: fracción de peticiones que responde errorStatus (5xx)
+ * - timeoutRate: fracción que no responde hasta pasados timeoutMillis
+ * - slowDripRate: fracción que envía el cuerpo en slowDripChunks trozos separados slowDripIntervalMillis
+ *
+ * Las tasas se evalúan en ese orden con un único número aleatorio por petición.
+ */
+public class InsuranceSimulatorSettings {
+
+    private long medianLatencyMillis;
+    private long p99LatencyMillis;
+    private double errorRate;
+    private int errorStatus;
+    private double timeoutRate;
+    private long timeoutMillis;
+    private double slowDripRate;
+    private int slowDripChunks;
+    private long slowDripIntervalMillis;
+    private BigDecimal maxApprovedCost;
+
+    // Constructores
+    public InsuranceSimulatorSettings() {
+    }
+
+    public InsuranceSimulatorSettings(long medianLatencyMillis, long p99LatencyMillis,
+                                      double errorRate, int errorStatus,
+                                      double timeoutRate, long timeoutMillis,
+                                      double slowDripRate, int slowDripChunks, long slowDripIntervalMillis,
+                                      BigDecimal maxApprovedCost) {
+        this.medianLatencyMillis = medianLatencyMillis;
+        this.p99LatencyMillis = p99LatencyMillis;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.timeoutRate = timeoutRate;
+        this.timeoutMillis = timeoutMillis;
+        this.slowDripRate = slowDripRate;
+        this.slowDripChunks = slowDripChunks;
+        this.slowDripIntervalMillis = slowDripIntervalMillis;
+        this.maxApprovedCost = maxApprovedCost;
+    }
+
+    /**
+     * Verifica que el perfil sea coherente antes de aplicarlo
+     */
+    public void validate() {
+        if (medianLatencyMillis < 0 || p99LatencyMillis < medianLatencyMillis) {
+            throw new IllegalArgumentException("La latencia p99 debe ser mayor o igual a la mediana");
+        }
+        if (errorRate < 0 || timeoutRate < 0 || slowDripRate < 0
+                || errorRate + timeoutRate + slowDripRate > 1) {
+            throw new IllegalArgumentException("Las tasas deben ser positivas y sumar como máximo 1");
+        }
+        if (errorStatus < 500 || errorStatus > 599) {
+            throw new IllegalArgumentException("El estado de error debe ser un 5xx");
+        }
+        if (slowDripChunks < 1) {
+            throw new IllegalArgumentException("La respuesta lenta necesita al menos un trozo");
+        }
+        if (maxApprovedCost == null || maxApprovedCost.signum() <= 0) {
+            throw new IllegalArgumentException("El costo máximo aprobado debe ser mayor a cero");
+        }
+    }
+
+    // Getters y Setters
+    public long getMedianLatencyMillis() {
+        return medianLatencyMillis;
+    }
+
+    public void setMedianLatencyMillis(long medianLatencyMillis) {
+        this.medianLatencyMillis = medianLatencyMillis;
+    }
+
+    public long getP99LatencyMillis() {
+        return p99LatencyMillis;
+    }
+
+    public void setP99LatencyMillis(long p99LatencyMillis) {
+        this.p99LatencyMillis = p99LatencyMillis;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public void setErrorStatus(int errorStatus) {
+        this.errorStatus = errorStatus;
+    }
+
+    public double getTimeoutRate() {
+        return timeoutRate;
+    }
+
+    public void setTimeoutRate(double timeoutRate) {
+        this.timeoutRate = timeoutRate;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public double getSlowDripRate() {
+        return slowDripRate;
+    }
+
+    public void setSlowDripRate(double slowDripRate) {
+        this.slowDripRate = slowDripRate;
+    }
+
+    public int getSlowDripChunks() {
+        return slowDripChunks;
+    }
+
+    public void setSlowDripChunks(int slowDripChunks) {
+        this.slowDripChunks = slowDripChunks;
+    }
+
+    public long getSlowDripIntervalMillis() {
+        return slowDripIntervalMillis;
+    }
+
+    public void setSlowDripIntervalMillis(long slowDripIntervalMillis) {
+        this.slowDripIntervalMillis = slowDripIntervalMillis;
+    }
+
+    public BigDecimal getMaxApprovedCost() {
+        return maxApprovedCost;
+    }
+
+    public void setMaxApprovedCost(BigDecimal maxApprovedCost) {
+        this.maxApprovedCost = maxApprovedCost;
+    }
+}
@@ -0,0 +1,23 @@
+-- ==========================================
+-- V11: Crear tabla evaluation_jobs (cola de evaluaciones asíncronas)
+-- ==========================================
+
+CREATE TABLE evaluation_jobs (
+    id BINARY(16) PRIMARY KEY,
+    authorization_id BINARY(16) NOT NULL,
+    estimated_cost DECIMAL(12, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    evaluation_id BINARY(16) NULL,
+    error_message VARCHAR(500) NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    CONSTRAINT fk_evaluation_jobs_authorization
+        FOREIGN KEY (authorization_id) REFERENCES medical_authorizations(id)
+        ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Índices para evaluation_jobs
+-- (status, created_at): el worker toma los trabajos en cola por orden de llegada
+CREATE INDEX idx_evaluation_jobs_status_created ON evaluation_jobs(status, created_at);
+CREATE INDEX idx_evaluation_jobs_authorization ON evaluation_jobs(authorization_id);
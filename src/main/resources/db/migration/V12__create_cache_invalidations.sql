@@ -0,0 +1,15 @@
+-- ==========================================
+-- V12: Crear tabla cache_invalidations (invalidación de near-caches entre nodos)
+-- ==========================================
+
+-- Cada escritura de un usuario o paciente deja una fila; cada nodo sondea la tabla
+-- y descarta de su caché local las entradas afectadas (sin broker de mensajes)
+CREATE TABLE cache_invalidations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(40) NOT NULL,
+    entity_id BINARY(16) NOT NULL,
+    created_at DATETIME(3) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- created_at: el sondeo lee las filas recientes y la purga borra las antiguas
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations(created_at);
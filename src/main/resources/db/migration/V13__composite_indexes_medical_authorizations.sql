@@ -0,0 +1,36 @@
+-- ==========================================
+-- V13: Índices compuestos para las consultas de medical_authorizations
+-- ==========================================
+
+-- Todas las consultas filtran deleted = false junto a otra columna; con índices de una
+-- sola columna MySQL usa uno y filtra el resto fila a fila. Los COUNT por paciente y por
+-- estado se resuelven solo con el índice (InnoDB incluye la PK en cada índice secundario).
+
+-- Paciente: listado, pendientes, por estado y conteo de activas
+CREATE INDEX idx_authorizations_patient_deleted_status
+    ON medical_authorizations(patient_id, deleted, status);
+
+-- Estado: listados y conteos por estado, ordenados por fecha de solicitud
+CREATE INDEX idx_authorizations_status_deleted_date
+    ON medical_authorizations(status, deleted, request_date);
+
+-- Tipo de servicio
+CREATE INDEX idx_authorizations_service_type_deleted
+    ON medical_authorizations(service_type, deleted);
+
+-- Solicitante, ordenado por fecha de solicitud
+CREATE INDEX idx_authorizations_requested_by_deleted_date
+    ON medical_authorizations(requested_by, deleted, request_date);
+
+-- Rango de fechas y listado de activas ordenado por fecha
+CREATE INDEX idx_authorizations_deleted_date
+    ON medical_authorizations(deleted, request_date);
+
+-- Los índices de una columna quedan cubiertos por el prefijo de los compuestos
+-- (las foreign keys de patient_id y requested_by pasan a usar los nuevos)
+DROP INDEX idx_authorizations_patient ON medical_authorizations;
+DROP INDEX idx_authorizations_status ON medical_authorizations;
+DROP INDEX idx_authorizations_service_type ON medical_authorizations;
+DROP INDEX idx_authorizations_requested_by ON medical_authorizations;
+DROP INDEX idx_authorizations_deleted ON medical_authorizations;
+DROP INDEX idx_authorizations_request_date ON medical_authorizations;
@@ -0,0 +1,11 @@
+-- ==========================================
+-- V14: Índice del listado paginado de autorizaciones pendientes
+-- ==========================================
+
+-- El listado recorre (request_date, id) dentro de status = 'PENDIENTE' y deleted = false;
+-- con id explícito al final la condición del cursor y el ORDER BY se resuelven en el
+-- índice sin ordenar en memoria. Reemplaza al índice (status, deleted, request_date) de V13.
+CREATE INDEX idx_authorizations_status_deleted_date_id
+    ON medical_authorizations(status, deleted, request_date, id);
+
+DROP INDEX idx_authorizations_status_deleted_date ON medical_authorizations;
@@ -0,0 +1,14 @@
+-- ==========================================
+-- V15: Índices del listado paginado de pacientes
+-- ==========================================
+
+-- Filtros por estado y tipo de afiliación dentro de deleted = false (listado y conteo)
+CREATE INDEX idx_patients_deleted_status_type
+    ON patients(deleted, affiliation_status, affiliation_type);
+
+-- Orden por defecto del listado (apellido); evita ordenar en memoria las primeras páginas
+CREATE INDEX idx_patients_deleted_last_name
+    ON patients(deleted, last_name);
+
+-- Prefijo de ambos índices nuevos
+DROP INDEX idx_patients_deleted ON patients;
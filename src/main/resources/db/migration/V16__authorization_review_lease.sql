@@ -0,0 +1,14 @@
+-- ==========================================
+-- V16: Reserva de revisión de autorizaciones
+-- ==========================================
+
+-- Quién tomó la autorización para revisarla y hasta cuándo la retiene.
+-- Se toman con SELECT ... FOR UPDATE SKIP LOCKED sobre el índice de V14
+-- (status, deleted, request_date, id); al vencer, el barrido la devuelve a PENDIENTE.
+ALTER TABLE medical_authorizations
+    ADD COLUMN lease_owner VARCHAR(100) NULL,
+    ADD COLUMN lease_expires_at DATETIME NULL;
+
+-- Barrido de reservas vencidas: status = 'EN_REVISION' AND lease_expires_at < ahora
+CREATE INDEX idx_authorizations_status_lease_expires
+    ON medical_authorizations(status, lease_expires_at);
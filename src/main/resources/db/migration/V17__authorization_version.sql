@@ -0,0 +1,8 @@
+-- ==========================================
+-- V17: Control optimista de autorizaciones
+-- ==========================================
+
+-- Cada UPDATE exige la versión leída (WHERE version = ?) y la incrementa;
+-- si no coincide, otra operación modificó la fila y la escritura se rechaza (409)
+ALTER TABLE medical_authorizations
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
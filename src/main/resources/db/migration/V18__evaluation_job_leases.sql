@@ -0,0 +1,17 @@
+-- ==========================================
+-- V18: Reserva por nodo y reintento diferido en evaluation_jobs
+-- ==========================================
+
+-- claimed_by / lease_expires_at: qué nodo procesa el trabajo y hasta cuándo.
+-- Al arrancar, un nodo solo reencola sus propios trabajos o los de reserva vencida,
+-- nunca los que otro nodo vivo sigue procesando.
+-- not_before: un trabajo reencolado porque el seguro no estaba disponible espera
+-- (backoff) antes de volver a tomarse.
+ALTER TABLE evaluation_jobs
+    ADD COLUMN claimed_by VARCHAR(100) NULL,
+    ADD COLUMN lease_expires_at DATETIME NULL,
+    ADD COLUMN not_before DATETIME NULL;
+
+-- Barrido de reservas vencidas: status = 'EN_PROCESO' AND lease_expires_at < ahora
+CREATE INDEX idx_evaluation_jobs_status_lease_expires
+    ON evaluation_jobs(status, lease_expires_at);
@@ -0,0 +1,9 @@
+-- ==========================================
+-- V19: Usuario que encoló cada evaluación asíncrona
+-- ==========================================
+
+-- El worker evalúa a nombre de quien encoló el trabajo, así respeta la reserva de
+-- revisión (lease_owner) igual que la evaluación síncrona. NULL en trabajos previos:
+-- se evalúan solo si nadie tiene la autorización reservada.
+ALTER TABLE evaluation_jobs
+    ADD COLUMN requested_by BINARY(16) NULL;
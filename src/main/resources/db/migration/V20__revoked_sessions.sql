@@ -0,0 +1,13 @@
+-- ==========================================
+-- V20: Crear tabla revoked_sessions (revocación de sesiones compartida entre nodos)
+-- ==========================================
+
+-- Una fila por usuario con el instante de su última revocación; cada nodo la carga
+-- al arrancar y la sondea, así una revocación sobrevive reinicios y vale en todo el clúster
+CREATE TABLE revoked_sessions (
+    user_id BINARY(16) PRIMARY KEY,
+    revoked_at DATETIME(3) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- revoked_at: el sondeo lee las filas recientes y la purga borra las que superan la vida de un token
+CREATE INDEX idx_revoked_sessions_revoked ON revoked_sessions(revoked_at);
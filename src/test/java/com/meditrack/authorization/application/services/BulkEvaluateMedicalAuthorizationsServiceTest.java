@@ -0,0 +1,193 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.ExternalServiceException;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.ports.in.command.BulkEvaluateMedicalAuthorizationsCommand;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+import com.meditrack.authorization.domain.ports.in.useCase.BulkEvaluateMedicalAuthorizationsUseCase.ItemResult;
+import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para BulkEvaluateMedicalAuthorizationsService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkEvaluateMedicalAuthorizationsService Tests")
+class BulkEvaluateMedicalAuthorizationsServiceTest {
+
+    @Mock
+    private MedicalAuthorizationRepositoryPort authorizationRepository;
+
+    @Mock
+    private CoverageEvaluationRepositoryPort evaluationRepository;
+
+    @Mock
+    private PatientRepositoryPort patientRepository;
+
+    @Mock
+    private InsuranceValidationServicePort insuranceService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkEvaluateMedicalAuthorizationsService service;
+
+    private Patient patient;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkEvaluateMedicalAuthorizationsService(
+                authorizationRepository,
+                evaluationRepository,
+                patientRepository,
+                insuranceService,
+                transactionManager,
+                100,
+                2,
+                20
+        );
+
+        patient = new Patient(
+                UUID.randomUUID(),
+                "1000111222",
+                "Carlos",
+                "Ramírez",
+                "carlos@example.com",
+                "3001234567",
+                AffiliationStatus.ACTIVE,
+                AffiliationType.CONTRIBUTIVO,
+                LocalDate.now().minusYears(1),
+                false
+        );
+    }
+
+    @Test
+    @DisplayName("Debe devolver un resultado por elemento sin abortar el lote ante fallos")
+    void shouldReturnPerItemResults() {
+        // Given
+        MedicalAuthorization approved = pendingAuthorization(ServiceType.CONSULTA);
+        MedicalAuthorization insurerDown = pendingAuthorization(ServiceType.CIRUGIA);
+        UUID missingId = UUID.randomUUID();
+
+        when(authorizationRepository.findAllByIdsAndNotDeleted(anyCollection()))
+                .thenReturn(List.of(approved, insurerDown));
+        when(evaluationRepository.findEvaluatedAuthorizationIds(anyCollection())).thenReturn(Set.of());
+        when(patientRepository.findAllByIdsAndNotDeleted(anyCollection())).thenReturn(List.of(patient));
+        when(insuranceService.validateCoverageAsync(any(), any(), eq(ServiceType.CONSULTA), any()))
+                .thenReturn(CompletableFuture.completedFuture(new InsuranceValidationServicePort.InsuranceValidationResult(
+                        true, 80, new BigDecimal("20000"), new BigDecimal("80000"), "AUTH-1", "Aprobado"
+                )));
+        when(insuranceService.validateCoverageAsync(any(), any(), eq(ServiceType.CIRUGIA), any()))
+                .thenReturn(CompletableFuture.failedFuture(new ExternalServiceException("Servicio no disponible")));
+        when(authorizationRepository.findEvaluableByIdsForUpdate(anyCollection())).thenReturn(List.of(approved));
+
+        BulkEvaluateMedicalAuthorizationsCommand command = new BulkEvaluateMedicalAuthorizationsCommand(List.of(
+                new EvaluateMedicalAuthorizationCommand(approved.getId(), new BigDecimal("100000")),
+                new EvaluateMedicalAuthorizationCommand(missingId, new BigDecimal("100000")),
+                new EvaluateMedicalAuthorizationCommand(insurerDown.getId(), new BigDecimal("100000"))
+        ));
+
+        // When
+        List<ItemResult> results = service.execute(command);
+
+        // Then
+        assertThat(results).extracting(ItemResult::getAuthorizationId)
+                .containsExactly(approved.getId(), missingId, insurerDown.getId());
+        assertThat(results).extracting(ItemResult::isSuccess).containsExactly(true, false, false);
+        assertThat(results.get(2).getErrorMessage()).contains("no disponible");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MedicalAuthorization>> updated = ArgumentCaptor.forClass(List.class);
+        verify(authorizationRepository).updateStatuses(updated.capture());
+        assertThat(updated.getValue()).extracting(MedicalAuthorization::getStatus)
+                .containsExactly(AuthorizationStatus.APROBADA);
+        verify(evaluationRepository).insertAll(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    @DisplayName("No debe evaluar una autorización que otro revisor tomó durante las llamadas al seguro")
+    void shouldNotOverwriteLeaseTakenBetweenReadAndWrite() {
+        // Given: en la lectura está PENDIENTE
+        MedicalAuthorization authorization = pendingAuthorization(ServiceType.CONSULTA);
+        when(authorizationRepository.findAllByIdsAndNotDeleted(anyCollection())).thenReturn(List.of(authorization));
+        when(evaluationRepository.findEvaluatedAuthorizationIds(anyCollection())).thenReturn(Set.of());
+        when(patientRepository.findAllByIdsAndNotDeleted(anyCollection())).thenReturn(List.of(patient));
+        when(insuranceService.validateCoverageAsync(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new InsuranceValidationServicePort.InsuranceValidationResult(
+                        true, 80, new BigDecimal("20000"), new BigDecimal("80000"), "AUTH-1", "Aprobado"
+                )));
+
+        // Y al bloquearla para escribir, otro revisor ya la tiene reservada
+        MedicalAuthorization claimedByOther = new MedicalAuthorization(
+                authorization.getId(),
+                patient.getId(),
+                ServiceType.CONSULTA,
+                authorization.getDescription(),
+                authorization.getRequestDate(),
+                AuthorizationStatus.EN_REVISION,
+                authorization.getRequestedBy(),
+                false,
+                UUID.randomUUID().toString(),
+                LocalDateTime.now().plusMinutes(10),
+                1L
+        );
+        when(authorizationRepository.findEvaluableByIdsForUpdate(anyCollection())).thenReturn(List.of(claimedByOther));
+
+        UUID reviewerId = UUID.randomUUID();
+        BulkEvaluateMedicalAuthorizationsCommand command = new BulkEvaluateMedicalAuthorizationsCommand(List.of(
+                new EvaluateMedicalAuthorizationCommand(authorization.getId(), new BigDecimal("100000"), reviewerId)
+        ));
+
+        // When
+        List<ItemResult> results = service.execute(command);
+
+        // Then
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.isSuccess()).isFalse();
+            assertThat(result.getErrorMessage()).contains("modificada por otra operación");
+        });
+        assertThat(claimedByOther.getStatus()).isEqualTo(AuthorizationStatus.EN_REVISION);
+        verify(authorizationRepository).updateStatuses(argThat(List::isEmpty));
+        verify(evaluationRepository).insertAll(argThat(List::isEmpty));
+    }
+
+    private MedicalAuthorization pendingAuthorization(ServiceType serviceType) {
+        return new MedicalAuthorization(
+                UUID.randomUUID(),
+                patient.getId(),
+                serviceType,
+                "Consulta de control por hipertensión arterial",
+                LocalDateTime.now(),
+                AuthorizationStatus.PENDIENTE,
+                UUID.randomUUID(),
+                false
+        );
+    }
+}
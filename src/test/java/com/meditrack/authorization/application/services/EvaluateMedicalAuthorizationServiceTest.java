@@ -0,0 +1,182 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.BusinessRuleException;
+import com.meditrack.authorization.domain.exceptions.ConcurrentUpdateException;
+import com.meditrack.authorization.domain.exceptions.DuplicateResourceException;
+import com.meditrack.authorization.domain.models.CoverageEvaluation;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para EvaluateMedicalAuthorizationService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EvaluateMedicalAuthorizationService Tests")
+class EvaluateMedicalAuthorizationServiceTest {
+
+    @Mock
+    private MedicalAuthorizationRepositoryPort authorizationRepository;
+
+    @Mock
+    private CoverageEvaluationRepositoryPort evaluationRepository;
+
+    @Mock
+    private PatientRepositoryPort patientRepository;
+
+    @Mock
+    private InsuranceValidationServicePort insuranceService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EvaluateMedicalAuthorizationService service;
+
+    private MedicalAuthorization pendingAuthorization;
+    private EvaluateMedicalAuthorizationCommand command;
+    private InsuranceValidationServicePort.InsuranceValidationResult approvedResult;
+
+    @BeforeEach
+    void setUp() {
+        service = new EvaluateMedicalAuthorizationService(
+                authorizationRepository,
+                evaluationRepository,
+                patientRepository,
+                insuranceService,
+                transactionManager,
+                Runnable::run
+        );
+
+        UUID patientId = UUID.randomUUID();
+        pendingAuthorization = new MedicalAuthorization(
+                UUID.randomUUID(),
+                patientId,
+                ServiceType.CONSULTA,
+                "Consulta de control por hipertensión arterial",
+                LocalDateTime.now(),
+                AuthorizationStatus.PENDIENTE,
+                UUID.randomUUID(),
+                false
+        );
+        Patient patient = new Patient(
+                patientId,
+                "1000111222",
+                "Carlos",
+                "Ramírez",
+                "carlos@example.com",
+                "3001234567",
+                AffiliationStatus.ACTIVE,
+                AffiliationType.CONTRIBUTIVO,
+                LocalDate.now().minusYears(1),
+                false
+        );
+        command = new EvaluateMedicalAuthorizationCommand(pendingAuthorization.getId(), new BigDecimal("100000"));
+        approvedResult = new InsuranceValidationServicePort.InsuranceValidationResult(
+                true, 80, new BigDecimal("20000"), new BigDecimal("80000"), "AUTH-1", "Aprobado"
+        );
+
+        when(authorizationRepository.findByIdAndNotDeleted(pendingAuthorization.getId()))
+                .thenReturn(Optional.of(pendingAuthorization));
+        when(patientRepository.findByIdAndNotDeleted(patientId)).thenReturn(Optional.of(patient));
+    }
+
+    @Test
+    @DisplayName("Debe llamar al seguro fuera de cualquier transacción")
+    void shouldCallInsurerBetweenReadAndWriteTransactions() {
+        // Given
+        when(insuranceService.validateCoverage(any(), any(), any(), any())).thenReturn(approvedResult);
+        when(authorizationRepository.updateStatusIfUnchanged(
+                pendingAuthorization.getId(), AuthorizationStatus.PENDIENTE, AuthorizationStatus.APROBADA
+        )).thenReturn(true);
+        when(evaluationRepository.insert(any(CoverageEvaluation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        CoverageEvaluation result = service.execute(command);
+
+        // Then
+        assertThat(result.isApproved()).isTrue();
+        InOrder inOrder = inOrder(transactionManager, insuranceService, evaluationRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(insuranceService).validateCoverage(any(), any(), any(), any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(evaluationRepository).insert(any(CoverageEvaluation.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Debe revertir la evaluación insertada si otra operación cambió el estado")
+    void shouldRejectConcurrentEvaluation() {
+        // Given
+        when(insuranceService.validateCoverage(any(), any(), any(), any())).thenReturn(approvedResult);
+        when(evaluationRepository.insert(any(CoverageEvaluation.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(authorizationRepository.updateStatusIfUnchanged(any(), any(), any())).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(command))
+                .isInstanceOf(ConcurrentUpdateException.class)
+                .hasMessageContaining("otra operación");
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la evaluación si la restricción única detecta una evaluación previa")
+    void shouldRejectDuplicateEvaluation() {
+        // Given
+        when(insuranceService.validateCoverage(any(), any(), any(), any())).thenReturn(approvedResult);
+        when(evaluationRepository.insert(any(CoverageEvaluation.class))).thenThrow(
+                new DuplicateResourceException("Evaluación de cobertura", "autorización", pendingAuthorization.getId()));
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(command))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("ya ha sido evaluada");
+        verify(authorizationRepository, never()).updateStatusIfUnchanged(any(), any(), any());
+        verify(evaluationRepository, never()).existsByAuthorizationId(any());
+    }
+
+    @Test
+    @DisplayName("Debe completar la evaluación asíncrona con el resultado del seguro")
+    void shouldCompleteAsyncEvaluation() {
+        // Given
+        when(insuranceService.validateCoverageAsync(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(approvedResult));
+        when(authorizationRepository.updateStatusIfUnchanged(any(), any(), any())).thenReturn(true);
+        when(evaluationRepository.insert(any(CoverageEvaluation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        CoverageEvaluation result = service.executeAsync(command).join();
+
+        // Then
+        assertThat(result.getCoveragePercentage()).isEqualTo(80);
+        verify(insuranceService, never()).validateCoverage(any(), any(), any(), any());
+    }
+}
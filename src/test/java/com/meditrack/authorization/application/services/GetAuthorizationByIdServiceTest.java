@@ -0,0 +1,98 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.exceptions.UnauthorizedAccessException;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.query.GetAuthorizationByIdQuery;
+import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para GetAuthorizationByIdService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetAuthorizationByIdService Tests")
+class GetAuthorizationByIdServiceTest {
+
+    @Mock
+    private MedicalAuthorizationRepositoryPort authorizationRepository;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @InjectMocks
+    private GetAuthorizationByIdService service;
+
+    private MedicalAuthorization authorization;
+
+    @BeforeEach
+    void setUp() {
+        authorization = new MedicalAuthorization(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                ServiceType.CONSULTA,
+                "Consulta de control por hipertensión arterial",
+                LocalDateTime.now(),
+                AuthorizationStatus.PENDIENTE,
+                UUID.randomUUID(),
+                false
+        );
+        when(authorizationRepository.findByIdAndNotDeleted(authorization.getId()))
+                .thenReturn(Optional.of(authorization));
+    }
+
+    @Test
+    @DisplayName("Debe permitir al paciente ver su propia autorización usando solo el principal")
+    void shouldAllowPatientOwnAuthorization() {
+        // Given
+        when(currentUserPort.getCurrentUser()).thenReturn(
+                new AuthenticatedUser(UUID.randomUUID(), UserRole.ROLE_PACIENTE, authorization.getPatientId()));
+
+        // When
+        MedicalAuthorization result = service.execute(new GetAuthorizationByIdQuery(authorization.getId()));
+
+        // Then
+        assertThat(result).isSameAs(authorization);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar al paciente que consulta la autorización de otro")
+    void shouldRejectOtherPatientAuthorization() {
+        // Given
+        when(currentUserPort.getCurrentUser()).thenReturn(
+                new AuthenticatedUser(UUID.randomUUID(), UserRole.ROLE_PACIENTE, UUID.randomUUID()));
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(new GetAuthorizationByIdQuery(authorization.getId())))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar al paciente cuyo token no trae patientId")
+    void shouldRejectPatientWithoutPatientIdClaim() {
+        // Given
+        when(currentUserPort.getCurrentUser()).thenReturn(
+                new AuthenticatedUser(UUID.randomUUID(), UserRole.ROLE_PACIENTE, null));
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(new GetAuthorizationByIdQuery(authorization.getId())))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+}
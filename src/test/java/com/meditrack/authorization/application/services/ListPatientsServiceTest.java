@@ -0,0 +1,58 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
+import com.meditrack.authorization.domain.ports.in.query.ListPatientsQuery;
+import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ListPatientsService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListPatientsService Tests")
+class ListPatientsServiceTest {
+
+    private static final long MAX_OFFSET = 10000;
+
+    @Mock
+    private PatientRepositoryPort patientRepository;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    private ListPatientsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ListPatientsService(patientRepository, currentUserPort, 20, 100, MAX_OFFSET);
+        when(currentUserPort.getCurrentUser()).thenReturn(
+                new AuthenticatedUser(UUID.randomUUID(), UserRole.ROLE_ADMIN, null));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una página cuyo offset desborda sin consultar el repositorio")
+    void shouldRejectPageBeyondMaxOffset() {
+        // Given: page * size desborda un int
+        ListPatientsQuery query = new ListPatientsQuery(
+                null, null, null, null, true, Integer.MAX_VALUE, 100, false);
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(MAX_OFFSET));
+        verify(patientRepository, never()).findSummaries(any(), any(), anyBoolean(), anyInt(), anyInt());
+    }
+}
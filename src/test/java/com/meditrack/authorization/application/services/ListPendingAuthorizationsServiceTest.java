@@ -0,0 +1,107 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.query.ListPendingAuthorizationsQuery;
+import com.meditrack.authorization.domain.ports.in.useCase.ListPendingAuthorizationsUseCase.Cursor;
+import com.meditrack.authorization.domain.ports.in.useCase.ListPendingAuthorizationsUseCase.PendingPage;
+import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ListPendingAuthorizationsService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListPendingAuthorizationsService Tests")
+class ListPendingAuthorizationsServiceTest {
+
+    @Mock
+    private MedicalAuthorizationRepositoryPort authorizationRepository;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    private ListPendingAuthorizationsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ListPendingAuthorizationsService(authorizationRepository, currentUserPort, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Debe acotar el tamaño de página y devolver el cursor de la última fila")
+    void shouldClampPageSizeAndReturnCursor() {
+        // Given: se piden 100, el máximo es 3 (se consulta una fila de más)
+        loggedInAsDoctor();
+        List<MedicalAuthorization> rows = pending(4);
+        when(authorizationRepository.findByStatusAfter(eq(AuthorizationStatus.PENDIENTE), isNull(), isNull(), eq(4)))
+                .thenReturn(rows);
+
+        // When
+        PendingPage page = service.execute(new ListPendingAuthorizationsQuery(null, 100));
+
+        // Then
+        assertThat(page.getItems()).hasSize(3);
+        Cursor next = Cursor.decode(page.getNext().encode());
+        assertThat(next.getId()).isEqualTo(rows.get(2).getId());
+        assertThat(next.getRequestDate()).isEqualTo(rows.get(2).getRequestDate());
+    }
+
+    @Test
+    @DisplayName("No debe devolver cursor en la última página")
+    void shouldNotReturnCursorOnLastPage() {
+        // Given
+        loggedInAsDoctor();
+        Cursor after = new Cursor(LocalDateTime.of(2025, 3, 1, 10, 0), UUID.randomUUID());
+        when(authorizationRepository.findByStatusAfter(
+                AuthorizationStatus.PENDIENTE, after.getRequestDate(), after.getId(), 3))
+                .thenReturn(pending(1));
+
+        // When
+        PendingPage page = service.execute(new ListPendingAuthorizationsQuery(after.encode(), null));
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor manipulado")
+    void shouldRejectInvalidCursor() {
+        // When / Then
+        assertThatThrownBy(() -> new ListPendingAuthorizationsQuery("no-es-un-cursor", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor de paginación inválido");
+    }
+
+    private void loggedInAsDoctor() {
+        when(currentUserPort.getCurrentUser())
+                .thenReturn(new AuthenticatedUser(UUID.randomUUID(), UserRole.ROLE_MEDICO, null));
+    }
+
+    private List<MedicalAuthorization> pending(int count) {
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 10, 0);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new MedicalAuthorization(UUID.randomUUID(), UUID.randomUUID(), ServiceType.CONSULTA,
+                        "Solicitud " + i, base.plusMinutes(i), AuthorizationStatus.PENDIENTE, UUID.randomUUID(), false))
+                .toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.models.User;
+import com.meditrack.authorization.domain.ports.in.command.LoginUserCommand;
+import com.meditrack.authorization.domain.ports.out.JwtServicePort;
+import com.meditrack.authorization.domain.ports.out.PasswordEncoderPort;
+import com.meditrack.authorization.domain.ports.out.UserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para LoginUserService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginUserService Tests")
+class LoginUserServiceTest {
+
+    private static final String LEGACY_HASH = "$2a$10$legacyhash";
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private PasswordEncoderPort passwordEncoder;
+
+    @Mock
+    private JwtServicePort jwtService;
+
+    @InjectMocks
+    private LoginUserService service;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User(UUID.randomUUID(), "medico", "medico@test.com", LEGACY_HASH,
+                UserRole.ROLE_MEDICO, null, true);
+        when(userRepository.findByUsername("medico")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("medico123", LEGACY_HASH)).thenReturn(true);
+        when(jwtService.generateToken(any(), any(), any(), any())).thenReturn("token");
+    }
+
+    @Test
+    @DisplayName("Debe re-encriptar la contraseña si el hash está desactualizado")
+    void shouldUpgradeOutdatedHash() {
+        // Given
+        when(passwordEncoder.upgradeEncoding(LEGACY_HASH)).thenReturn(true);
+        when(passwordEncoder.encode("medico123")).thenReturn("{bcrypt}$2a$12$newhash");
+
+        // When
+        service.execute(new LoginUserCommand("medico", "medico123"));
+
+        // Then: solo se cambia el hash, comparando con el leído
+        verify(userRepository).updatePasswordHash(user.getId(), LEGACY_HASH, "{bcrypt}$2a$12$newhash");
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Debe completar el login aunque falle la re-encriptación")
+    void shouldLoginWhenUpgradeFails() {
+        // Given
+        when(passwordEncoder.upgradeEncoding(LEGACY_HASH)).thenReturn(true);
+        when(passwordEncoder.encode("medico123")).thenReturn("{bcrypt}$2a$12$newhash");
+        when(userRepository.updatePasswordHash(any(), any(), any()))
+                .thenThrow(new IllegalStateException("BD no disponible"));
+
+        // When
+        var result = service.execute(new LoginUserCommand("medico", "medico123"));
+
+        // Then
+        assertThat(result.getToken()).isEqualTo("token");
+    }
+}
@@ -0,0 +1,140 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.exceptions.BusinessRuleException;
+import com.meditrack.authorization.domain.exceptions.ServiceUnavailableException;
+import com.meditrack.authorization.domain.models.CoverageEvaluation;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.ports.in.useCase.EvaluateMedicalAuthorizationUseCase;
+import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.EvaluationJobRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ProcessEvaluationJobService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessEvaluationJobService Tests")
+class ProcessEvaluationJobServiceTest {
+
+    private static final String NODE_ID = "node-a";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private EvaluationJobRepositoryPort jobRepository;
+
+    @Mock
+    private EvaluateMedicalAuthorizationUseCase evaluateUseCase;
+
+    @Mock
+    private CoverageEvaluationRepositoryPort evaluationRepository;
+
+    private ProcessEvaluationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProcessEvaluationJobService(
+                jobRepository, evaluateUseCase, evaluationRepository, NODE_ID, 300000, 5000, 60000, MAX_ATTEMPTS);
+        when(jobRepository.saveResultIfClaimedBy(any(), eq(NODE_ID))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Debe reencolar con backoff si el seguro no está disponible y quedan intentos")
+    void shouldRequeueWhileAttemptsRemain() {
+        // Given
+        EvaluationJob job = claimedJob(MAX_ATTEMPTS - 1);
+        when(evaluateUseCase.execute(any())).thenThrow(new ServiceUnavailableException("Circuito abierto", 5));
+
+        // When
+        EvaluationJob result = service.execute(job);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(EvaluationJobStatus.EN_COLA);
+        assertThat(result.getNotBefore()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Debe marcar el trabajo como fallido al agotar los intentos con el seguro no disponible")
+    void shouldFailWhenAttemptsAreExhausted() {
+        // Given
+        EvaluationJob job = claimedJob(MAX_ATTEMPTS);
+        when(evaluateUseCase.execute(any())).thenThrow(new ServiceUnavailableException("Circuito abierto", 5));
+
+        // When
+        EvaluationJob result = service.execute(job);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(EvaluationJobStatus.FALLIDO);
+        assertThat(result.getErrorMessage()).contains(MAX_ATTEMPTS + " intentos");
+        verify(jobRepository).saveResultIfClaimedBy(job, NODE_ID);
+    }
+
+    @Test
+    @DisplayName("Debe completar con la evaluación existente un trabajo reintentado tras confirmarla")
+    void shouldCompleteWithExistingEvaluationWhenAlreadyEvaluated() {
+        // Given: la evaluación se confirmó pero el nodo cayó antes de registrar el trabajo
+        EvaluationJob job = claimedJob(2);
+        CoverageEvaluation existing = mock(CoverageEvaluation.class);
+        UUID evaluationId = UUID.randomUUID();
+        when(existing.getId()).thenReturn(evaluationId);
+        when(evaluateUseCase.execute(any()))
+                .thenThrow(new BusinessRuleException("Esta autorización ya ha sido evaluada"));
+        when(evaluationRepository.findByAuthorizationId(job.getAuthorizationId())).thenReturn(Optional.of(existing));
+
+        // When
+        EvaluationJob result = service.execute(job);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(EvaluationJobStatus.COMPLETADO);
+        assertThat(result.getEvaluationId()).isEqualTo(evaluationId);
+    }
+
+    @Test
+    @DisplayName("Debe marcar como fallido un error de negocio sin evaluación registrada")
+    void shouldFailBusinessRuleWithoutEvaluation() {
+        // Given
+        EvaluationJob job = claimedJob(1);
+        when(evaluateUseCase.execute(any())).thenThrow(new BusinessRuleException("El paciente no está activo"));
+        when(evaluationRepository.findByAuthorizationId(job.getAuthorizationId())).thenReturn(Optional.empty());
+
+        // When
+        EvaluationJob result = service.execute(job);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(EvaluationJobStatus.FALLIDO);
+        assertThat(result.getErrorMessage()).isEqualTo("El paciente no está activo");
+    }
+
+    private EvaluationJob claimedJob(int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return new EvaluationJob(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("100000"),
+                UUID.randomUUID(),
+                EvaluationJobStatus.EN_PROCESO,
+                attempts,
+                null,
+                null,
+                NODE_ID,
+                now.plusMinutes(5),
+                null,
+                now,
+                now
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.DuplicateResourceException;
+import com.meditrack.authorization.domain.exceptions.TooManyRequestsException;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+import com.meditrack.authorization.domain.ports.out.CoverageEvaluationRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.EvaluationJobRepositoryPort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para SubmitEvaluationJobService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmitEvaluationJobService Tests")
+class SubmitEvaluationJobServiceTest {
+
+    private static final long QUEUE_CAPACITY = 2;
+
+    @Mock
+    private EvaluationJobRepositoryPort jobRepository;
+
+    @Mock
+    private MedicalAuthorizationRepositoryPort authorizationRepository;
+
+    @Mock
+    private CoverageEvaluationRepositoryPort evaluationRepository;
+
+    private SubmitEvaluationJobService service;
+
+    private MedicalAuthorization pendingAuthorization;
+    private EvaluateMedicalAuthorizationCommand command;
+
+    @BeforeEach
+    void setUp() {
+        service = new SubmitEvaluationJobService(
+                jobRepository, authorizationRepository, evaluationRepository, QUEUE_CAPACITY, 5
+        );
+
+        pendingAuthorization = new MedicalAuthorization(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                ServiceType.CONSULTA,
+                "Consulta de control por hipertensión arterial",
+                LocalDateTime.now(),
+                AuthorizationStatus.PENDIENTE,
+                UUID.randomUUID(),
+                false
+        );
+        command = new EvaluateMedicalAuthorizationCommand(pendingAuthorization.getId(), new BigDecimal("100000"));
+    }
+
+    @Test
+    @DisplayName("Debe encolar la evaluación cuando hay capacidad")
+    void shouldEnqueueWhenQueueHasCapacity() {
+        // Given
+        when(jobRepository.countByStatus(EvaluationJobStatus.EN_COLA)).thenReturn(QUEUE_CAPACITY - 1);
+        when(authorizationRepository.findByIdAndNotDeleted(pendingAuthorization.getId()))
+                .thenReturn(Optional.of(pendingAuthorization));
+        when(jobRepository.save(any(EvaluationJob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        EvaluationJob job = service.execute(command);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(EvaluationJobStatus.EN_COLA);
+        assertThat(job.getAuthorizationId()).isEqualTo(pendingAuthorization.getId());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 429 cuando la cola está llena")
+    void shouldRejectWhenQueueIsFull() {
+        // Given
+        when(jobRepository.countByStatus(EvaluationJobStatus.EN_COLA)).thenReturn(QUEUE_CAPACITY);
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(command))
+                .isInstanceOf(TooManyRequestsException.class);
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un segundo trabajo para la misma autorización")
+    void shouldRejectDuplicateActiveJob() {
+        // Given
+        when(authorizationRepository.findByIdAndNotDeleted(pendingAuthorization.getId()))
+                .thenReturn(Optional.of(pendingAuthorization));
+        when(jobRepository.existsActiveByAuthorizationId(pendingAuthorization.getId())).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(command))
+                .isInstanceOf(DuplicateResourceException.class);
+        verify(jobRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,156 @@
+package com.meditrack.authorization.application.services;
+
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.exceptions.ConcurrentUpdateException;
+import com.meditrack.authorization.domain.models.AuthenticatedUser;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.command.UpdateAuthorizationStatusCommand;
+import com.meditrack.authorization.domain.ports.out.CurrentUserPort;
+import com.meditrack.authorization.domain.ports.out.MedicalAuthorizationRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para UpdateAuthorizationStatusService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateAuthorizationStatusService Tests")
+class UpdateAuthorizationStatusServiceTest {
+
+    @Mock
+    private MedicalAuthorizationRepositoryPort authorizationRepository;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UpdateAuthorizationStatusService service;
+    private UUID authorizationId;
+    private UpdateAuthorizationStatusCommand approveCommand;
+
+    @BeforeEach
+    void setUp() {
+        service = new UpdateAuthorizationStatusService(authorizationRepository, currentUserPort, transactionManager, 3);
+        authorizationId = UUID.randomUUID();
+        approveCommand = new UpdateAuthorizationStatusCommand(authorizationId, AuthorizationStatus.APROBADA);
+
+        when(currentUserPort.getCurrentUser())
+                .thenReturn(new AuthenticatedUser(UUID.randomUUID(), UserRole.ROLE_ADMIN, null));
+    }
+
+    @Test
+    @DisplayName("Debe releer y reintentar cuando otra operación cambió la versión")
+    void shouldRetryOnConcurrentUpdate() {
+        // Given: el primer guardado pierde la carrera contra una toma para revisión
+        when(authorizationRepository.findByIdAndNotDeleted(authorizationId))
+                .thenReturn(Optional.of(authorization(AuthorizationStatus.PENDIENTE, 0L)))
+                .thenReturn(Optional.of(authorization(AuthorizationStatus.EN_REVISION, 1L)));
+        when(authorizationRepository.save(any(MedicalAuthorization.class)))
+                .thenThrow(new ConcurrentUpdateException("La autorización", authorizationId))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        MedicalAuthorization result = service.execute(approveCommand);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AuthorizationStatus.APROBADA);
+        assertThat(result.getVersion()).isEqualTo(1L);
+        verify(authorizationRepository, times(2)).save(any(MedicalAuthorization.class));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("No debe volver a guardar si la operación concurrente ya dejó el estado pedido")
+    void shouldStopRetryingWhenStatusAlreadyApplied() {
+        // Given
+        when(authorizationRepository.findByIdAndNotDeleted(authorizationId))
+                .thenReturn(Optional.of(authorization(AuthorizationStatus.PENDIENTE, 0L)))
+                .thenReturn(Optional.of(authorization(AuthorizationStatus.APROBADA, 1L)));
+        when(authorizationRepository.save(any(MedicalAuthorization.class)))
+                .thenThrow(new ConcurrentUpdateException("La autorización", authorizationId));
+
+        // When
+        MedicalAuthorization result = service.execute(approveCommand);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AuthorizationStatus.APROBADA);
+        verify(authorizationRepository, times(1)).save(any(MedicalAuthorization.class));
+    }
+
+    @Test
+    @DisplayName("Debe propagar el conflicto al agotar los intentos")
+    void shouldPropagateConflictAfterMaxAttempts() {
+        // Given
+        when(authorizationRepository.findByIdAndNotDeleted(authorizationId))
+                .thenAnswer(invocation -> Optional.of(authorization(AuthorizationStatus.PENDIENTE, 0L)));
+        when(authorizationRepository.save(any(MedicalAuthorization.class)))
+                .thenThrow(new ConcurrentUpdateException("La autorización", authorizationId));
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(approveCommand))
+                .isInstanceOf(ConcurrentUpdateException.class);
+        verify(authorizationRepository, times(3)).save(any(MedicalAuthorization.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el cambio si otro revisor tiene la reserva vigente")
+    void shouldRejectWhenLeasedToAnotherReviewer() {
+        // Given
+        MedicalAuthorization leased = new MedicalAuthorization(
+                authorizationId,
+                UUID.randomUUID(),
+                ServiceType.CONSULTA,
+                "Consulta de control por hipertensión arterial",
+                LocalDateTime.now(),
+                AuthorizationStatus.EN_REVISION,
+                UUID.randomUUID(),
+                false,
+                UUID.randomUUID().toString(),
+                LocalDateTime.now().plusMinutes(10),
+                1L
+        );
+        when(authorizationRepository.findByIdAndNotDeleted(authorizationId)).thenReturn(Optional.of(leased));
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(approveCommand))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("reservada para revisión");
+        verify(authorizationRepository, never()).save(any(MedicalAuthorization.class));
+    }
+
+    // ========== Métodos auxiliares ==========
+
+    private MedicalAuthorization authorization(AuthorizationStatus status, Long version) {
+        return new MedicalAuthorization(
+                authorizationId,
+                UUID.randomUUID(),
+                ServiceType.CONSULTA,
+                "Consulta de control por hipertensión arterial",
+                LocalDateTime.now(),
+                status,
+                UUID.randomUUID(),
+                false,
+                null,
+                null,
+                version
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package com.meditrack.authorization.benchmark;
+
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.infrastructure.security.JwtService;
+import com.meditrack.authorization.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH: costo por petición de validar el JWT en el filtro
+ *
+ * - perRequestBefore: lo que hacía el filtro antes (cuatro parseos completos, cada uno
+ *   decodificando el secreto Base64 y construyendo un parser nuevo)
+ * - perRequestAfter: un único parseo con la clave y el parser construidos al arrancar
+ * - perRequestCached: token repetido servido desde la caché de tokens verificados
+ *
+ * Ejecución (no corre con mvn test).
+ * JMH lanza JVMs hijas con java.class.path, por eso no sirve exec:java:
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *       com.meditrack.authorization.benchmark.JwtParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437486B";
+
+    private JwtService jwtService;
+    private JwtService cachingJwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000, false, 0, new SimpleMeterRegistry());
+        cachingJwtService = new JwtService(SECRET, 3_600_000, true, 10_000, new SimpleMeterRegistry());
+        token = jwtService.generateToken(UUID.randomUUID(), "admin", UserRole.ROLE_ADMIN, null);
+    }
+
+    @Benchmark
+    public boolean perRequestBefore() {
+        UUID userId = UUID.fromString(legacyClaims(token).getSubject());
+        UserRole role = UserRole.valueOf(legacyClaims(token).get("role", String.class));
+        boolean sameUser = UUID.fromString(legacyClaims(token).getSubject()).equals(userId);
+        boolean expired = legacyClaims(token).getExpiration().before(new Date());
+        return role != null && sameUser && !expired;
+    }
+
+    @Benchmark
+    public VerifiedToken perRequestAfter() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken perRequestCached() {
+        return cachingJwtService.verify(token);
+    }
+
+    /**
+     * Réplica de la extracción anterior: clave y parser nuevos en cada llamada
+     */
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
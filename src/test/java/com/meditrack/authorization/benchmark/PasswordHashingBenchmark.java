@@ -0,0 +1,68 @@
+package com.meditrack.authorization.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH: tiempo de BCrypt por costo (security.password.bcrypt.strength)
+ *
+ * - encode: registro y re-encriptación tras un login con hash desactualizado
+ * - matches: cada login
+ *
+ * Cada punto de costo duplica el tiempo. Ejecutar en el hardware de despliegue y elegir el
+ * mayor costo cuyo matches quepa en el presupuesto de CPU del login; el pool de hashing
+ * (security.password.hashing.threads) limita cuántos corren a la vez.
+ *
+ * Ejecución (no corre con mvn test; -Dcosts limita los costos medidos).
+ * JMH lanza JVMs hijas con java.class.path, por eso no sirve exec:java:
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ *   java -Dcosts=10,12 -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *       com.meditrack.authorization.benchmark.PasswordHashingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String RAW_PASSWORD = "Passw0rd!segura";
+
+    @Param({"10", "11", "12", "13"})
+    public int cost;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(cost);
+        encoded = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        options.include(PasswordHashingBenchmark.class.getSimpleName());
+        String costs = System.getProperty("costs");
+        if (costs != null && !costs.isBlank()) {
+            options.param("cost", costs.split(","));
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,133 @@
+package com.meditrack.authorization.benchmark;
+
+import com.meditrack.authorization.domain.models.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark JMH: inserción de un millón de filas con clave BINARY(16) v4 (aleatoria) vs v7 (ordenada)
+ *
+ * La tabla replica la forma de medical_authorizations. Lo relevante es InnoDB: con H2 en memoria
+ * (valor por defecto, sirve para validar el benchmark) la diferencia es mucho menor. Para medir
+ * contra MySQL usar una base desechable, con buffer pool menor que la tabla para ver el efecto
+ * de los page splits:
+ *   -Djdbc.url=jdbc:mysql://localhost:3306/bench -Djdbc.user=root -Djdbc.password=...
+ *
+ * Ejecución (no corre con mvn test; -Drows cambia el número de filas):
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ *   java -Djdbc.url=... -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *       com.meditrack.authorization.benchmark.UuidInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"v4", "v7"})
+    public String idVersion;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+                jdbcUrl, System.getProperty("jdbc.user", "sa"), System.getProperty("jdbc.password", ""));
+        connection.setAutoCommit(false);
+        ids = "v7".equals(idVersion) ? TimeOrderedUuid::next : UUID::randomUUID;
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_authorizations");
+            statement.execute("""
+                    CREATE TABLE bench_authorizations (
+                        id BINARY(16) NOT NULL PRIMARY KEY,
+                        patient_id BINARY(16) NOT NULL,
+                        service_type VARCHAR(50) NOT NULL,
+                        description VARCHAR(500) NOT NULL,
+                        request_date DATETIME NOT NULL,
+                        status VARCHAR(20) NOT NULL
+                    )""");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        byte[] patientId = toBytes(UUID.randomUUID());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_authorizations (id, patient_id, service_type, description, request_date, status) "
+                        + "VALUES (?, ?, 'CONSULTA', 'Consulta de control', ?, 'PENDIENTE')")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setBytes(1, toBytes(ids.get()));
+                insert.setBytes(2, patientId);
+                insert.setTimestamp(3, now);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return rows;
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_authorizations");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        options.include(UuidInsertBenchmark.class.getSimpleName());
+        String url = System.getProperty("jdbc.url");
+        if (url != null && !url.isBlank()) {
+            options.param("jdbcUrl", url);
+        }
+        String rows = System.getProperty("rows");
+        if (rows != null && !rows.isBlank()) {
+            options.param("rows", rows);
+        }
+        new Runner(options.build()).run();
+    }
+}
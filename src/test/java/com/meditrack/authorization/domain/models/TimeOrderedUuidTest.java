@@ -0,0 +1,52 @@
+package com.meditrack.authorization.domain.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para TimeOrderedUuid
+ */
+@DisplayName("TimeOrderedUuid Tests")
+class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("Debe generar UUID versión 7 con variante RFC y timestamp actual")
+    void shouldGenerateVersion7() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = TimeOrderedUuid.next();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertThat(millis).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Debe generar IDs estrictamente crecientes en orden de bytes")
+    void shouldBeMonotonic() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+
+        // When: muchos IDs dentro del mismo milisegundo
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedUuid.next());
+        }
+
+        // Then: el orden big-endian (BINARY(16)) coincide con el de generación
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(
+                    ids.get(i - 1).getMostSignificantBits(), ids.get(i).getMostSignificantBits()))
+                    .isNegative();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.decorator;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort.InsuranceValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para CachingInsuranceValidationDecorator
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingInsuranceValidationDecorator Tests")
+class CachingInsuranceValidationDecoratorTest {
+
+    @Mock
+    private InsuranceValidationServicePort delegate;
+
+    private CachingInsuranceValidationDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        decorator = new CachingInsuranceValidationDecorator(
+                delegate,
+                Caffeine.newBuilder().maximumSize(100).build(),
+                new BigDecimal("50000")
+        );
+        when(delegate.validateCoverage(any(), any(), any(), any())).thenReturn(new InsuranceValidationResult(
+                true, 80, new BigDecimal("20000.00"), new BigDecimal("80000.00"), "AUTH-PACIENTE-1", "Aprobado"
+        ));
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar la decisión en la misma banda sin reutilizar el código de autorización")
+    void shouldServeDecisionFromCacheWithoutAuthorizationCode() {
+        // Given
+        decorator.validateCoverage("1000111222", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, new BigDecimal("100000"));
+
+        // When
+        InsuranceValidationResult cached = decorator.validateCoverage(
+                "2000333444", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, new BigDecimal("120000"));
+
+        // Then
+        verify(delegate, times(1)).validateCoverage(any(), any(), any(), any());
+        assertThat(cached.isApproved()).isTrue();
+        assertThat(cached.getCoveragePercentage()).isEqualTo(80);
+        assertThat(cached.getCoveredAmount()).isEqualByComparingTo("96000");
+        assertThat(cached.getCopayAmount()).isEqualByComparingTo("24000");
+        assertThat(cached.getAuthorizationCode()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe consultar al seguro cuando cambia la banda de costo")
+    void shouldMissOnDifferentCostBand() {
+        // When
+        decorator.validateCoverage("1000111222", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, new BigDecimal("100000"));
+        decorator.validateCoverage("1000111222", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, new BigDecimal("150000"));
+
+        // Then
+        verify(delegate, times(2)).validateCoverage(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,136 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.decorator;
+
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.ExternalServiceException;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort.InsuranceValidationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para CoalescingInsuranceValidationDecorator
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingInsuranceValidationDecorator Tests")
+class CoalescingInsuranceValidationDecoratorTest {
+
+    @Mock
+    private InsuranceValidationServicePort delegate;
+
+    private Counter coalescedCalls;
+    private CoalescingInsuranceValidationDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        coalescedCalls = new SimpleMeterRegistry().counter("insurance.validation.coalesced");
+        decorator = new CoalescingInsuranceValidationDecorator(delegate, coalescedCalls);
+    }
+
+    @Test
+    @DisplayName("Debe compartir una sola llamada entre consultas idénticas en vuelo")
+    void shouldShareInFlightCall() {
+        // Given
+        CompletableFuture<InsuranceValidationResult> pending = new CompletableFuture<>();
+        when(delegate.validateCoverageAsync(any(), any(), any(), any())).thenReturn(pending);
+
+        // When
+        CompletableFuture<InsuranceValidationResult> first = validateAsync(new BigDecimal("100000"));
+        CompletableFuture<InsuranceValidationResult> second = validateAsync(new BigDecimal("100000.00"));
+        pending.complete(new InsuranceValidationResult(
+                true, 80, new BigDecimal("20000"), new BigDecimal("80000"), "AUTH-1", "Aprobado"));
+
+        // Then
+        assertThat(first.join().getAuthorizationCode()).isEqualTo("AUTH-1");
+        assertThat(second.join().getAuthorizationCode()).isEqualTo("AUTH-1");
+        verify(delegate, times(1)).validateCoverageAsync(any(), any(), any(), any());
+        assertThat(coalescedCalls.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error a todos y permitir una nueva llamada después")
+    void shouldPropagateFailureAndForgetKey() {
+        // Given
+        CompletableFuture<InsuranceValidationResult> pending = new CompletableFuture<>();
+        when(delegate.validateCoverageAsync(any(), any(), any(), any()))
+                .thenReturn(pending)
+                .thenReturn(new CompletableFuture<>());
+
+        // When
+        CompletableFuture<InsuranceValidationResult> first = validateAsync(new BigDecimal("100000"));
+        CompletableFuture<InsuranceValidationResult> second = validateAsync(new BigDecimal("100000"));
+        pending.completeExceptionally(new ExternalServiceException("Servicio no disponible"));
+        validateAsync(new BigDecimal("100000"));
+
+        // Then
+        assertThatThrownBy(first::join).hasCauseInstanceOf(ExternalServiceException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(ExternalServiceException.class);
+        verify(delegate, times(2)).validateCoverageAsync(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe liberar a los seguidores si la llamada síncrona del líder lanza un Error")
+    void shouldReleaseFollowersWhenLeaderThrowsError() throws Exception {
+        // Given: el líder queda dentro del seguro hasta que el seguidor está esperando
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.validateCoverage(any(), any(), any(), any())).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            release.await();
+            throw new OutOfMemoryError("simulado");
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<InsuranceValidationResult> leader = executor.submit(() -> validate());
+            assertThat(leaderStarted.await(2, TimeUnit.SECONDS)).isTrue();
+            Future<InsuranceValidationResult> follower = executor.submit(() -> validate());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (coalescedCalls.count() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // Then
+            assertThat(coalescedCalls.count()).isEqualTo(1.0);
+            assertThatThrownBy(() -> follower.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(OutOfMemoryError.class);
+            assertThatThrownBy(() -> leader.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OutOfMemoryError.class);
+            verify(delegate, times(1)).validateCoverage(any(), any(), any(), any());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private InsuranceValidationResult validate() {
+        return decorator.validateCoverage(
+                "1000111222", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, new BigDecimal("100000"));
+    }
+
+    private CompletableFuture<InsuranceValidationResult> validateAsync(BigDecimal cost) {
+        return decorator.validateCoverageAsync("1000111222", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, cost);
+    }
+}
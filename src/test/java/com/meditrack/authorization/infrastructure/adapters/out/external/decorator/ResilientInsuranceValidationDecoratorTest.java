@@ -0,0 +1,105 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.decorator;
+
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.ExternalServiceException;
+import com.meditrack.authorization.domain.exceptions.ServiceUnavailableException;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ResilientInsuranceValidationDecorator
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResilientInsuranceValidationDecorator Tests")
+class ResilientInsuranceValidationDecoratorTest {
+
+    private static final BigDecimal COST = new BigDecimal("100000");
+
+    @Mock
+    private InsuranceValidationServicePort delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private ResilientInsuranceValidationDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("insurance", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .build());
+        bulkhead = Bulkhead.of("insurance", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        decorator = new ResilientInsuranceValidationDecorator(delegate, circuitBreaker, bulkhead);
+    }
+
+    @Test
+    @DisplayName("Debe fallar rápido con 503 sin llamar al seguro cuando el circuito está abierto")
+    void shouldFailFastWhenCircuitIsOpen() {
+        // Given
+        when(delegate.validateCoverage(any(), any(), any(), any()))
+                .thenThrow(new ExternalServiceException("Servicio no disponible"));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> validate()).isInstanceOf(ExternalServiceException.class);
+        }
+
+        // When / Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::validate)
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("retryAfterSeconds").isEqualTo(30L);
+        verify(delegate, times(2)).validateCoverage(any(), any(), any(), any());
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 503 cuando el bulkhead está lleno")
+    void shouldRejectWhenBulkheadIsFull() {
+        // Given
+        CompletableFuture<InsuranceValidationServicePort.InsuranceValidationResult> pending = new CompletableFuture<>();
+        when(delegate.validateCoverageAsync(any(), any(), any(), any())).thenReturn(pending);
+        CompletableFuture<InsuranceValidationServicePort.InsuranceValidationResult> first = validateAsync();
+
+        // When
+        CompletableFuture<InsuranceValidationServicePort.InsuranceValidationResult> second = validateAsync();
+
+        // Then
+        assertThat(second).isCompletedExceptionally();
+        assertThatThrownBy(second::join).hasCauseInstanceOf(ServiceUnavailableException.class);
+
+        pending.complete(new InsuranceValidationServicePort.InsuranceValidationResult(
+                true, 80, new BigDecimal("20000"), new BigDecimal("80000"), "AUTH-1", "Aprobado"));
+        assertThat(first.join().isApproved()).isTrue();
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    private InsuranceValidationServicePort.InsuranceValidationResult validate() {
+        return decorator.validateCoverage("1000111222", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, COST);
+    }
+
+    private CompletableFuture<InsuranceValidationServicePort.InsuranceValidationResult> validateAsync() {
+        return decorator.validateCoverageAsync("1000111222", AffiliationType.CONTRIBUTIVO, ServiceType.CONSULTA, COST);
+    }
+}
@@ -0,0 +1,107 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para HedgingRequestExecutor
+ */
+@DisplayName("HedgingRequestExecutor Tests")
+class HedgingRequestExecutorTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Debe lanzar un segundo intento tras el p95 y cancelar el que no respondió")
+    void shouldHedgeSlowRequestAndCancelLoser() throws Exception {
+        // Given
+        HedgingRequestExecutor executor = new HedgingRequestExecutor(meterRegistry, true, 0.95, 100, 10);
+        primeLatency(Duration.ofMillis(20));
+
+        CompletableFuture<String> slowPrimary = new CompletableFuture<>();
+        CompletableFuture<Void> primarySettled = slowPrimary.handle((value, ex) -> null);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        CompletableFuture<String> result = executor.execute(() -> attempts.incrementAndGet() == 1
+                ? slowPrimary
+                : CompletableFuture.completedFuture("hedge"));
+
+        // Then
+        assertThat(result.orTimeout(2, TimeUnit.SECONDS).join()).isEqualTo("hedge");
+        assertThat(attempts.get()).isEqualTo(2);
+        primarySettled.get(2, TimeUnit.SECONDS);
+        assertThat(slowPrimary).isCancelled();
+        assertThat(meterRegistry.get("insurance.validation.hedge").tag("outcome", "won").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("No debe lanzar segundos intentos sin presupuesto")
+    void shouldNotHedgeWithoutBudget() throws InterruptedException {
+        // Given
+        HedgingRequestExecutor executor = new HedgingRequestExecutor(meterRegistry, true, 0.95, 0, 10);
+        primeLatency(Duration.ofMillis(20));
+
+        CompletableFuture<String> slowPrimary = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        CompletableFuture<String> result = executor.execute(() -> {
+            attempts.incrementAndGet();
+            return slowPrimary;
+        });
+        Thread.sleep(200);
+        slowPrimary.complete("primary");
+
+        // Then
+        assertThat(result.join()).isEqualTo("primary");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("insurance.validation.hedge").tag("outcome", "budget_exhausted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe registrar la latencia del intento cancelado")
+    void shouldRecordLatencyOfCancelledAttempt() throws Exception {
+        // Given
+        HedgingRequestExecutor executor = new HedgingRequestExecutor(meterRegistry, true, 0.95, 100, 10);
+        primeLatency(Duration.ofMillis(20));
+        Timer latency = meterRegistry.get("insurance.validation.latency").timer();
+        long samplesBefore = latency.count();
+
+        CompletableFuture<String> slowPrimary = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        executor.execute(() -> attempts.incrementAndGet() == 1
+                ? slowPrimary
+                : CompletableFuture.completedFuture("hedge")).get(2, TimeUnit.SECONDS);
+
+        // Then: ganador y perdedor cancelado cuentan en la ventana
+        assertThat(latency.count()).isEqualTo(samplesBefore + 2);
+    }
+
+    private void primeLatency(Duration latency) {
+        Timer timer = meterRegistry.get("insurance.validation.latency").timer();
+        for (int i = 0; i < 50; i++) {
+            timer.record(latency);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para RequestBudget
+ */
+@DisplayName("RequestBudget Tests")
+class RequestBudgetTest {
+
+    @Test
+    @DisplayName("Debe empezar con el saldo inicial indicado")
+    void shouldStartWithInitialBalance() {
+        // Given
+        RequestBudget empty = new RequestBudget(10, 0);
+        RequestBudget full = new RequestBudget(10, RequestBudget.MAX_TOKENS);
+
+        // When / Then
+        assertThat(empty.tryWithdraw()).isFalse();
+        for (int i = 0; i < RequestBudget.MAX_TOKENS; i++) {
+            assertThat(full.tryWithdraw()).isTrue();
+        }
+        assertThat(full.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe permitir una petición extra por cada budgetPercent % de llamadas")
+    void shouldEarnTokensFromRequests() {
+        // Given: 10 % = una ficha cada 10 llamadas
+        RequestBudget budget = new RequestBudget(10, 0);
+
+        // When
+        for (int i = 0; i < 9; i++) {
+            budget.deposit();
+        }
+
+        // Then
+        assertThat(budget.tryWithdraw()).isFalse();
+        budget.deposit();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe acotar el saldo acumulado")
+    void shouldCapBalance() {
+        // Given
+        RequestBudget budget = new RequestBudget(100, 0);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+
+        // Then
+        int withdrawn = 0;
+        while (budget.tryWithdraw()) {
+            withdrawn++;
+        }
+        assertThat(withdrawn).isEqualTo(RequestBudget.MAX_TOKENS);
+    }
+}
@@ -0,0 +1,128 @@
+package com.meditrack.authorization.infrastructure.adapters.out.external.http;
+
+import com.meditrack.authorization.domain.exceptions.ExternalServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para RetryingRequestExecutor
+ */
+@DisplayName("RetryingRequestExecutor Tests")
+class RetryingRequestExecutorTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Debe reintentar un fallo transitorio hasta obtener respuesta")
+    void shouldRetryTransientFailure() {
+        // Given
+        RetryingRequestExecutor executor = new RetryingRequestExecutor(meterRegistry, 3, 1, 2.0, 5, 20, 5000, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        CompletableFuture<String> result = executor.executeAsync(() -> attempts.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(new ExternalServiceException("HTTP 503"))
+                        : CompletableFuture.completedFuture("ok"),
+                error -> true);
+
+        // Then
+        assertThat(result.orTimeout(2, TimeUnit.SECONDS).join()).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(retryCount("retried")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("No debe reintentar errores no transitorios")
+    void shouldNotRetryPermanentFailure() {
+        // Given
+        RetryingRequestExecutor executor = new RetryingRequestExecutor(meterRegistry, 3, 1, 2.0, 5, 20, 5000, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ExternalServiceException("HTTP 400");
+        }, error -> false)).isInstanceOf(ExternalServiceException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe dejar de reintentar cuando se agota el presupuesto")
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        // Given: sin aporte por llamada, solo queda el saldo inicial (10 reintentos)
+        RetryingRequestExecutor executor = new RetryingRequestExecutor(meterRegistry, 2, 0, 2.0, 0, 0, 5000, 100);
+
+        // When
+        for (int i = 0; i < 15; i++) {
+            assertThatThrownBy(() -> executor.execute(() -> {
+                throw new ExternalServiceException("HTTP 503");
+            }, error -> true)).isInstanceOf(ExternalServiceException.class);
+        }
+
+        // Then
+        assertThat(retryCount("retried")).isEqualTo(10.0);
+        assertThat(retryCount("budget_exhausted")).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("No debe lanzar otro intento si no cabe entero dentro del plazo total")
+    void shouldNotRetryBeyondDeadline() {
+        // Given: plazo de 150 ms e intentos de hasta 100 ms
+        RetryingRequestExecutor executor = new RetryingRequestExecutor(meterRegistry, 3, 1, 2.0, 5, 100, 150, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When: el primer intento falla tras 80 ms
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(80);
+            throw new ExternalServiceException("HTTP 503");
+        }, error -> true)).isInstanceOf(ExternalServiceException.class);
+
+        // Then
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(retryCount("deadline_exceeded")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("La llamada asíncrona debe fallar por timeout al vencer el plazo total")
+    void shouldTimeOutAsyncCallAtDeadline() {
+        // Given
+        RetryingRequestExecutor executor = new RetryingRequestExecutor(meterRegistry, 3, 1, 2.0, 5, 100, 50, 10);
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+
+        // When: el intento nunca responde
+        CompletableFuture<String> result = executor.executeAsync(() -> attempt, error -> true);
+
+        // Then
+        assertThatThrownBy(() -> result.orTimeout(2, TimeUnit.SECONDS).join())
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(attempt).isCancelled();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double retryCount(String outcome) {
+        return meterRegistry.get("insurance.validation.retry").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,145 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence;
+
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.MedicalAuthorizationRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.MedicalAuthorizationEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.PatientEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.MedicalAuthorizationJpaRepository;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.PatientJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test de integración: revisores que toman autorizaciones pendientes a la vez
+ *
+ * Sin transacción envolvente del test, para que cada toma sea una transacción real
+ * con su SELECT ... FOR UPDATE SKIP LOCKED
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Tomas concurrentes para revisión Integration Tests")
+class ConcurrentClaimIntegrationTest {
+
+    private static final int REVIEWERS = 6;
+    private static final int CLAIM_SIZE = 3;
+    private static final int PENDING = 12;
+
+    @Autowired
+    private MedicalAuthorizationJpaRepository jpaRepository;
+
+    @Autowired
+    private PatientJpaRepository patientJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MedicalAuthorizationRepositoryAdapter adapter;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new MedicalAuthorizationRepositoryAdapter(jpaRepository, new SimpleMeterRegistry());
+        transaction = new TransactionTemplate(transactionManager);
+
+        UUID patientId = patientJpaRepository.save(createPatientEntity()).getId();
+        for (int i = 0; i < PENDING; i++) {
+            jpaRepository.save(MedicalAuthorizationEntity.fromDomain(new MedicalAuthorization(
+                    UUID.randomUUID(),
+                    patientId,
+                    ServiceType.CONSULTA,
+                    "Solicitud de prueba",
+                    LocalDateTime.of(2025, 3, 1, 10, 0).plusMinutes(i),
+                    AuthorizationStatus.PENDIENTE,
+                    UUID.randomUUID(),
+                    false
+            )));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAllInBatch();
+        patientJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Ninguna autorización debe quedar tomada por dos revisores")
+    void shouldNeverHandTheSameAuthorizationToTwoReviewers() throws Exception {
+        // Given
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(REVIEWERS);
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plusMinutes(15);
+
+        // When
+        List<Future<List<MedicalAuthorization>>> claims = new ArrayList<>();
+        try {
+            for (int i = 0; i < REVIEWERS; i++) {
+                String reviewer = "medico-" + i;
+                claims.add(executor.submit(() -> {
+                    start.await();
+                    return transaction.execute(status ->
+                            adapter.claimPendingForReview(reviewer, leaseExpiresAt, CLAIM_SIZE));
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        List<UUID> claimedIds = new ArrayList<>();
+        for (Future<List<MedicalAuthorization>> claim : claims) {
+            claim.get().forEach(authorization -> claimedIds.add(authorization.getId()));
+        }
+
+        // Then: sin duplicados, y la base de datos coincide con lo entregado a cada revisor
+        assertThat(claimedIds).doesNotHaveDuplicates();
+        assertThat(adapter.countByStatus(AuthorizationStatus.EN_REVISION)).isEqualTo(claimedIds.size());
+        assertThat(adapter.countByStatus(AuthorizationStatus.PENDIENTE) + claimedIds.size()).isEqualTo(PENDING);
+    }
+
+    private PatientEntity createPatientEntity() {
+        PatientEntity entity = new PatientEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setDocumentNumber("1000111222");
+        entity.setFirstName("Carlos");
+        entity.setLastName("Ramírez");
+        entity.setEmail("carlos@example.com");
+        entity.setPhone("3001234567");
+        entity.setAffiliationType(AffiliationType.CONTRIBUTIVO);
+        entity.setAffiliationStatus(AffiliationStatus.ACTIVE);
+        entity.setAffiliationDate(LocalDate.of(2024, 1, 15));
+        entity.setDeleted(false);
+        return entity;
+    }
+}
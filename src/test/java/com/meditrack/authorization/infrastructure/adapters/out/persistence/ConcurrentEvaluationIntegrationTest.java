@@ -0,0 +1,201 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence;
+
+import com.meditrack.authorization.application.services.EvaluateMedicalAuthorizationService;
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.BusinessRuleException;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.domain.ports.in.command.EvaluateMedicalAuthorizationCommand;
+import com.meditrack.authorization.domain.ports.out.InsuranceValidationServicePort;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.CoverageEvaluationRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.MedicalAuthorizationRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.PatientRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.MedicalAuthorizationEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.PatientEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.CoverageEvaluationJpaRepository;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.MedicalAuthorizationJpaRepository;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.PatientJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test de integración: evaluaciones simultáneas de la misma autorización
+ *
+ * Sin transacción envolvente del test, para que cada evaluación confirme o revierta
+ * de verdad y la restricción UNIQUE de authorization_id decida la ganadora
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Evaluaciones concurrentes Integration Tests")
+class ConcurrentEvaluationIntegrationTest {
+
+    private static final int CONCURRENT_EVALUATIONS = 8;
+
+    @Autowired
+    private MedicalAuthorizationJpaRepository authorizationJpaRepository;
+
+    @Autowired
+    private CoverageEvaluationJpaRepository evaluationJpaRepository;
+
+    @Autowired
+    private PatientJpaRepository patientJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EvaluateMedicalAuthorizationService service;
+    private UUID authorizationId;
+
+    @BeforeEach
+    void setUp() {
+        service = new EvaluateMedicalAuthorizationService(
+                new MedicalAuthorizationRepositoryAdapter(authorizationJpaRepository, new SimpleMeterRegistry()),
+                new CoverageEvaluationRepositoryAdapter(evaluationJpaRepository),
+                new PatientRepositoryAdapter(patientJpaRepository),
+                new ApprovingInsuranceService(),
+                transactionManager,
+                Runnable::run
+        );
+
+        UUID patientId = patientJpaRepository.save(createPatientEntity()).getId();
+        MedicalAuthorization authorization = new MedicalAuthorization(
+                UUID.randomUUID(),
+                patientId,
+                ServiceType.CONSULTA,
+                "Consulta de control por hipertensión arterial",
+                LocalDateTime.of(2025, 3, 1, 10, 0),
+                AuthorizationStatus.PENDIENTE,
+                UUID.randomUUID(),
+                false
+        );
+        authorizationId = authorizationJpaRepository.save(MedicalAuthorizationEntity.fromDomain(authorization)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluationJpaRepository.deleteAllInBatch();
+        authorizationJpaRepository.deleteAllInBatch();
+        patientJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Debe registrar una sola evaluación y rechazar las demás como ya evaluadas")
+    void shouldPersistExactlyOneEvaluation() throws Exception {
+        // Given
+        EvaluateMedicalAuthorizationCommand command =
+                new EvaluateMedicalAuthorizationCommand(authorizationId, new BigDecimal("100000"));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_EVALUATIONS);
+
+        // When
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_EVALUATIONS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return service.execute(command);
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        int succeeded = 0;
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> result : results) {
+            try {
+                result.get();
+                succeeded++;
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+
+        // Then
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(failures)
+                .hasSize(CONCURRENT_EVALUATIONS - 1)
+                .allSatisfy(failure -> assertThat(failure)
+                        .isInstanceOf(BusinessRuleException.class)
+                        .hasMessageContaining("ya ha sido evaluada"));
+        assertThat(evaluationJpaRepository.count()).isEqualTo(1);
+        assertThat(authorizationJpaRepository.findById(authorizationId))
+                .get()
+                .extracting(MedicalAuthorizationEntity::getStatus)
+                .isEqualTo(AuthorizationStatus.APROBADA);
+    }
+
+    private PatientEntity createPatientEntity() {
+        PatientEntity entity = new PatientEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setDocumentNumber("1000111222");
+        entity.setFirstName("Carlos");
+        entity.setLastName("Ramírez");
+        entity.setEmail("carlos@example.com");
+        entity.setPhone("3001234567");
+        entity.setAffiliationType(AffiliationType.CONTRIBUTIVO);
+        entity.setAffiliationStatus(AffiliationStatus.ACTIVE);
+        entity.setAffiliationDate(LocalDate.of(2024, 1, 15));
+        entity.setDeleted(false);
+        return entity;
+    }
+
+    /**
+     * Seguro que aprueba siempre, sin red
+     */
+    private static final class ApprovingInsuranceService implements InsuranceValidationServicePort {
+
+        @Override
+        public InsuranceValidationResult validateCoverage(
+                String patientDocumentNumber,
+                AffiliationType affiliationType,
+                ServiceType serviceType,
+                BigDecimal estimatedCost) {
+            return new InsuranceValidationResult(
+                    true, 80, new BigDecimal("20000"), new BigDecimal("80000"), "AUTH-1", "Aprobado"
+            );
+        }
+
+        @Override
+        public CompletableFuture<InsuranceValidationResult> validateCoverageAsync(
+                String patientDocumentNumber,
+                AffiliationType affiliationType,
+                ServiceType serviceType,
+                BigDecimal estimatedCost) {
+            return CompletableFuture.completedFuture(
+                    validateCoverage(patientDocumentNumber, affiliationType, serviceType, estimatedCost));
+        }
+    }
+}
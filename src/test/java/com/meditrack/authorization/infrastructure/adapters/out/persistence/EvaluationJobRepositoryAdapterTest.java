@@ -0,0 +1,125 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence;
+
+import com.meditrack.authorization.domain.enums.EvaluationJobStatus;
+import com.meditrack.authorization.domain.models.EvaluationJob;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.EvaluationJobRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.EvaluationJobJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para EvaluationJobRepositoryAdapter
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("EvaluationJobRepositoryAdapter Integration Tests")
+class EvaluationJobRepositoryAdapterTest {
+
+    private static final String NODE_A = "node-a";
+    private static final String NODE_B = "node-b";
+
+    @Autowired
+    private EvaluationJobJpaRepository jpaRepository;
+
+    private EvaluationJobRepositoryAdapter adapter;
+    private EvaluationJob job;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new EvaluationJobRepositoryAdapter(jpaRepository);
+        job = adapter.save(new EvaluationJob(UUID.randomUUID(), new BigDecimal("100000"), UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Al reiniciar, un nodo solo reencola sus trabajos o los de reserva vencida")
+    void shouldRequeueOnlyOwnOrExpiredJobs() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(adapter.markInProgressIfQueued(job.getId(), NODE_A, now.plusMinutes(5))).isTrue();
+
+        // When / Then: otro nodo vivo no toca el trabajo de NODE_A
+        assertThat(adapter.requeueInProgress(NODE_B, now)).isZero();
+        assertThat(adapter.requeueExpired(now)).isZero();
+        assertThat(adapter.findById(job.getId())).get()
+                .extracting(EvaluationJob::getStatus, EvaluationJob::getClaimedBy)
+                .containsExactly(EvaluationJobStatus.EN_PROCESO, NODE_A);
+
+        // When / Then: vencida la reserva, cualquier nodo lo reencola
+        assertThat(adapter.requeueExpired(now.plusMinutes(6))).isEqualTo(1);
+        assertThat(adapter.findById(job.getId())).get()
+                .extracting(EvaluationJob::getStatus, EvaluationJob::getClaimedBy)
+                .containsExactly(EvaluationJobStatus.EN_COLA, null);
+    }
+
+    @Test
+    @DisplayName("No debe registrar el resultado si la reserva pasó a otro nodo")
+    void shouldDiscardResultOfStaleClaim() {
+        // Given: NODE_A lo toma, su reserva vence y NODE_B lo vuelve a tomar
+        LocalDateTime now = LocalDateTime.now();
+        adapter.markInProgressIfQueued(job.getId(), NODE_A, now.minusSeconds(1));
+        EvaluationJob staleJob = adapter.findById(job.getId()).orElseThrow();
+        adapter.requeueExpired(now);
+        adapter.markInProgressIfQueued(job.getId(), NODE_B, now.plusMinutes(5));
+
+        // When
+        staleJob.fail("Esta autorización ya ha sido evaluada");
+
+        // Then
+        assertThat(adapter.saveResultIfClaimedBy(staleJob, NODE_A)).isFalse();
+        assertThat(adapter.findById(job.getId())).get()
+                .extracting(EvaluationJob::getStatus, EvaluationJob::getClaimedBy)
+                .containsExactly(EvaluationJobStatus.EN_PROCESO, NODE_B);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Debe tomar y registrar el resultado sin transacción envolvente (como el worker)")
+    void shouldClaimAndFinishWithoutSurroundingTransaction() {
+        try {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            assertThat(adapter.markInProgressIfQueued(job.getId(), NODE_A, now.plusMinutes(5))).isTrue();
+            EvaluationJob claimed = adapter.findById(job.getId()).orElseThrow();
+
+            // When
+            claimed.complete(UUID.randomUUID());
+
+            // Then
+            assertThat(adapter.saveResultIfClaimedBy(claimed, NODE_A)).isTrue();
+            assertThat(adapter.findById(job.getId())).get()
+                    .extracting(EvaluationJob::getStatus)
+                    .isEqualTo(EvaluationJobStatus.COMPLETADO);
+        } finally {
+            jpaRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    @DisplayName("No debe volver a tomar un trabajo diferido antes de su not_before")
+    void shouldSkipDeferredJobsUntilNotBefore() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        adapter.markInProgressIfQueued(job.getId(), NODE_A, now.plusMinutes(5));
+        EvaluationJob claimed = adapter.findById(job.getId()).orElseThrow();
+        claimed.requeue("Servicio de seguros no disponible", now.plusSeconds(30));
+        assertThat(adapter.saveResultIfClaimedBy(claimed, NODE_A)).isTrue();
+
+        // When / Then
+        assertThat(adapter.findQueuedIds(now, 10)).doesNotContain(job.getId());
+        assertThat(adapter.findQueuedIds(now.plusSeconds(31), 10)).containsExactly(job.getId());
+    }
+}
@@ -0,0 +1,246 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence;
+
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.enums.AuthorizationStatus;
+import com.meditrack.authorization.domain.enums.ServiceType;
+import com.meditrack.authorization.domain.exceptions.ConcurrentUpdateException;
+import com.meditrack.authorization.domain.models.MedicalAuthorization;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.MedicalAuthorizationRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.MedicalAuthorizationEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.PatientEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.MedicalAuthorizationJpaRepository;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.PatientJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests de integración para MedicalAuthorizationRepositoryAdapter
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("MedicalAuthorizationRepositoryAdapter Integration Tests")
+class MedicalAuthorizationRepositoryAdapterTest {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired
+    private MedicalAuthorizationJpaRepository jpaRepository;
+
+    @Autowired
+    private PatientJpaRepository patientJpaRepository;
+
+    private MedicalAuthorizationRepositoryAdapter adapter;
+    private SimpleMeterRegistry meterRegistry;
+    private UUID patientId;
+    private UUID otherPatientId;
+    private UUID doctorId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new MedicalAuthorizationRepositoryAdapter(jpaRepository, meterRegistry);
+        patientId = patientJpaRepository.save(createPatientEntity("1000111222")).getId();
+        otherPatientId = patientJpaRepository.save(createPatientEntity("1000333444")).getId();
+        doctorId = UUID.randomUUID();
+
+        save(patientId, ServiceType.CONSULTA, AuthorizationStatus.PENDIENTE, 0, false);
+        save(patientId, ServiceType.CIRUGIA, AuthorizationStatus.APROBADA, 1, false);
+        save(patientId, ServiceType.CONSULTA, AuthorizationStatus.PENDIENTE, 2, true);
+        save(otherPatientId, ServiceType.PROCEDIMIENTO, AuthorizationStatus.PENDIENTE, 3, false);
+    }
+
+    @Test
+    @DisplayName("Debe listar por paciente, estado y tipo de servicio excluyendo las eliminadas")
+    void shouldFindNotDeleted() {
+        // When / Then
+        assertThat(adapter.findByPatientIdAndNotDeleted(patientId)).hasSize(2);
+        assertThat(adapter.findPendingByPatientId(patientId)).hasSize(1);
+        assertThat(adapter.findByPatientIdAndStatusAndNotDeleted(patientId, AuthorizationStatus.APROBADA))
+                .extracting(MedicalAuthorization::getServiceType)
+                .containsExactly(ServiceType.CIRUGIA);
+        assertThat(adapter.findByStatusAndNotDeleted(AuthorizationStatus.PENDIENTE)).hasSize(2);
+        assertThat(adapter.findByServiceTypeAndNotDeleted(ServiceType.CONSULTA)).hasSize(1);
+        assertThat(adapter.findAllActive()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Debe contar con COUNT por paciente y por estado excluyendo las eliminadas")
+    void shouldCount() {
+        // When / Then
+        assertThat(adapter.countActiveByPatientId(patientId)).isEqualTo(2);
+        assertThat(adapter.countActiveByPatientId(otherPatientId)).isEqualTo(1);
+        assertThat(adapter.countByStatus(AuthorizationStatus.PENDIENTE)).isEqualTo(2);
+        assertThat(adapter.countByStatus(AuthorizationStatus.RECHAZADA)).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe listar por rango de fechas y por solicitante de la más reciente a la más antigua")
+    void shouldFindByDateRangeAndRequestedBy() {
+        // When
+        List<MedicalAuthorization> inRange = adapter.findByDateRange(BASE_DATE, BASE_DATE.plusDays(1));
+        List<MedicalAuthorization> byDoctor = adapter.findByRequestedBy(doctorId);
+
+        // Then
+        assertThat(inRange).extracting(MedicalAuthorization::getRequestDate)
+                .containsExactly(BASE_DATE.plusDays(1), BASE_DATE);
+        assertThat(byDoctor).extracting(MedicalAuthorization::getRequestDate)
+                .containsExactly(BASE_DATE.plusDays(3), BASE_DATE.plusDays(1), BASE_DATE);
+    }
+
+    @Test
+    @DisplayName("Debe paginar por keyset en orden (requestDate, id) sin repetir ni saltar filas")
+    void shouldPageByKeyset() {
+        // Given: dos pendientes más con la misma fecha, el desempate es el id
+        save(otherPatientId, ServiceType.CONSULTA, AuthorizationStatus.PENDIENTE, 5, false);
+        save(otherPatientId, ServiceType.CONSULTA, AuthorizationStatus.PENDIENTE, 5, false);
+
+        // When
+        List<MedicalAuthorization> first = adapter.findByStatusAfter(AuthorizationStatus.PENDIENTE, null, null, 2);
+        MedicalAuthorization last = first.get(first.size() - 1);
+        List<MedicalAuthorization> second = adapter.findByStatusAfter(
+                AuthorizationStatus.PENDIENTE, last.getRequestDate(), last.getId(), 2);
+        MedicalAuthorization secondLast = second.get(second.size() - 1);
+        List<MedicalAuthorization> third = adapter.findByStatusAfter(
+                AuthorizationStatus.PENDIENTE, secondLast.getRequestDate(), secondLast.getId(), 2);
+
+        // Then
+        assertThat(first).extracting(MedicalAuthorization::getRequestDate)
+                .containsExactly(BASE_DATE, BASE_DATE.plusDays(3));
+        assertThat(second).extracting(MedicalAuthorization::getRequestDate)
+                .containsExactly(BASE_DATE.plusDays(5), BASE_DATE.plusDays(5));
+        assertThat(second.get(0).getId()).isNotEqualTo(second.get(1).getId());
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe tomar las pendientes más antiguas con reserva y liberar las reservas vencidas")
+    void shouldClaimPendingAndReleaseExpiredLeases() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+
+        // When: dos revisores toman de a una
+        List<MedicalAuthorization> first = adapter.claimPendingForReview("medico-1", now.minusMinutes(1), 1);
+        List<MedicalAuthorization> second = adapter.claimPendingForReview("medico-2", now.plusMinutes(15), 5);
+        List<MedicalAuthorization> none = adapter.claimPendingForReview("medico-3", now.plusMinutes(15), 5);
+
+        // Then: cada uno recibe autorizaciones distintas, de la más antigua a la más reciente
+        assertThat(first).extracting(MedicalAuthorization::getRequestDate).containsExactly(BASE_DATE);
+        assertThat(first.get(0).getStatus()).isEqualTo(AuthorizationStatus.EN_REVISION);
+        assertThat(first.get(0).getLeaseOwner()).isEqualTo("medico-1");
+        assertThat(second).extracting(MedicalAuthorization::getRequestDate).containsExactly(BASE_DATE.plusDays(3));
+        assertThat(none).isEmpty();
+
+        // When: la reserva del primero ya venció
+        int released = adapter.releaseExpiredLeases(now);
+
+        // Then
+        assertThat(released).isEqualTo(1);
+        MedicalAuthorization reclaimed = adapter.findById(first.get(0).getId()).orElseThrow();
+        assertThat(reclaimed.getStatus()).isEqualTo(AuthorizationStatus.PENDIENTE);
+        assertThat(reclaimed.getLeaseOwner()).isNull();
+        assertThat(adapter.findById(second.get(0).getId()).orElseThrow().getStatus())
+                .isEqualTo(AuthorizationStatus.EN_REVISION);
+    }
+
+    @Test
+    @DisplayName("No debe devolver a PENDIENTE una autorización eliminada con la reserva vencida")
+    void shouldNotReleaseExpiredLeaseOfDeletedAuthorization() {
+        // Given: reserva ya vencida y la autorización eliminada después
+        LocalDateTime now = LocalDateTime.now();
+        UUID id = adapter.claimPendingForReview("medico-1", now.minusMinutes(1), 1).get(0).getId();
+        MedicalAuthorizationEntity entity = jpaRepository.findById(id).orElseThrow();
+        entity.setDeleted(true);
+        jpaRepository.saveAndFlush(entity);
+        Long version = jpaRepository.findById(id).orElseThrow().getVersion();
+
+        // When
+        int released = adapter.releaseExpiredLeases(now);
+
+        // Then
+        assertThat(released).isZero();
+        MedicalAuthorizationEntity untouched = jpaRepository.findById(id).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(AuthorizationStatus.EN_REVISION);
+        assertThat(untouched.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el guardado de una copia con versión obsoleta y contar el conflicto")
+    void shouldRejectStaleSave() {
+        // Given: dos lecturas de la misma autorización
+        UUID id = adapter.findPendingByPatientId(otherPatientId).get(0).getId();
+        MedicalAuthorization first = adapter.findById(id).orElseThrow();
+        MedicalAuthorization stale = adapter.findById(id).orElseThrow();
+
+        // When: la primera se guarda y la segunda intenta sobrescribirla
+        first.approve();
+        MedicalAuthorization saved = adapter.save(first);
+        stale.reject();
+
+        // Then
+        assertThat(saved.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThatThrownBy(() -> adapter.save(stale)).isInstanceOf(ConcurrentUpdateException.class);
+        assertThat(meterRegistry.get("authorizations.optimistic.conflicts")
+                .tag("operation", "save").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe eliminar una autorización por ID")
+    void shouldDeleteById() {
+        // Given
+        UUID id = adapter.findPendingByPatientId(otherPatientId).get(0).getId();
+
+        // When
+        adapter.deleteById(id);
+
+        // Then
+        assertThat(jpaRepository.findById(id)).isEmpty();
+        assertThat(adapter.countActiveByPatientId(otherPatientId)).isZero();
+    }
+
+    // ========== Métodos auxiliares ==========
+
+    private void save(UUID patient, ServiceType serviceType, AuthorizationStatus status, int dayOffset, boolean deleted) {
+        MedicalAuthorization authorization = new MedicalAuthorization(
+                UUID.randomUUID(),
+                patient,
+                serviceType,
+                "Solicitud de prueba",
+                BASE_DATE.plusDays(dayOffset),
+                status,
+                doctorId,
+                deleted
+        );
+        jpaRepository.save(MedicalAuthorizationEntity.fromDomain(authorization));
+    }
+
+    private PatientEntity createPatientEntity(String documentNumber) {
+        PatientEntity entity = new PatientEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setDocumentNumber(documentNumber);
+        entity.setFirstName("Carlos");
+        entity.setLastName("Ramírez");
+        entity.setEmail(documentNumber + "@example.com");
+        entity.setPhone("3001234567");
+        entity.setAffiliationType(AffiliationType.CONTRIBUTIVO);
+        entity.setAffiliationStatus(AffiliationStatus.ACTIVE);
+        entity.setAffiliationDate(LocalDate.of(2024, 1, 15));
+        entity.setDeleted(false);
+        return entity;
+    }
+}
@@ -3,6 +3,10 @@ package com.meditrack.authorization.infrastructure.adapters.out.persistence;
 import com.meditrack.authorization.domain.enums.AffiliationType;
 import com.meditrack.authorization.domain.enums.AffiliationStatus;
 import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.models.PatientSummary;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummaryFilter;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummarySlice;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort.SummarySort;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.PatientRepositoryAdapter;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.PatientEntity;
 import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.PatientJpaRepository;
@@ -138,6 +142,51 @@ class PatientRepositoryAdapterTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("Debe paginar el listado ordenado y filtrado sin incluir eliminados")
+    void shouldPageSummariesWithFiltersAndSort() {
+        // Given
+        jpaRepository.save(createPatientEntity("1000000001", "Ana", "Castro", "ana@example.com", "3001", false));
+        jpaRepository.save(createPatientEntity("1000000002", "Luis", "Alvarez", "luis@example.com", "3002", false));
+        jpaRepository.save(createPatientEntity("1000000003", "Eva", "Bernal", "eva@example.com", "3003", false));
+        jpaRepository.save(createPatientEntity("2000000004", "Juan", "Duarte", "juan@example.com", "3004", false));
+        jpaRepository.save(createPatientEntity("1000000005", "Rosa", "Arango", "rosa@example.com", "3005", true));
+        PatientEntity inactive = createPatientEntity("1000000006", "Pedro", "Beltran", "pedro@example.com", "3006", false);
+        inactive.setAffiliationStatus(AffiliationStatus.INACTIVE);
+        jpaRepository.save(inactive);
+
+        SummaryFilter byPrefix = new SummaryFilter(AffiliationStatus.ACTIVE, null, "1000");
+
+        // When
+        SummarySlice first = adapter.findSummaries(byPrefix, SummarySort.LAST_NAME, true, 0, 2);
+        SummarySlice second = adapter.findSummaries(byPrefix, SummarySort.LAST_NAME, true, 1, 2);
+        SummarySlice byDocumentDesc = adapter.findSummaries(
+                new SummaryFilter(null, null, null), SummarySort.DOCUMENT_NUMBER, false, 0, 10);
+
+        // Then
+        assertThat(first.getItems()).extracting(PatientSummary::getLastName).containsExactly("Alvarez", "Bernal");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getItems()).extracting(PatientSummary::getLastName).containsExactly("Castro");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(byDocumentDesc.getItems()).extracting(PatientSummary::getDocumentNumber)
+                .containsExactly("2000000004", "1000000006", "1000000003", "1000000002", "1000000001");
+    }
+
+    @Test
+    @DisplayName("Debe contar los pacientes del filtro sin incluir eliminados")
+    void shouldCountSummaries() {
+        // Given
+        jpaRepository.save(createPatientEntity("1000000001", "Ana", "Castro", "ana@example.com", "3001", false));
+        jpaRepository.save(createPatientEntity("1000000002", "Luis", "Alvarez", "luis@example.com", "3002", false));
+        jpaRepository.save(createPatientEntity("2000000003", "Eva", "Bernal", "eva@example.com", "3003", false));
+        jpaRepository.save(createPatientEntity("1000000004", "Rosa", "Arango", "rosa@example.com", "3004", true));
+
+        // When / Then
+        assertThat(adapter.countSummaries(new SummaryFilter(null, null, null))).isEqualTo(3);
+        assertThat(adapter.countSummaries(new SummaryFilter(null, AffiliationType.CONTRIBUTIVO, "1000"))).isEqualTo(2);
+        assertThat(adapter.countSummaries(new SummaryFilter(AffiliationStatus.INACTIVE, null, null))).isZero();
+    }
+
     // ========== Métodos auxiliares ==========
 
     /**
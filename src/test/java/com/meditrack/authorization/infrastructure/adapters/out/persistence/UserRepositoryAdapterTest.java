@@ -0,0 +1,75 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence;
+
+import com.meditrack.authorization.domain.enums.UserRole;
+import com.meditrack.authorization.domain.models.User;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.adapter.UserRepositoryAdapter;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para UserRepositoryAdapter
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("UserRepositoryAdapter Integration Tests")
+class UserRepositoryAdapterTest {
+
+    private static final String LEGACY_HASH = "$2a$10$legacyhash";
+    private static final String NEW_HASH = "{bcrypt}$2a$12$newhash";
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    private UserRepositoryAdapter adapter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserRepositoryAdapter(jpaRepository);
+        user = adapter.save(new User(UUID.randomUUID(), "medico", "medico@test.com", LEGACY_HASH,
+                UserRole.ROLE_MEDICO, null, true));
+    }
+
+    @Test
+    @DisplayName("Debe cambiar solo el hash si sigue siendo el esperado")
+    void shouldUpdateOnlyPasswordHash() {
+        // When
+        boolean updated = adapter.updatePasswordHash(user.getId(), LEGACY_HASH, NEW_HASH);
+
+        // Then
+        assertThat(updated).isTrue();
+        assertThat(adapter.findById(user.getId())).get()
+                .extracting(User::getPassword, User::isActive)
+                .containsExactly(NEW_HASH, true);
+        assertThat(adapter.updatePasswordHash(user.getId(), LEGACY_HASH, "{bcrypt}otro")).isFalse();
+    }
+
+    @Test
+    @DisplayName("No debe reactivar a un usuario desactivado durante el login")
+    void shouldNotReactivateDeactivatedUser() {
+        // Given: el login leyó el usuario activo y otra operación lo desactiva
+        User deactivated = adapter.findById(user.getId()).orElseThrow();
+        deactivated.deactivate();
+        adapter.save(deactivated);
+
+        // When
+        boolean updated = adapter.updatePasswordHash(user.getId(), LEGACY_HASH, NEW_HASH);
+
+        // Then
+        assertThat(updated).isFalse();
+        assertThat(adapter.findById(user.getId())).get()
+                .extracting(User::getPassword, User::isActive)
+                .containsExactly(LEGACY_HASH, false);
+    }
+}
@@ -0,0 +1,94 @@
+package com.meditrack.authorization.infrastructure.adapters.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meditrack.authorization.domain.enums.AffiliationStatus;
+import com.meditrack.authorization.domain.enums.AffiliationType;
+import com.meditrack.authorization.domain.models.Patient;
+import com.meditrack.authorization.domain.ports.out.PatientRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para CachingPatientRepositoryDecorator
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingPatientRepositoryDecorator Tests")
+class CachingPatientRepositoryDecoratorTest {
+
+    @Mock
+    private PatientRepositoryPort delegate;
+
+    @Mock
+    private NearCacheInvalidator invalidator;
+
+    private Cache<UUID, Patient> cache;
+    private CachingPatientRepositoryDecorator decorator;
+    private Patient patient;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().build();
+        decorator = new CachingPatientRepositoryDecorator(delegate, cache, Caffeine.newBuilder().build(), invalidator);
+        patient = new Patient(UUID.randomUUID(), "1234567890", "Juan", "Pérez", "juan@test.com", "3001234567",
+                AffiliationStatus.ACTIVE, AffiliationType.CONTRIBUTIVO, LocalDate.of(2020, 1, 1), false);
+    }
+
+    @Test
+    @DisplayName("Debe leer del repositorio una sola vez y entregar copias independientes")
+    void shouldCacheByIdAndReturnCopies() {
+        // Given
+        when(delegate.findById(patient.getId())).thenReturn(Optional.of(patient));
+
+        // When
+        Patient first = decorator.findById(patient.getId()).orElseThrow();
+        first.suspend();
+        Patient second = decorator.findByIdAndNotDeleted(patient.getId()).orElseThrow();
+
+        // Then
+        verify(delegate, times(1)).findById(patient.getId());
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getAffiliationStatus()).isEqualTo(AffiliationStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Debe invalidar y publicar la entrada al guardar")
+    void shouldInvalidateOnSave() {
+        // Given
+        when(delegate.save(any(Patient.class))).thenReturn(patient);
+
+        // When
+        decorator.save(patient);
+
+        // Then
+        verify(invalidator).invalidate(CachingPatientRepositoryDecorator.CACHE_NAME, patient.getId());
+    }
+
+    @Test
+    @DisplayName("No debe guardar en caché un paciente inexistente")
+    void shouldNotCacheMisses() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        // When
+        decorator.findById(id);
+        decorator.findById(id);
+
+        // Then
+        verify(delegate, times(2)).findById(id);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+}
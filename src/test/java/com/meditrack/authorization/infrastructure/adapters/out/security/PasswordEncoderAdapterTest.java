@@ -0,0 +1,84 @@
+package com.meditrack.authorization.infrastructure.adapters.out.security;
+
+import com.meditrack.authorization.domain.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para PasswordEncoderAdapter
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordEncoderAdapter Tests")
+class PasswordEncoderAdapterTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordEncoderAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe verificar la contraseña en el pool de hashing")
+    void shouldMatchOnHashingPool() {
+        // Given
+        adapter = new PasswordEncoderAdapter(passwordEncoder, meterRegistry, 1, 1, 1000);
+        when(passwordEncoder.matches("secreto", "$2a$hash")).thenAnswer(invocation ->
+                Thread.currentThread().getName().startsWith("password-hashing-"));
+
+        // When
+        boolean matches = adapter.matches("secreto", "$2a$hash");
+
+        // Then
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 de inmediato cuando el pool y la cola están llenos")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Given: un hilo ocupado y la única posición de la cola tomada
+        adapter = new PasswordEncoderAdapter(passwordEncoder, meterRegistry, 1, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "$2a$hash";
+        });
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> adapter.encode("uno"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> adapter.encode("dos"));
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.encode("tres"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("operation", "encode").counter().count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("$2a$hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("$2a$hash");
+    }
+}
@@ -0,0 +1,75 @@
+package com.meditrack.authorization.infrastructure.security;
+
+import com.meditrack.authorization.domain.enums.UserRole;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para JwtService (verificación y caché de tokens verificados)
+ */
+@DisplayName("JwtService Tests")
+class JwtServiceTest {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437486B";
+
+    private MeterRegistry meterRegistry;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, 3_600_000, true, 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Debe servir desde la caché un token repetido")
+    void shouldServeRepeatedTokenFromCache() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID patientId = UUID.randomUUID();
+        String token = jwtService.generateToken(userId, "paciente", UserRole.ROLE_PACIENTE, patientId);
+
+        // When
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getUserId()).isEqualTo(userId);
+        assertThat(second.getRole()).isEqualTo(UserRole.ROLE_PACIENTE);
+        assertThat(second.getPatientId()).isEqualTo(patientId);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token alterado aunque el original esté en caché")
+    void shouldRejectTamperedToken() {
+        // Given
+        String token = jwtService.generateToken(UUID.randomUUID(), "medico", UserRole.ROLE_MEDICO, null);
+        jwtService.verify(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When / Then
+        assertThatThrownBy(() -> jwtService.verify(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token expirado")
+    void shouldRejectExpiredToken() {
+        // Given
+        JwtService expiringService = new JwtService(SECRET, -1_000, true, 100, meterRegistry);
+        String token = expiringService.generateToken(UUID.randomUUID(), "medico", UserRole.ROLE_MEDICO, null);
+
+        // When / Then
+        assertThatThrownBy(() -> expiringService.verify(token)).isInstanceOf(JwtException.class);
+    }
+}
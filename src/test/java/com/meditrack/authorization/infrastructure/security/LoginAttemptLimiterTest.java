@@ -0,0 +1,93 @@
+package com.meditrack.authorization.infrastructure.security;
+
+import com.meditrack.authorization.domain.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitarios para LoginAttemptLimiter
+ */
+@DisplayName("LoginAttemptLimiter Tests")
+class LoginAttemptLimiterTest {
+
+    private static final long WINDOW = 60_000;
+
+    private final AtomicLong now = new AtomicLong(10 * WINDOW);
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginAttemptLimiter(new SimpleMeterRegistry(), true, WINDOW, 3, 5, 1000, now::get);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 429 al superar el límite por username sin importar mayúsculas")
+    void shouldThrottleByUsername() {
+        // Given
+        limiter.checkAndRecord("maria", "10.0.0.1");
+        limiter.checkAndRecord("MARIA", "10.0.0.2");
+        limiter.checkAndRecord(" maria ", "10.0.0.3");
+
+        // When / Then
+        assertThatThrownBy(() -> limiter.checkAndRecord("maria", "10.0.0.4"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(ex -> assertThat(((TooManyRequestsException) ex).getRetryAfterSeconds()).isPositive());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 429 al superar el límite por IP con usernames distintos")
+    void shouldThrottleByIp() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.checkAndRecord("user" + i, "10.0.0.1");
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> limiter.checkAndRecord("otro", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.checkAndRecord("otro", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Debe ponderar la ventana anterior y liberar intentos a medida que deja de solaparse")
+    void shouldSlideWindow() {
+        // Given: la ventana se llena justo antes de terminar
+        now.addAndGet(WINDOW - 1);
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAndRecord("maria", null);
+        }
+        assertThatThrownBy(() -> limiter.checkAndRecord("maria", null))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // When: al inicio de la siguiente ventana la anterior aún pesa ~2.95 y solo cabe un intento
+        now.addAndGet(1000);
+        limiter.checkAndRecord("maria", null);
+        assertThatThrownBy(() -> limiter.checkAndRecord("maria", null))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // Then: a mitad de ventana la estimación baja a 1.5 + 1 y se admite otro intento
+        now.addAndGet(WINDOW / 2);
+        assertThatCode(() -> limiter.checkAndRecord("maria", null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Debe liberar el contador del username tras un login exitoso")
+    void shouldResetUsernameOnSuccess() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAndRecord("maria", null);
+        }
+
+        // When
+        limiter.recordSuccess("Maria");
+
+        // Then
+        assertThatCode(() -> limiter.checkAndRecord("maria", null)).doesNotThrowAnyException();
+    }
+}
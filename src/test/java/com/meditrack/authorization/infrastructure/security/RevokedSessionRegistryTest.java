@@ -0,0 +1,94 @@
+package com.meditrack.authorization.infrastructure.security;
+
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.entity.RevokedSessionEntity;
+import com.meditrack.authorization.infrastructure.adapters.out.persistence.repository.RevokedSessionJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para RevokedSessionRegistry
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("RevokedSessionRegistry Integration Tests")
+class RevokedSessionRegistryTest {
+
+    private static final long JWT_EXPIRATION = 3600000;
+    private static final long POLL_OVERLAP = 30000;
+
+    @Autowired
+    private RevokedSessionJpaRepository repository;
+
+    private RevokedSessionRegistry nodeA;
+    private RevokedSessionRegistry nodeB;
+    private UUID userId;
+    private Date issuedBefore;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new RevokedSessionRegistry(repository, JWT_EXPIRATION, POLL_OVERLAP);
+        nodeB = new RevokedSessionRegistry(repository, JWT_EXPIRATION, POLL_OVERLAP);
+        nodeA.refresh();
+        nodeB.refresh();
+        userId = UUID.randomUUID();
+        issuedBefore = new Date(System.currentTimeMillis() - 60000);
+    }
+
+    @Test
+    @DisplayName("Una revocación en un nodo debe rechazar el token en los demás tras el sondeo")
+    void shouldPropagateRevocationToOtherNodes() {
+        // Given
+        nodeA.revoke(userId);
+        assertThat(nodeA.isRevoked(userId, issuedBefore)).isTrue();
+        assertThat(nodeB.isRevoked(userId, issuedBefore)).isFalse();
+
+        // When
+        nodeB.refresh();
+
+        // Then
+        assertThat(nodeB.isRevoked(userId, issuedBefore)).isTrue();
+        assertThat(nodeB.isRevoked(userId, new Date(System.currentTimeMillis() + 60000))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Una revocación debe sobrevivir al reinicio del nodo")
+    void shouldLoadRevocationsOnStartup() {
+        // Given
+        nodeA.revoke(userId);
+
+        // When: un nodo recién arrancado, sin sondeo previo
+        RevokedSessionRegistry restarted = new RevokedSessionRegistry(repository, JWT_EXPIRATION, POLL_OVERLAP);
+
+        // Then
+        assertThat(restarted.isRevoked(userId, issuedBefore)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe purgar solo las revocaciones más antiguas que la vida de un token")
+    void shouldPurgeOnlyExpiredRevocations() {
+        // Given
+        UUID expiredUserId = UUID.randomUUID();
+        repository.save(new RevokedSessionEntity(expiredUserId, LocalDateTime.now().minusHours(2)));
+        nodeA.revoke(userId);
+
+        // When
+        int purged = nodeA.purge();
+
+        // Then
+        assertThat(purged).isEqualTo(1);
+        assertThat(repository.existsById(expiredUserId)).isFalse();
+        assertThat(repository.existsById(userId)).isTrue();
+    }
+}
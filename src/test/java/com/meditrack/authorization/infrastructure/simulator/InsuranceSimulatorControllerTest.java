@@ -0,0 +1,77 @@
+package com.meditrack.authorization.infrastructure.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests del simulador embebido del servicio de seguros
+ */
+@DisplayName("InsuranceSimulatorController Tests")
+class InsuranceSimulatorControllerTest {
+
+    private static final String REQUEST = """
+            {"patientDocumentNumber":"1000111222","affiliationType":"CONTRIBUTIVO",
+             "serviceType":"CONSULTA","estimatedCost":100000}
+            """;
+
+    private InsuranceSimulatorController controller;
+
+    @AfterEach
+    void tearDown() {
+        controller.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe responder con el contrato del servicio de seguros")
+    void shouldAnswerWithInsuranceContract() throws Exception {
+        // Given
+        MockMvc mockMvc = simulator(0.0);
+
+        // When
+        MvcResult pending = mockMvc.perform(post("/api/insurance/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        pending.getAsyncResult(2000);
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(true))
+                .andExpect(jsonPath("$.coveragePercentage").value(80))
+                .andExpect(jsonPath("$.coveredAmount").value(80000.0));
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 según la tasa de errores configurada")
+    void shouldFailWithConfiguredErrorRate() throws Exception {
+        // Given
+        MockMvc mockMvc = simulator(1.0);
+
+        // When / Then
+        mockMvc.perform(post("/api/insurance/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    private MockMvc simulator(double errorRate) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        controller = new InsuranceSimulatorController(
+                objectMapper, 42, 1, 0, 0, errorRate, 503, 0, 30000, 0, 1, 0, new BigDecimal("20000000"));
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+}